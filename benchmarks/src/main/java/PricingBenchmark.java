@@ -0,0 +1,79 @@
+import java.util.Random;
+
+/**
+ *  <p>The class {@code PricingBenchmark} solves the same problems with each
+ *  {@code PricingRule} and reports the number of iterations and the time taken,
+ *  so that a rule can be chosen for each family of problems.</p>
+ *  <p>Run it with <i>java -cp benchmarks/target/benchmarks.jar PricingBenchmark [size]</i>.</p>
+ */
+
+public class PricingBenchmark {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+
+        System.out.printf("%-24s%-20s%12s%14s\n", "Problem", "Rule", "Iterations", "Time (ms)");
+        run("Klee-Minty cube (12)", kleeMinty(12));
+        run("Random dense (" + size + ")", randomDense(size, size * 2, 1));
+        run("Random sparse (" + size + ")", randomSparse(size, size * 2, 0.05, 2));
+    }  //  end of main
+
+    private static void run(String name, LinearProgram program) {
+        PricingRule[] rules = {new DantzigPricing(), new PartialPricing(), new DevexPricing(), new SteepestEdgePricing()};
+        for (PricingRule rule : rules) {
+            //  solve twice and report the second solve, once the solver has been compiled
+            Solution solution = null;
+            for (int run = 0; run < 2; run++) {
+                Simplex simplex = program.toSimplex();
+                simplex.pricingRule = rule;
+                simplex.prepareSimpex();
+                solution = simplex.solve();
+            }
+            System.out.printf("%-24s%-20s%12d%14.2f    P = %.4f\n", name, rule.getClass().getSimpleName(),
+                    solution.iterations, solution.solveTime / 1e6, solution.objectiveValue);
+        }
+    }  //  end of run()
+
+    /**
+     *  @return a Klee-Minty cube, on which the most negative coefficient rule
+     *  visits every one of the <i>2<sup>n</sup></i> vertices
+     */
+    static LinearProgram kleeMinty(int n) {
+        LinearProgram program = new LinearProgram(n, n, 1);
+        for (int j = 0; j < n; j++) {
+            program.objective[j] = Math.pow(2, n - j - 1);
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < i; j++) {
+                program.constraints[i][j] = Math.pow(2, i - j + 1);
+            }
+            program.constraints[i][i] = 1;
+            program.symbols[i] = "<";
+            program.rightHandSides[i] = Math.pow(5, i + 1);
+        }
+        return program;
+    }  //  end of kleeMinty()
+
+    static LinearProgram randomDense(int constraintNumber, int variableNumber, long seed) {
+        return randomSparse(constraintNumber, variableNumber, 1, seed);
+    }
+
+    static LinearProgram randomSparse(int constraintNumber, int variableNumber, double density, long seed) {
+        Random random = new Random(seed);
+        LinearProgram program = new LinearProgram(constraintNumber, variableNumber, 1);
+        for (int j = 0; j < variableNumber; j++) {
+            program.objective[j] = 1 + random.nextInt(20);
+        }
+        for (int i = 0; i < constraintNumber; i++) {
+            for (int j = 0; j < variableNumber; j++) {
+                if (random.nextDouble() < density) {
+                    program.constraints[i][j] = 1 + random.nextInt(9);
+                }
+            }
+            program.symbols[i] = "<";
+            program.rightHandSides[i] = 100 + random.nextInt(900);
+        }
+        return program;
+    }  //  end of randomSparse()
+
+}  //  end of class
@@ -0,0 +1,133 @@
+import java.util.Random;
+
+/**
+ *  <p>The enum {@code ProblemFamily} lists the families of problems the benchmarks
+ *  are run on. Each family makes a problem of any size from a seed, so that runs
+ *  on different machines or versions solve the same problems.</p>
+ */
+
+public enum ProblemFamily {
+
+    /**
+     *  <i>m</i> random <i>&lt;</i> constraints on <i>2m</i> variables, with every coefficient set
+     */
+    RANDOM_DENSE(50, 100, 200) {
+        @Override
+        LinearProgram generate(int size, long seed) {
+            return PricingBenchmark.randomDense(size, size * 2, seed);
+        }
+    },
+
+    /**
+     *  <i>m</i> random constraints on <i>2m</i> variables with 5% of the coefficients
+     *  set and a quarter of <i>&gt;</i> constraints
+     */
+    RANDOM_SPARSE(100, 200, 400) {
+        @Override
+        LinearProgram generate(int size, long seed) {
+            return ScalingBenchmark.randomMixed(size, size * 2, 0.05, seed);
+        }
+    },
+
+    /**
+     *  The Klee-Minty cube of <i>n</i> dimensions, on which the most negative
+     *  coefficient rule takes <i>2<sup>n</sup> - 1</i> pivots
+     */
+    KLEE_MINTY(6, 8, 10) {
+        @Override
+        LinearProgram generate(int size, long seed) {
+            return PricingBenchmark.kleeMinty(size);
+        }
+    },
+
+    /**
+     *  Shipping from <i>n</i> sources to <i>n</i> destinations at least cost, with random
+     *  costs, supplies and demands
+     */
+    TRANSPORTATION(10, 20, 40) {
+        @Override
+        LinearProgram generate(int size, long seed) {
+            Random random = new Random(seed);
+            LinearProgram program = new LinearProgram(size * 2, size * size, 2);
+            int[] demands = new int[size];
+            int totalDemand = 0;
+            for (int j = 0; j < size; j++) {
+                demands[j] = 10 + random.nextInt(90);
+                totalDemand += demands[j];
+            }
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    int variable = i * size + j;
+                    program.objective[variable] = 1 + random.nextInt(20);
+                    program.constraints[i][variable] = 1;
+                    program.constraints[size + j][variable] = 1;
+                }
+                //  the supplies add up to a little more than the demands
+                program.symbols[i] = "<";
+                program.rightHandSides[i] = Math.ceil(1.1 * totalDemand / size);
+                program.symbols[size + i] = ">";
+                program.rightHandSides[size + i] = demands[i];
+            }
+            return program;
+        }
+    },
+
+    /**
+     *  Assigning <i>n</i> workers to <i>n</i> jobs at least cost, with costs of only
+     *  <i>1</i>, <i>2</i> or <i>3</i>. Every basic solution has <i>n - 1</i> basic
+     *  variables at <i>0</i> and many share the optimum value, so most pivots are degenerate
+     */
+    ASSIGNMENT(10, 20, 30) {
+        @Override
+        LinearProgram generate(int size, long seed) {
+            Random random = new Random(seed);
+            LinearProgram program = new LinearProgram(size * 2, size * size, 2);
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    int variable = i * size + j;
+                    program.objective[variable] = 1 + random.nextInt(3);
+                    program.constraints[i][variable] = 1;
+                    program.constraints[size + j][variable] = 1;
+                }
+                program.symbols[i] = "=";
+                program.rightHandSides[i] = 1;
+                program.symbols[size + i] = "=";
+                program.rightHandSides[size + i] = 1;
+            }
+            return program;
+        }
+    };
+
+    /**
+     *  The sizes used for the {@code SMALL}, {@code MEDIUM} and {@code LARGE} benchmarks
+     */
+    final int[] sizes;
+
+    ProblemFamily(int... sizes) {
+        this.sizes = sizes;
+    }  //  end of constructor
+
+    /**
+     *  @param size is the number of constraints of the random families, the number of
+     *  dimensions of the cube, or the number of sources, destinations, workers and jobs
+     *  @param seed chooses the random values
+     */
+    abstract LinearProgram generate(int size, long seed);
+
+    /**
+     *  @param scale is {@code SMALL}, {@code MEDIUM} or {@code LARGE}
+     */
+    int getSize(String scale) {
+        switch (scale.toUpperCase()) {
+            case "SMALL":
+                return sizes[0];
+            case "MEDIUM":
+                return sizes[1];
+            case "LARGE":
+                return sizes[2];
+            default:
+                return Integer.parseInt(scale);
+        }
+    }  //  end of getSize()
+
+}  //  end of enum
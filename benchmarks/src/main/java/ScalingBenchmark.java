@@ -0,0 +1,116 @@
+import java.util.Random;
+
+/**
+ *  <p>The class {@code ScalingBenchmark} solves badly scaled problems with each
+ *  {@code ScalingMethod} and reports the number of iterations, the time taken,
+ *  the error in the value of <i>P</i> and the largest violation of a constraint.</p>
+ *  <p>Each problem is a random problem whose constraints and variables have been
+ *  multiplied by factors from <i>1e-4</i> to <i>1e6</i>. The multiplied problem has
+ *  the same optimum value as the original one, which is solved first to give the
+ *  value the others are compared with.</p>
+ *  <p>Run it with <i>java -cp benchmarks/target/benchmarks.jar ScalingBenchmark [size]</i>.</p>
+ */
+
+public class ScalingBenchmark {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 150;
+
+        System.out.printf("%-24s%-10s%-16s%12s%14s%14s%14s\n", "Problem", "Engine", "Scaling", "Iterations",
+                "Time (ms)", "Error in P", "Violation");
+        run("Badly scaled dense", size, 1, 1);
+        run("Badly scaled sparse", size, 0.05, 2);
+    }  //  end of main
+
+    private static void run(String name, int size, double density, long seed) {
+        LinearProgram original = randomMixed(size, size * 2, density, seed);
+        double optimum = Engine.REVISED.solve(original).objectiveValue;
+        LinearProgram program = scaleBadly(original, seed);
+
+        for (Engine engine : new Engine[] {Engine.TABLEAU, Engine.REVISED}) {
+            for (ScalingMethod method : ScalingMethod.values()) {
+                SolverOptions options = new SolverOptions();
+                options.scaling = method;
+                //  solve twice and report the second solve, once the solver has been compiled
+                Solution solution = null;
+                for (int run = 0; run < 2; run++) {
+                    solution = engine.solve(program, options);
+                }
+                System.out.printf("%-24s%-10s%-16s%12d%14.2f%14.2e%14.2e    %s\n", name, engine, method,
+                        solution.iterations, solution.solveTime / 1e6,
+                        Math.abs(solution.objectiveValue - optimum) / Math.max(1, Math.abs(optimum)),
+                        getViolation(program, solution.variableValues), solution.status);
+            }
+        }
+    }  //  end of run()
+
+    /**
+     *  @return a random problem with <i>&lt;</i> constraints and a quarter of
+     *  <i>&gt;</i> constraints, which has a bounded optimum
+     */
+    static LinearProgram randomMixed(int constraintNumber, int variableNumber, double density, long seed) {
+        LinearProgram program = PricingBenchmark.randomSparse(constraintNumber, variableNumber, density, seed);
+        for (int i = 0; i < constraintNumber; i += 4) {
+            program.symbols[i] = ">";
+            program.rightHandSides[i] = 1 + i % 10;
+        }
+        //  limit every variable by one of the < constraints 1, 5, 9, ..., so that the problem is bounded
+        for (int j = 0; j < variableNumber; j++) {
+            program.constraints[1 + 4 * (j % ((constraintNumber + 2) / 4))][j] += 1;
+        }
+        return program;
+    }  //  end of randomMixed()
+
+    /**
+     *  @return a copy of {@code program} with each constraint and each variable
+     *  multiplied by a random power of <i>10</i>
+     */
+    static LinearProgram scaleBadly(LinearProgram program, long seed) {
+        Random random = new Random(seed);
+        double[] rowFactors = new double[program.constraintNumber];
+        double[] columnFactors = new double[program.variableNumber];
+        for (int i = 0; i < rowFactors.length; i++) {
+            rowFactors[i] = Math.pow(10, random.nextInt(11) - 4);
+        }
+        for (int j = 0; j < columnFactors.length; j++) {
+            columnFactors[j] = Math.pow(10, random.nextInt(7) - 3);
+        }
+
+        LinearProgram scaled = new LinearProgram(program.constraintNumber, program.variableNumber,
+                program.optimisationType);
+        for (int j = 0; j < program.variableNumber; j++) {
+            scaled.objective[j] = program.objective[j] * columnFactors[j];
+        }
+        for (int i = 0; i < program.constraintNumber; i++) {
+            for (int j = 0; j < program.variableNumber; j++) {
+                scaled.constraints[i][j] = program.constraints[i][j] * rowFactors[i] * columnFactors[j];
+            }
+            scaled.symbols[i] = program.symbols[i];
+            scaled.rightHandSides[i] = program.rightHandSides[i] * rowFactors[i];
+        }
+        return scaled;
+    }  //  end of scaleBadly()
+
+    /**
+     *  @return the largest violation of a constraint, relative to its solution
+     */
+    static double getViolation(LinearProgram program, double[] variableValues) {
+        double violation = 0;
+        for (int i = 0; i < program.constraintNumber; i++) {
+            double value = 0;
+            for (int j = 0; j < program.variableNumber; j++) {
+                value += program.constraints[i][j] * variableValues[j];
+            }
+            double difference = value - program.rightHandSides[i];
+            if (program.symbols[i].equals(">")) {
+                difference = -difference;
+            }
+            else if (program.symbols[i].equals("=")) {
+                difference = Math.abs(difference);
+            }
+            violation = Math.max(violation, difference / Math.max(1, Math.abs(program.rightHandSides[i])));
+        }
+        return violation;
+    }  //  end of getViolation()
+
+}  //  end of class
@@ -0,0 +1,48 @@
+import java.util.function.IntSupplier;
+
+/**
+ *  <p>The class {@code SolveWorkload} solves one generated problem with one
+ *  {@code Engine} each time it is called, and returns the number of iterations.</p>
+ *  <p>JMH only runs benchmarks in a named package, which cannot refer to the classes
+ *  of the solver in the unnamed package, so {@code benchmarks.SolverBenchmark} creates
+ *  a workload by name and calls it through {@code IntSupplier}.</p>
+ */
+
+public class SolveWorkload implements IntSupplier {
+
+    private final LinearProgram program;
+    private final Engine engine;
+    private final SolverOptions options = new SolverOptions();
+
+    /**
+     *  Generates the problem and solves it once, to check that it has an optimum.
+     *
+     *  @param family is the name of a {@code ProblemFamily}
+     *  @param scale is {@code SMALL}, {@code MEDIUM}, {@code LARGE} or a size
+     *  @param engine is the name of an {@code Engine}
+     *  @throws IllegalStateException if the problem does not have an optimum
+     */
+    public SolveWorkload(String family, String scale, String engine) {
+        ProblemFamily problemFamily = ProblemFamily.valueOf(family.toUpperCase());
+        this.program = problemFamily.generate(problemFamily.getSize(scale), 42);
+        this.engine = Engine.valueOf(engine.toUpperCase());
+        Solution solution = this.engine.solve(program, options);
+        if (solution.status != SolutionStatus.OPTIMAL) {
+            throw new IllegalStateException(family + " " + scale + " with " + engine + " is " + solution.status);
+        }
+    }  //  end of constructor
+
+    @Override
+    public int getAsInt() {
+        return engine.solve(program, options).iterations;
+    }
+
+    /**
+     *  @return the size of the problem as constraints by variables
+     */
+    @Override
+    public String toString() {
+        return program.constraintNumber + " x " + program.variableNumber;
+    }
+
+}  //  end of class
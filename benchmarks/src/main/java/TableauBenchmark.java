@@ -0,0 +1,76 @@
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ *  <p>The class {@code TableauBenchmark} compares the time taken to pivot
+ *  random dense tableaus with an {@code ArrayTableau}, which uses the original
+ *  pivot code, and with a {@code FlatTableau} using the scalar and vector kernels
+ *  and the parallel row reduction.</p>
+ *  <p>Run it with <i>java --add-modules jdk.incubator.vector -cp benchmarks/target/benchmarks.jar TableauBenchmark [rows] [columns] [pivots]</i>.</p>
+ */
+
+public class TableauBenchmark {
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int columns = args.length > 1 ? Integer.parseInt(args[1]) : 3000;
+        int pivots = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+        double[][] coefficients = randomCoefficients(rows, columns, 42);
+
+        System.out.printf("%d x %d tableau, %d pivots per run\n", rows, columns, pivots);
+        System.out.printf("Vector kernel available: %s\n\n", PivotKernel.create() instanceof VectorPivotKernel);
+
+        //  each backend is run a few times before it is timed so that it has been compiled
+        long arrayTime = time(() -> new ArrayTableau(copy(coefficients)), pivots);
+        long scalarTime = time(() -> new FlatTableau(coefficients, new ScalarPivotKernel()), pivots);
+        long vectorTime = time(() -> new FlatTableau(coefficients), pivots);
+        long parallelTime = time(() -> {
+            FlatTableau tableau = new FlatTableau(coefficients);
+            tableau.pool = ForkJoinPool.commonPool();
+            tableau.parallelThreshold = 0;
+            return tableau;
+        }, pivots);
+
+        System.out.printf("%-30s%12.2f ms\n", "ArrayTableau (original):", arrayTime / 1e6);
+        System.out.printf("%-30s%12.2f ms%10.2fx\n", "FlatTableau (scalar):", scalarTime / 1e6, (double) arrayTime / scalarTime);
+        System.out.printf("%-30s%12.2f ms%10.2fx\n", "FlatTableau (kernel):", vectorTime / 1e6, (double) arrayTime / vectorTime);
+        System.out.printf("%-30s%12.2f ms%10.2fx\n", "FlatTableau (parallel, " + ForkJoinPool.getCommonPoolParallelism() + "):",
+                parallelTime / 1e6, (double) arrayTime / parallelTime);
+    }  //  end of main
+
+    /**
+     *  @return the best time in nanoseconds taken to carry out {@code pivots} pivots
+     */
+    private static long time(java.util.function.Supplier<Tableau> factory, int pivots) {
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < 30; run++) {
+            Tableau tableau = factory.get();
+            long start = System.nanoTime();
+            for (int i = 0; i < pivots; i++) {
+                tableau.pivot(1 + (i % (tableau.rowSize() - 1)), i % (tableau.colSize() - 1));
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }  //  end of time()
+
+    static double[][] randomCoefficients(int rows, int columns, long seed) {
+        Random random = new Random(seed);
+        double[][] coefficients = new double[rows][columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                coefficients[i][j] = 1 + random.nextDouble() * 9;
+            }
+        }
+        return coefficients;
+    }  //  end of randomCoefficients()
+
+    private static double[][] copy(double[][] coefficients) {
+        double[][] copy = new double[coefficients.length][];
+        for (int i = 0; i < coefficients.length; i++) {
+            copy[i] = coefficients[i].clone();
+        }
+        return copy;
+    }  //  end of copy()
+
+}  //  end of class
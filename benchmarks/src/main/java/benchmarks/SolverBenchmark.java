@@ -0,0 +1,131 @@
+package benchmarks;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ *  <p>The class {@code SolverBenchmark} times a whole solve of each generated
+ *  problem family, at each scale, with each engine.</p>
+ *  <p>Every pivot is also counted as an operation, so JMH reports the time per
+ *  pivot next to the time per solve, and {@code main} adds the allocation rate
+ *  from the GC profiler and prints one line per benchmark. Run it with
+ *  <i>java -jar benchmarks/target/benchmarks.jar [JMH options]</i>, for example
+ *  <i>-p family=KLEE_MINTY -p engine=TABLEAU,REVISED,SPARSE</i>.</p>
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class SolverBenchmark {
+
+    @Param({"RANDOM_DENSE", "RANDOM_SPARSE", "KLEE_MINTY", "TRANSPORTATION", "ASSIGNMENT"})
+    public String family;
+
+    /**
+     *  {@code SMALL}, {@code MEDIUM}, {@code LARGE} or a size for the family
+     */
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public String scale;
+
+    @Param({"TABLEAU", "REVISED"})
+    public String engine;
+
+    private IntSupplier workload;
+
+    /**
+     *  <p>The class {@code Pivots} counts the pivots of every solve in a measurement.</p>
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Pivots {
+
+        public long pivots;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            pivots = 0;
+        }
+
+    }  //  end of class Pivots
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        workload = createWorkload(family, scale, engine);
+    }
+
+    @Benchmark
+    public int solve(Pivots counter) {
+        int iterations = workload.getAsInt();
+        counter.pivots += iterations;
+        return iterations;
+    }
+
+    /**
+     *  @return a {@code SolveWorkload}, which is in the unnamed package and so can only be named at run time
+     */
+    static IntSupplier createWorkload(String family, String scale, String engine) throws ReflectiveOperationException {
+        return (IntSupplier) Class.forName("SolveWorkload").getConstructor(String.class, String.class, String.class)
+                .newInstance(family, scale, engine);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(SolverBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        System.out.printf("%n%-16s%-8s%-12s%-10s%12s%14s%16s%14s%16s%n", "Family", "Scale", "Size", "Engine",
+                "Iterations", "Time (ms)", "Per pivot (us)", "Alloc (MB/s)", "Alloc (KB/op)");
+        for (RunResult result : results) {
+            String family = result.getParams().getParam("family");
+            String scale = result.getParams().getParam("scale");
+            String engine = result.getParams().getParam("engine");
+            double time = result.getPrimaryResult().getScore();
+            double pivotTime = getScore(result, "pivots");
+            System.out.printf("%-16s%-8s%-12s%-10s%12.0f%14.3f%16.3f%14.1f%16.1f%n", family, scale,
+                    createWorkload(family, scale, engine), engine, time / pivotTime, time, pivotTime * 1000,
+                    getScore(result, "gc.alloc.rate"), getScore(result, "gc.alloc.rate.norm") / 1024);
+        }
+    }  //  end of main
+
+    /**
+     *  @return the score of the secondary result whose label ends with {@code label},
+     *  or {@code NaN} if there is none
+     */
+    private static double getScore(RunResult runResult, String label) {
+        for (Result<?> result : runResult.getSecondaryResults().values()) {
+            if (result.getLabel().endsWith(label)) {
+                return result.getScore();
+            }
+        }
+        return Double.NaN;
+    }  //  end of getScore()
+
+}  //  end of class
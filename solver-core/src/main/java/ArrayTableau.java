@@ -0,0 +1,71 @@
+/**
+ *  <p>The class {@code ArrayTableau} stores the tableau directly in the
+ *  2-dimensional {@code coefficients} array of a {@code Simplex} object.</p>
+ *  <p>Its pivot is the original scalar Gaussian reduction and it is kept
+ *  as the reference that other tableau backends are compared against.</p>
+ */
+
+public class ArrayTableau implements Tableau {
+
+    double[][] coefficients;
+
+    /**
+     *  Creates an {@code ArrayTableau} that works on the given array
+     *  without copying it.
+     *
+     *  @param coefficients is the array holding the tableau
+     */
+    public ArrayTableau(double[][] coefficients) {
+        this.coefficients = coefficients;
+    }  //  end of constructor
+
+    @Override
+    public int rowSize() {
+        return coefficients.length;
+    }
+
+    @Override
+    public int colSize() {
+        return coefficients[0].length;
+    }
+
+    @Override
+    public double get(int row, int column) {
+        return coefficients[row][column];
+    }
+
+    @Override
+    public void set(int row, int column, double value) {
+        coefficients[row][column] = value;
+    }
+
+    @Override
+    public void pivot(int keyRow, int keyColumn) {
+        int colSize = colSize();
+        double pivot = coefficients[keyRow][keyColumn];
+
+        //  perform Gaussian reduction
+        for (int i = 0; i < colSize; i++) {
+            coefficients[keyRow][i] /= pivot;
+        }
+        for (int i = 0; i < coefficients.length; i++) {
+            final double rowPivot = coefficients[i][keyColumn];
+            for (int j = 0; j < colSize; j++) {
+                if (i != keyRow) {
+                    coefficients[i][j] -= (rowPivot * coefficients[keyRow][j]);
+                }
+            }
+        }
+    }  //  end of pivot()
+
+    @Override
+    public void copyTo(double[][] coefficients) {
+        if (coefficients == this.coefficients) {
+            return;
+        }
+        for (int i = 0; i < this.coefficients.length; i++) {
+            System.arraycopy(this.coefficients[i], 0, coefficients[i], 0, colSize());
+        }
+    }  //  end of copyTo()
+
+}  //  end of class
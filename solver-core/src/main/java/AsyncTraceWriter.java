@@ -0,0 +1,121 @@
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ *  <p>The class {@code AsyncTraceWriter} is a {@code SimplexOutput} that writes
+ *  to another {@code SimplexOutput} on its own thread, so that slow output never
+ *  holds up the solve.</p>
+ *  <p>Messages wait in a queue of fixed size. When the queue is full a message
+ *  is dropped rather than waiting for room, and the number dropped is written
+ *  when the writer is closed. Messages may be given as a {@code Supplier}, so
+ *  that formatting them is also done on the writing thread, and
+ *  {@code dropIfFull()} lets a message that is costly to prepare be dropped
+ *  before it is prepared.</p>
+ */
+
+public class AsyncTraceWriter implements SimplexOutput, AutoCloseable {
+
+    private static final Supplier<String> END = () -> null;
+
+    private final SimplexOutput target;
+    private final BlockingQueue<Supplier<String>> queue;
+    private final Thread writer;
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     *  Creates a writer and starts its thread.
+     *
+     *  @param target receives the messages on the writing thread
+     *  @param capacity is the number of messages that may wait to be written
+     */
+    public AsyncTraceWriter(SimplexOutput target, int capacity) {
+        this.target = target;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writer = new Thread(this::write, "simplex-trace");
+        writer.setDaemon(true);
+        writer.start();
+    }  //  end of constructor
+
+    @Override
+    public void print(String text) {
+        submit(() -> text);
+    }
+
+    /**
+     *  Queues a message without waiting.
+     *
+     *  @param message creates the text on the writing thread
+     *  @return {@code false} if the queue was full and the message was dropped
+     */
+    public boolean submit(Supplier<String> message) {
+        if (!queue.offer(message)) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        return true;
+    }  //  end of submit()
+
+    /**
+     *  Drops a message before it is prepared if the queue is full. With a single
+     *  thread submitting, a message submitted after this returned {@code false}
+     *  is not dropped, as the queue can only have emptied in between.
+     *
+     *  @return {@code true} if the queue was full and the message was counted as dropped
+     */
+    public boolean dropIfFull() {
+        if (queue.remainingCapacity() == 0) {
+            dropped.incrementAndGet();
+            return true;
+        }
+        return false;
+    }  //  end of dropIfFull()
+
+    private void write() {
+        try {
+            while (true) {
+                Supplier<String> message = queue.take();
+                if (message == END) {
+                    return;
+                }
+                target.print(message.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }  //  end of write()
+
+    /**
+     *  @return the number of messages dropped because the queue was full
+     */
+    public long getDroppedNumber() {
+        return dropped.get();
+    }
+
+    @Override
+    public int columnWidth() {
+        return target.columnWidth();
+    }
+
+    /**
+     *  Waits for the queued messages to be written and stops the thread. If the
+     *  calling thread is interrupted while waiting, the writing thread is stopped
+     *  without writing the messages still queued, and the interrupt is kept.
+     */
+    @Override
+    public void close() {
+        try {
+            queue.put(END);
+            writer.join();
+        } catch (InterruptedException e) {
+            writer.interrupt();
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (dropped.get() > 0) {
+            target.print(String.format("\n%d trace message(s) were dropped\n", dropped.get()));
+        }
+    }  //  end of close()
+
+}  //  end of class
@@ -0,0 +1,66 @@
+import java.util.Arrays;
+
+/**
+ *  <p>The class {@code Basis} records which variables and which constraints were
+ *  basic at the end of a solve, so that a later solve of a changed problem can
+ *  start from it instead of from the slack variables.</p>
+ *  <p>A constraint is basic when its slack or surplus variable, or for an
+ *  <i>=</i> constraint its artificial variable, is basic. This does not depend
+ *  on the sign of the solution of the constraint, so a basis stays valid when
+ *  solutions change sign. Constraints added after the last recorded one are
+ *  taken to be basic and variables added after the last one to be non-basic.</p>
+ */
+
+public class Basis {
+
+    /**
+     *  The {@code boolean} values are <i>true</i> for each basic variable
+     */
+    final boolean[] basicVariables;
+
+    /**
+     *  The {@code boolean} values are <i>true</i> for each constraint whose slack,
+     *  surplus or artificial variable is basic
+     */
+    final boolean[] basicRows;
+
+    /**
+     *  Creates the basis of the slack, surplus and artificial variables,
+     *  where every constraint is basic and no variable is.
+     */
+    public Basis(int constraintNumber, int variableNumber) {
+        this.basicVariables = new boolean[variableNumber];
+        this.basicRows = new boolean[constraintNumber];
+        Arrays.fill(basicRows, true);
+    }  //  end of constructor
+
+    public Basis(boolean[] basicVariables, boolean[] basicRows) {
+        this.basicVariables = basicVariables;
+        this.basicRows = basicRows;
+    }  //  end of constructor
+
+    public boolean isBasicVariable(int variable) {
+        return variable < basicVariables.length && basicVariables[variable];
+    }
+
+    public boolean isBasicRow(int constraint) {
+        return constraint >= basicRows.length || basicRows[constraint];
+    }
+
+    /**
+     *  @return the number of basic variables and constraints for a problem
+     *  of the given size, which must be {@code constraintNumber} for the basis
+     *  to be used
+     */
+    int basicNumber(int constraintNumber, int variableNumber) {
+        int count = 0;
+        for (int j = 0; j < variableNumber; j++) {
+            count += isBasicVariable(j) ? 1 : 0;
+        }
+        for (int i = 0; i < constraintNumber; i++) {
+            count += isBasicRow(i) ? 1 : 0;
+        }
+        return count;
+    }  //  end of basicNumber()
+
+}  //  end of class
@@ -0,0 +1,166 @@
+/**
+ *  <p>The class {@code BasisFactorization} holds a factorisation of the
+ *  basis matrix used by {@code RevisedSimplex}, so that systems with the
+ *  basis can be solved without forming its inverse.</p>
+ *  <p>A change of basis is recorded as an eta matrix in product form
+ *  rather than refactorising. After {@code refactorizationInterval} changes
+ *  {@code needsRefactorization()} returns <i>true</i> and the basis should be
+ *  factorised again to limit the growth of the eta file and rounding errors.</p>
+ *  <p>Subclasses provide the factorisation itself.</p>
+ */
+
+public abstract class BasisFactorization {
+
+    int size;
+
+    /**
+     *  The {@code int} is the number of basis changes after which
+     *  the basis should be factorised again
+     */
+    int refactorizationInterval;
+
+    /**
+     *  Eta matrix <i>k</i> replaces column {@code etaRows[k]} of the identity with the entering
+     *  column, whose coefficients that are not <i>0</i> are stored in {@code etaIndices[k]}
+     *  and {@code etaValues[k]}. {@code etaPivots[k]} is its coefficient in row {@code etaRows[k]}
+     */
+    int[] etaRows;
+    double[] etaPivots;
+    int[][] etaIndices;
+    double[][] etaValues;
+    int etaNumber;
+
+    /**
+     *  The {@code int} is the number of times the basis has been factorised
+     */
+    int factorizations;
+
+    public BasisFactorization(int size, int refactorizationInterval) {
+        this.size = size;
+        this.refactorizationInterval = refactorizationInterval;
+        this.etaRows = new int[refactorizationInterval];
+        this.etaPivots = new double[refactorizationInterval];
+        this.etaIndices = new int[refactorizationInterval][];
+        this.etaValues = new double[refactorizationInterval][];
+    }  //  end of constructor
+
+    /**
+     *  Factorises the basis and clears the eta file.
+     *
+     *  @param basis holds column <i>k</i> of the basis as column <i>k</i>
+     *  @throws ArithmeticException if the basis is singular
+     */
+    public void factorize(SparseMatrix basis) {
+        decompose(basis);
+        etaNumber = 0;
+        factorizations++;
+    }  //  end of factorize()
+
+    /**
+     *  Factorises the basis.
+     *
+     *  @throws ArithmeticException if the basis is singular
+     */
+    abstract void decompose(SparseMatrix basis);
+
+    /**
+     *  Solves <i>B x = a</i> with the factorised basis, replacing {@code a} with <i>x</i>.
+     */
+    abstract void solve(double[] a);
+
+    /**
+     *  Solves <i>y B = c</i> with the factorised basis, replacing {@code c} with <i>y</i>.
+     */
+    abstract void solveTransposed(double[] c);
+
+    /**
+     *  Solves <i>B x = a</i> with the current basis, replacing {@code a} with <i>x</i>.
+     */
+    public void ftran(double[] a) {
+        solve(a);
+
+        //  apply the eta matrices in the order they were added
+        for (int k = 0; k < etaNumber; k++) {
+            int r = etaRows[k];
+            double xr = a[r] / etaPivots[k];
+            if (xr != 0) {
+                int[] indices = etaIndices[k];
+                double[] values = etaValues[k];
+                for (int p = 0; p < indices.length; p++) {
+                    a[indices[p]] -= values[p] * xr;
+                }
+            }
+            a[r] = xr;
+        }
+    }  //  end of ftran()
+
+    /**
+     *  Solves <i>y B = c</i> with the current basis, replacing {@code c} with <i>y</i>.
+     */
+    public void btran(double[] c) {
+        //  apply the eta matrices in reverse order
+        for (int k = etaNumber - 1; k >= 0; k--) {
+            int r = etaRows[k];
+            int[] indices = etaIndices[k];
+            double[] values = etaValues[k];
+            double sum = c[r];
+            for (int p = 0; p < indices.length; p++) {
+                if (indices[p] != r) {
+                    sum -= c[indices[p]] * values[p];
+                }
+            }
+            c[r] = sum / etaPivots[k];
+        }
+
+        solveTransposed(c);
+    }  //  end of btran()
+
+    /**
+     *  Records that the basic variable of {@code row} has been replaced.
+     *
+     *  @param row is the row of the leaving variable
+     *  @param enteringColumn is the entering column after {@code ftran()}
+     */
+    public void update(int row, double[] enteringColumn) {
+        int[] nonZeroRows = new int[size];
+        int nonZeroNumber = 0;
+        for (int i = 0; i < size; i++) {
+            if (enteringColumn[i] != 0) {
+                nonZeroRows[nonZeroNumber++] = i;
+            }
+        }
+        update(row, enteringColumn, nonZeroRows, nonZeroNumber);
+    }  //  end of update()
+
+    /**
+     *  Records that the basic variable of {@code row} has been replaced, visiting
+     *  only the coefficients of the entering column that are not <i>0</i>.
+     *
+     *  @param row is the row of the leaving variable
+     *  @param enteringColumn is the entering column after {@code ftran()}
+     *  @param nonZeroRows holds the rows where {@code enteringColumn} is not <i>0</i>
+     *  in its first {@code nonZeroNumber} elements
+     */
+    public void update(int row, double[] enteringColumn, int[] nonZeroRows, int nonZeroNumber) {
+        int[] indices = new int[nonZeroNumber];
+        double[] values = new double[nonZeroNumber];
+        for (int p = 0; p < nonZeroNumber; p++) {
+            indices[p] = nonZeroRows[p];
+            values[p] = enteringColumn[nonZeroRows[p]];
+        }
+
+        etaRows[etaNumber] = row;
+        etaPivots[etaNumber] = enteringColumn[row];
+        etaIndices[etaNumber] = indices;
+        etaValues[etaNumber] = values;
+        etaNumber++;
+    }  //  end of update()
+
+    /**
+     *  @return <i>true</i> if the eta file is full and the basis should be factorised again
+     */
+    public boolean needsRefactorization() {
+        return etaNumber >= refactorizationInterval;
+    }
+
+}  //  end of class
@@ -0,0 +1,322 @@
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ *  <p>The class {@code BatchSolver} solves problems read from files without
+ *  any prompts, on a pool of worker threads.</p>
+ *  <p>One result is written per problem as a line of JSON holding the status,
+ *  the value of <i>P</i>, the values of the variables, the number of iterations
+ *  and the solve time, and what presolve removed if it was used. Results are
+ *  written in the order the problems were read.</p>
+ *  <p>With <i>--metrics</i> the phases of each solve are timed and each result also
+ *  holds its {@code SolveMetrics}, and the totals of all the solves are written to
+ *  {@code System.err} at the end.</p>
+ *  <p>With <i>--cache n</i> the results of up to <i>n</i> problems are kept in a
+ *  {@code SolveCache}, so that repeated problems are solved once, and the counts of
+ *  the cache are written to {@code System.err} at the end.</p>
+ *  <p>The pricing rule chosen with <i>--pricing</i> is used by the {@code TABLEAU}
+ *  engine; the other simplex engines always use Dantzig's rule.</p>
+ *  <p>Usage: <i>java BatchSolver [--threads n] [--engine TABLEAU|REVISED|SPARSE|DUAL|INTERIOR_POINT]
+ *  [--iteration-limit n] [--time-limit ms] [--presolve]
+ *  [--scaling NONE|GEOMETRIC_MEAN|EQUILIBRATION] [--pricing DANTZIG|PARTIAL|DEVEX|STEEPEST_EDGE] [--crossover] [--metrics] [--cache n] [--output file] file-or-directory...</i></p>
+ */
+
+public class BatchSolver {
+
+    int threads = Runtime.getRuntime().availableProcessors();
+    Engine engine = Engine.TABLEAU;
+    SolverOptions options = new SolverOptions();
+    PrintStream output = System.out;
+    boolean metrics;
+
+    /**
+     *  The {@code int} is the number of results kept by {@code cache}, or <i>0</i> for no cache
+     */
+    int cacheSize;
+    SolveCache cache;
+    List<Path> inputs = new ArrayList<>();
+
+    public static void main(String[] args) {
+        BatchSolver batchSolver = new BatchSolver();
+        try {
+            batchSolver.parseArguments(args);
+            batchSolver.run();
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }  //  end of main
+
+    /**
+     *  Reads the options and the files or directories to be solved.
+     *
+     *  @throws IllegalArgumentException if an option is not valid
+     */
+    void parseArguments(String[] args) throws IOException {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--batch":
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(value(args, ++i));
+                    break;
+                case "--engine":
+                    engine = Engine.valueOf(value(args, ++i).toUpperCase());
+                    break;
+                case "--iteration-limit":
+                    options.iterationLimit = Integer.parseInt(value(args, ++i));
+                    break;
+                case "--time-limit":
+                    options.timeLimit = Long.parseLong(value(args, ++i));
+                    break;
+                case "--presolve":
+                    options.presolve = true;
+                    break;
+                case "--scaling":
+                    options.scaling = ScalingMethod.valueOf(value(args, ++i).toUpperCase());
+                    break;
+                case "--pricing":
+                    options.pricingRule = getPricingRule(value(args, ++i));
+                    break;
+                case "--crossover":
+                    options.crossover = true;
+                    break;
+                case "--metrics":
+                    metrics = true;
+                    break;
+                case "--cache":
+                    cacheSize = Integer.parseInt(value(args, ++i));
+                    break;
+                case "--output":
+                    output = new PrintStream(new FileOutputStream(value(args, ++i)), false, "UTF-8");
+                    break;
+                default:
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option " + args[i]);
+                    }
+                    inputs.add(Paths.get(args[i]));
+            }
+        }  //  end of for
+        if (inputs.isEmpty()) {
+            throw new IllegalArgumentException("Usage: java BatchSolver [--threads n] [--engine TABLEAU|REVISED|SPARSE|DUAL|INTERIOR_POINT] "
+                    + "[--iteration-limit n] [--time-limit ms] [--presolve] [--scaling NONE|GEOMETRIC_MEAN|EQUILIBRATION] "
+                    + "[--pricing DANTZIG|PARTIAL|DEVEX|STEEPEST_EDGE] [--crossover] [--metrics] [--cache n] [--output file] file-or-directory...");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("--threads must be at least 1");
+        }
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("--cache must be at least 0");
+        }
+    }  //  end of parseArguments()
+
+    /**
+     *  @return the factory of the pricing rule called {@code name}
+     *  @throws IllegalArgumentException if there is no such rule
+     */
+    static Supplier<PricingRule> getPricingRule(String name) {
+        switch (name.toUpperCase()) {
+            case "DANTZIG":
+                return DantzigPricing::new;
+            case "PARTIAL":
+                return PartialPricing::new;
+            case "DEVEX":
+                return DevexPricing::new;
+            case "STEEPEST_EDGE":
+                return SteepestEdgePricing::new;
+            default:
+                throw new IllegalArgumentException("Unknown pricing rule " + name);
+        }
+    }  //  end of getPricingRule()
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException(args[i - 1] + " needs a value");
+        }
+        return args[i];
+    }  //  end of value()
+
+    /**
+     *  Solves every problem and writes a result for each. At most a few problems
+     *  per thread are held in memory at once.
+     */
+    void run() throws IOException {
+        SolverInstrumentation instrumentation = SolverInstrumentation.getDefault();
+        if (metrics) {
+            instrumentation.setPhaseTimers(true);
+            instrumentation.reset();
+        }
+        if (cacheSize > 0) {
+            cache = new SolveCache(cacheSize, 0);
+            cache.engine = engine;
+            cache.options = options;
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        ArrayDeque<CompletableFuture<String>> pending = new ArrayDeque<>();
+        try {
+            for (Path file : listFiles()) {
+                String name = file.toString();
+                List<LinearProgram> programs;
+                try {
+                    programs = read(file);
+                } catch (IOException | IllegalArgumentException e) {
+                    pending.add(CompletableFuture.completedFuture(errorRecord(name, e.getMessage())));
+                    continue;
+                }
+
+                for (int k = 0; k < programs.size(); k++) {
+                    String problemName = programs.size() == 1 ? name : name + "#" + (k + 1);
+                    LinearProgram program = programs.get(k);
+                    pending.add(CompletableFuture.supplyAsync(() -> solve(problemName, program), pool));
+                    while (pending.size() > threads * 4) {
+                        output.println(pending.remove().join());
+                    }
+                }
+            }  //  end of for
+            while (!pending.isEmpty()) {
+                output.println(pending.remove().join());
+            }
+        } finally {
+            pool.shutdown();
+            output.flush();
+        }
+        if (metrics) {
+            System.err.println(instrumentation.snapshot());
+        }
+        if (cache != null) {
+            System.err.println("cache: " + cache);
+        }
+    }  //  end of run()
+
+    /**
+     *  @return the files named on the command line, with each directory
+     *  replaced by the regular files in it sorted by name
+     */
+    List<Path> listFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path input : inputs) {
+            if (Files.isDirectory(input)) {
+                try (Stream<Path> children = Files.list(input)) {
+                    files.addAll(children.filter(Files::isRegularFile).sorted().collect(Collectors.toList()));
+                }
+            }
+            else {
+                files.add(input);
+            }
+        }
+        return files;
+    }  //  end of listFiles()
+
+    /**
+     *  Reads the problems in a file, choosing the reader from its extension:
+     *  <i>.mps</i> files are read by {@code MpsReader}, <i>.lp</i> files by
+     *  {@code LpReader} and other files by {@code ProblemReader}.
+     *
+     *  @return the problems in the file
+     */
+    static List<LinearProgram> read(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".mps")) {
+            return List.of(MpsReader.read(file));
+        }
+        if (name.endsWith(".lp")) {
+            return List.of(LpReader.read(file));
+        }
+        return ProblemReader.read(file);
+    }  //  end of read()
+
+    private String solve(String name, LinearProgram program) {
+        try {
+            return toRecord(name, cache == null ? engine.solve(program, options) : cache.solve(program));
+        } catch (RuntimeException e) {
+            return errorRecord(name, e.toString());
+        }
+    }  //  end of solve()
+
+    /**
+     *  @return the solution as a line of JSON
+     */
+    static String toRecord(String name, Solution solution) {
+        StringBuilder record = new StringBuilder();
+        record.append("{\"problem\":").append(quote(name));
+        record.append(",\"status\":\"").append(solution.status).append('"');
+        record.append(",\"objective\":").append(number(solution.objectiveValue));
+        record.append(",\"variables\":[");
+        for (int j = 0; j < solution.variableValues.length; j++) {
+            if (j > 0) {
+                record.append(',');
+            }
+            record.append(number(solution.variableValues[j]));
+        }
+        record.append("],\"iterations\":").append(solution.iterations);
+        record.append(",\"solveTimeMs\":").append(solution.solveTime / 1e6);
+        StallCounters counters = solution.stallCounters;
+        if (counters != null && counters.stalls > 0) {
+            record.append(",\"stalls\":{\"count\":").append(counters.stalls);
+            record.append(",\"degeneratePivots\":").append(counters.degeneratePivots);
+            record.append(",\"blandSwitches\":").append(counters.blandSwitches);
+            record.append(",\"perturbations\":").append(counters.perturbations);
+            record.append(",\"repairPivots\":").append(counters.repairPivots).append('}');
+        }
+        SolveMetrics solveMetrics = solution.metrics;
+        if (solveMetrics != null && solveMetrics.timed) {
+            record.append(",\"metrics\":{\"degeneratePivots\":").append(solveMetrics.degeneratePivots);
+            record.append(",\"refactorizations\":").append(solveMetrics.refactorizations);
+            record.append(",\"phaseTimesMs\":{");
+            for (SolvePhase phase : SolvePhase.values()) {
+                record.append(phase.ordinal() > 0 ? ",\"" : "\"").append(phase.name().toLowerCase()).append("\":")
+                        .append(solveMetrics.getPhaseTime(phase) / 1e6);
+            }
+            record.append("},\"pivotTimeP99Us\":").append(solveMetrics.pivotTimes.getPercentile(0.99) / 1e3).append('}');
+        }
+        PresolveReport report = solution.presolveReport;
+        if (report != null) {
+            record.append(",\"presolve\":{\"rowsRemoved\":").append(report.getRowsRemoved());
+            record.append(",\"columnsRemoved\":").append(report.getColumnsRemoved());
+            record.append(",\"emptyRows\":").append(report.emptyRows);
+            record.append(",\"singletonRows\":").append(report.singletonRows);
+            record.append(",\"duplicateRows\":").append(report.duplicateRows);
+            record.append(",\"fixedColumns\":").append(report.fixedColumns);
+            record.append(",\"dominatedColumns\":").append(report.dominatedColumns).append('}');
+        }
+        return record.append('}').toString();
+    }  //  end of toRecord()
+
+    static String errorRecord(String name, String message) {
+        return "{\"problem\":" + quote(name) + ",\"status\":\"ERROR\",\"message\":" + quote(String.valueOf(message)) + "}";
+    }
+
+    private static String number(double value) {
+        return Double.isFinite(value) ? Double.toString(value) : "null";
+    }
+
+    private static String quote(String text) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : text.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            }
+            else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            }
+            else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }  //  end of quote()
+
+}  //  end of class
@@ -0,0 +1,20 @@
+/**
+ *  <p>The class {@code BlandPricing} chooses the first column with a negative
+ *  coefficient in the objective function row. Together with choosing the key
+ *  row with the lowest basic variable among ties, which {@code Simplex} does
+ *  while this rule is in use, it can never cycle.</p>
+ */
+
+public class BlandPricing implements PricingRule {
+
+    @Override
+    public int chooseColumn(Simplex simplex) {
+        for (int i = 0; i < simplex.artificialStart; i++) {
+            if (simplex.tableau.get(0, i) < -simplex.optimalityTolerance) {
+                return i;
+            }
+        }
+        return -1;
+    }  //  end of chooseColumn()
+
+}  //  end of class
@@ -0,0 +1,212 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ *  <p>The class {@code BlockedCholesky} factorises a symmetric positive definite
+ *  matrix <i>M</i> as <i>L L<sup>T</sup></i>, where <i>L</i> is lower triangular,
+ *  and solves <i>M x = r</i> with the factors.</p>
+ *  <p>The columns are taken {@code blockSize} at a time. Each block of columns is
+ *  factorised on the diagonal, then divided into the rows below it, and then
+ *  subtracted from the rest of the matrix. The last two steps change each row
+ *  only from the block, so each is split between rows on {@code pool}, and the
+ *  result is the same as on one thread.</p>
+ *  <p>A pivot that is not above {@code pivotTolerance} times the largest diagonal
+ *  coefficient is replaced by a huge one, which makes the solution <i>0</i> in that
+ *  row. That happens when the constraints of a problem depend on each other, or
+ *  near the end of an interior point solve.</p>
+ */
+
+public class BlockedCholesky {
+
+    int size;
+
+    /**
+     *  The lower triangle of the matrix, and then of <i>L</i>. The coefficient at
+     *  row <i>i</i> and column <i>j &le; i</i> is stored at index <i>i * size + j</i>
+     */
+    double[] cells;
+
+    /**
+     *  The {@code int} is the number of columns factorised as one block
+     */
+    int blockSize = 64;
+
+    /**
+     *  The pool used to update rows in parallel. The factorisation is
+     *  carried out on the calling thread when it is {@code null}
+     */
+    ForkJoinPool pool;
+
+    /**
+     *  The {@code int} is the size of matrix below which the factorisation
+     *  stays on the calling thread even if {@code pool} is set
+     */
+    int parallelThreshold = 256;
+
+    double pivotTolerance = 1e-30;
+
+    /**
+     *  The {@code int} is the number of pivots replaced in the last factorisation
+     */
+    int replacedPivots;
+
+    public BlockedCholesky(int size) {
+        this.size = size;
+        this.cells = new double[size * size];
+    }  //  end of constructor
+
+    /**
+     *  Replaces the lower triangle of {@code cells} with <i>L</i>.
+     */
+    public void factor() {
+        double largest = 0;
+        for (int i = 0; i < size; i++) {
+            largest = Math.max(largest, cells[i * size + i]);
+        }
+        double smallestPivot = pivotTolerance * Math.max(largest, 1);
+        replacedPivots = 0;
+        boolean parallel = pool != null && size >= parallelThreshold;
+
+        for (int blockStart = 0; blockStart < size; blockStart += blockSize) {
+            int blockEnd = Math.min(blockStart + blockSize, size);
+            factorDiagonal(blockStart, blockEnd, smallestPivot);
+            if (blockEnd == size) {
+                break;
+            }
+            //  every row must be divided before any is subtracted from, as the subtraction reads other rows
+            if (parallel) {
+                pool.invoke(new RowUpdate(blockEnd, size, blockStart, blockEnd, true));
+                pool.invoke(new RowUpdate(blockEnd, size, blockStart, blockEnd, false));
+            }
+            else {
+                divideRows(blockEnd, size, blockStart, blockEnd);
+                subtractBlock(blockEnd, size, blockStart, blockEnd);
+            }
+        }
+    }  //  end of factor()
+
+    /**
+     *  Factorises the block on the diagonal, whose rows have been updated by
+     *  every earlier block.
+     */
+    private void factorDiagonal(int blockStart, int blockEnd, double smallestPivot) {
+        for (int k = blockStart; k < blockEnd; k++) {
+            int kOffset = k * size;
+            double pivot = cells[kOffset + k];
+            for (int p = blockStart; p < k; p++) {
+                pivot -= cells[kOffset + p] * cells[kOffset + p];
+            }
+            if (pivot <= smallestPivot) {
+                pivot = 1e128;  //  leaves the solution in this row at 0
+                replacedPivots++;
+            }
+            pivot = Math.sqrt(pivot);
+            cells[kOffset + k] = pivot;
+            for (int i = k + 1; i < blockEnd; i++) {
+                int iOffset = i * size;
+                double value = cells[iOffset + k];
+                for (int p = blockStart; p < k; p++) {
+                    value -= cells[iOffset + p] * cells[kOffset + p];
+                }
+                cells[iOffset + k] = value / pivot;
+            }
+        }
+    }  //  end of factorDiagonal()
+
+    /**
+     *  Divides the rows from {@code from} up to but not including {@code to}
+     *  by the factorised diagonal block.
+     */
+    private void divideRows(int from, int to, int blockStart, int blockEnd) {
+        for (int i = from; i < to; i++) {
+            int iOffset = i * size;
+            for (int k = blockStart; k < blockEnd; k++) {
+                int kOffset = k * size;
+                double value = cells[iOffset + k];
+                for (int p = blockStart; p < k; p++) {
+                    value -= cells[iOffset + p] * cells[kOffset + p];
+                }
+                cells[iOffset + k] = value / cells[kOffset + k];
+            }
+        }
+    }  //  end of divideRows()
+
+    /**
+     *  Subtracts the product of the divided block with itself from the rows from
+     *  {@code from} up to but not including {@code to}, right of the block.
+     */
+    private void subtractBlock(int from, int to, int blockStart, int blockEnd) {
+        for (int i = from; i < to; i++) {
+            int iOffset = i * size;
+            for (int j = blockEnd; j <= i; j++) {
+                int jOffset = j * size;
+                double sum = 0;
+                for (int p = blockStart; p < blockEnd; p++) {
+                    sum += cells[iOffset + p] * cells[jOffset + p];
+                }
+                cells[iOffset + j] -= sum;
+            }
+        }
+    }  //  end of subtractBlock()
+
+    /**
+     *  Splits a range of rows in half until it has at most {@code blockSize}
+     *  rows, then divides them or subtracts the block from them.
+     */
+    private class RowUpdate extends RecursiveAction {
+
+        private final int from, to, blockStart, blockEnd;
+        private final boolean divide;
+
+        RowUpdate(int from, int to, int blockStart, int blockEnd, boolean divide) {
+            this.from = from;
+            this.to = to;
+            this.blockStart = blockStart;
+            this.blockEnd = blockEnd;
+            this.divide = divide;
+        }  //  end of constructor
+
+        @Override
+        protected void compute() {
+            if (to - from <= blockSize) {
+                if (divide) {
+                    divideRows(from, to, blockStart, blockEnd);
+                }
+                else {
+                    subtractBlock(from, to, blockStart, blockEnd);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RowUpdate(from, middle, blockStart, blockEnd, divide),
+                    new RowUpdate(middle, to, blockStart, blockEnd, divide));
+        }  //  end of compute()
+
+    }  //  end of class RowUpdate
+
+    /**
+     *  Solves <i>L L<sup>T</sup> x = r</i> with the factors.
+     *
+     *  @param values holds <i>r</i>, and is replaced by <i>x</i>
+     */
+    public void solve(double[] values) {
+        for (int i = 0; i < size; i++) {
+            int iOffset = i * size;
+            double value = values[i];
+            for (int k = 0; k < i; k++) {
+                value -= cells[iOffset + k] * values[k];
+            }
+            values[i] = value / cells[iOffset + i];
+        }
+        //  the rows of L are the columns of its transpose
+        for (int i = size - 1; i >= 0; i--) {
+            int iOffset = i * size;
+            values[i] /= cells[iOffset + i];
+            double value = values[i];
+            for (int k = 0; k < i; k++) {
+                values[k] -= cells[iOffset + k] * value;
+            }
+        }
+    }  //  end of solve()
+
+}  //  end of class
@@ -0,0 +1,491 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAccumulator;
+
+/**
+ *  <p>The class {@code BranchAndBound} solves a {@code LinearProgram} in which some
+ *  variables can only take whole number values. Each node of the search tree is the
+ *  problem with extra bounds <i>x &le; k</i> or <i>x &ge; k + 1</i> on some of those
+ *  variables, and its relaxation, in which they may take any value, is solved by
+ *  {@code RevisedSimplex}. A node whose relaxation has a variable with a fraction is
+ *  split in two on that variable, and a node whose relaxation cannot beat the best
+ *  whole number solution found, the incumbent, is left out.</p>
+ *  <p>The nodes are solved on a work-stealing {@code ForkJoinPool}, in the order set
+ *  by {@code nodeSelection}. A child has every constraint of its parent and one
+ *  more, whose slack variable is taken to be basic, so its relaxation starts from
+ *  the optimal basis of the parent and takes a few dual simplex pivots. The
+ *  incumbent is replaced with a compare-and-set, so threads read it without a lock
+ *  to leave out nodes.</p>
+ *  <p>The gap between the incumbent and the best value any open node can reach is
+ *  reported to the {@code listeners} as the search goes on, and the search ends as
+ *  soon as it is within {@code relativeGap}.</p>
+ */
+
+public class BranchAndBound {
+
+    /**
+     *  <p>The class {@code Node} holds the bounds added to the problem on the way from
+     *  the root, one bound in each node, and the basis of the parent.</p>
+     */
+    private static class Node {
+
+        final Node parent;
+        final int variable;
+        final String symbol;
+        final double value;
+        final int depth;
+
+        /**
+         *  The value of the relaxation of the parent, made to be minimised,
+         *  which the relaxation of this node cannot beat
+         */
+        final double bound;
+
+        final Basis basis;
+
+        Node(Node parent, int variable, String symbol, double value, double bound, Basis basis) {
+            this.parent = parent;
+            this.variable = variable;
+            this.symbol = symbol;
+            this.value = value;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+            this.bound = bound;
+            this.basis = basis;
+        }  //  end of constructor
+
+    }  //  end of class Node
+
+    /**
+     *  <p>The class {@code Incumbent} holds the best whole number solution found.
+     *  It is never changed, so that it can be replaced in one step.</p>
+     */
+    private static class Incumbent {
+
+        /**
+         *  The value of the objective function, made to be minimised
+         */
+        final double value;
+
+        final double[] variableValues;
+
+        Incumbent(double value, double[] variableValues) {
+            this.value = value;
+            this.variableValues = variableValues;
+        }  //  end of constructor
+
+    }  //  end of class Incumbent
+
+    /**
+     *  <p>The class {@code NodeTask} solves one node and forks a task for each of its
+     *  children. With {@code BEST_BOUND} a task has no node of its own and solves
+     *  the best node in the queue, so each task still solves exactly one node.</p>
+     */
+    private class NodeTask extends CountedCompleter<Void> {
+
+        private final Node node;
+
+        NodeTask(NodeTask parent, Node node) {
+            super(parent);
+            this.node = node;
+        }  //  end of constructor
+
+        @Override
+        public void compute() {
+            Node next = node != null ? node : queue.poll();
+            if (next != null) {
+                List<Node> children = solveNode(next);
+                //  the last task forked is the first one this thread takes back
+                for (int k = children.size() - 1; k >= 0; k--) {
+                    addToPendingCount(1);
+                    new NodeTask(this, node != null ? children.get(k) : null).fork();
+                }
+            }
+            tryComplete();
+        }  //  end of compute()
+
+    }  //  end of class NodeTask
+
+    LinearProgram program;
+
+    /**
+     *  The {@code boolean} values are <i>true</i> for each variable that can only take
+     *  a whole number value. It is {@code program.integerVariables} unless it is set
+     */
+    boolean[] integerVariables;
+
+    NodeSelection nodeSelection = NodeSelection.BEST_BOUND;
+
+    /**
+     *  The {@code int} is the number of threads the nodes are solved on
+     */
+    int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     *  The {@code double} is the gap at which the search ends, and by which a node
+     *  must be able to beat the incumbent not to be left out
+     */
+    double relativeGap = 1e-6;
+
+    /**
+     *  The {@code double} is the distance from a whole number within which a value
+     *  is taken to be whole
+     */
+    double integerTolerance = 1e-6;
+
+    /**
+     *  The {@code long} is the largest number of nodes that may be solved
+     */
+    long nodeLimit = Long.MAX_VALUE;
+
+    /**
+     *  The {@code long} is the time allowed for the search in milliseconds.
+     *  It is ignored when it is <i>0</i>
+     */
+    long timeLimit;
+
+    /**
+     *  The {@code long} is the time in milliseconds between reports of the gap
+     *  when no better solution is found
+     */
+    long reportInterval = 1000;
+
+    /**
+     *  The limits, tolerances and recovery from stalls of the solve of each relaxation
+     */
+    SolverOptions options = new SolverOptions();
+
+    /**
+     *  The {@code boolean} is {@code true} to factorise the bases with the sparse
+     *  factorisation of the {@code SPARSE} engine
+     */
+    boolean sparseFactorization;
+
+    final List<MipListener> listeners = new CopyOnWriteArrayList<>();
+
+    //  the state of the search
+    private SparseMatrix matrix;
+    private double sense;
+    private long start, deadline;
+    private final AtomicReference<Incumbent> incumbent = new AtomicReference<>();
+    private final Set<Node> openNodes = ConcurrentHashMap.newKeySet();
+    private final PriorityBlockingQueue<Node> queue = new PriorityBlockingQueue<>(64,
+            Comparator.<Node>comparingDouble(node -> node.bound).thenComparing(node -> -node.depth));
+    private final AtomicLong nodeCount = new AtomicLong();
+    private final AtomicLong iterationCount = new AtomicLong();
+    private final AtomicLong nextReport = new AtomicLong();
+    private DoubleAccumulator unsolvedBound, prunedBound;
+    private List<MipProgress> progress;
+
+    /**
+     *  Why the search was ended before the tree was finished, or {@code null}
+     */
+    private volatile SolutionStatus stopStatus;
+
+    /**
+     *  @param program is the problem to be solved, which is not changed
+     */
+    public BranchAndBound(LinearProgram program) {
+        this.program = program;
+    }  //  end of constructor
+
+    /**
+     *  Searches the tree until it is finished, the gap is within {@code relativeGap},
+     *  a limit is reached or {@code stop()} is called.
+     *
+     *  @return the best whole number solution found
+     */
+    public MipSolution solve() {
+        matrix = program.getSparseConstraints();
+        sense = program.optimisationType == 1 ? -1 : 1;
+        if (integerVariables == null) {
+            integerVariables = program.integerVariables != null ? program.integerVariables
+                    : new boolean[program.variableNumber];
+        }
+        start = System.nanoTime();
+        deadline = timeLimit > 0 ? System.currentTimeMillis() + timeLimit : 0;
+        incumbent.set(null);
+        openNodes.clear();
+        queue.clear();
+        nodeCount.set(0);
+        iterationCount.set(0);
+        nextReport.set(start + reportInterval * 1000000);
+        unsolvedBound = new DoubleAccumulator(Math::min, Double.POSITIVE_INFINITY);
+        prunedBound = new DoubleAccumulator(Math::min, Double.POSITIVE_INFINITY);
+        progress = new ArrayList<>();
+        stopStatus = null;
+
+        Node root = new Node(null, -1, null, 0, Double.NEGATIVE_INFINITY, options.startBasis);
+        openNodes.add(root);
+        if (nodeSelection == NodeSelection.BEST_BOUND) {
+            queue.add(root);
+        }
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new NodeTask(null, nodeSelection == NodeSelection.BEST_BOUND ? null : root));
+        } finally {
+            pool.shutdown();
+        }
+        return finish();
+    }  //  end of solve()
+
+    /**
+     *  Ends the search after the nodes being solved, from another thread or from a listener.
+     */
+    public void stop() {
+        if (stopStatus == null) {
+            stopStatus = SolutionStatus.CANCELLED;
+        }
+    }  //  end of stop()
+
+    /**
+     *  Solves the relaxation of a node and splits it if it could still beat the incumbent.
+     *
+     *  @return the children of the node, in the order they should be solved
+     */
+    private List<Node> solveNode(Node node) {
+        List<Node> children = new ArrayList<>(2);
+        if (stopStatus != null) {
+            return children;
+        }
+        if (node.bound >= getCutoff()) {
+            prunedBound.accumulate(node.bound);
+            openNodes.remove(node);
+            return children;
+        }
+        if (nodeCount.get() >= nodeLimit) {
+            stopStatus = SolutionStatus.ITERATION_LIMIT;
+            return children;
+        }
+        if (deadline > 0 && System.currentTimeMillis() >= deadline) {
+            stopStatus = SolutionStatus.TIME_LIMIT;
+            return children;
+        }
+
+        RevisedSimplex revisedSimplex = new RevisedSimplex(getRelaxation(node));
+        revisedSimplex.sparseFactorization = sparseFactorization;
+        options.applyTo(revisedSimplex);
+        revisedSimplex.startBasis = node.basis;
+        if (deadline > 0 && (revisedSimplex.deadline == 0 || revisedSimplex.deadline > deadline)) {
+            revisedSimplex.deadline = deadline;
+        }
+        Solution solution = revisedSimplex.optimise();
+        nodeCount.incrementAndGet();
+        iterationCount.addAndGet(solution.iterations);
+
+        boolean improved = false;
+        if (solution.status == SolutionStatus.OPTIMAL) {
+            double value = sense * solution.objectiveValue;
+            int variable = getBranchingVariable(solution.variableValues);
+            if (variable < 0) {
+                improved = offer(solution.variableValues);
+            }
+            else if (value < getCutoff()) {
+                double x = solution.variableValues[variable];
+                Node down = new Node(node, variable, "<", Math.floor(x), value, solution.basis);
+                Node up = new Node(node, variable, ">", Math.ceil(x), value, solution.basis);
+                children.add(x - Math.floor(x) < 0.5 ? down : up);
+                children.add(x - Math.floor(x) < 0.5 ? up : down);
+            }
+            else {
+                prunedBound.accumulate(value);
+            }
+        }
+        else if (solution.status == SolutionStatus.UNBOUNDED) {
+            stopStatus = SolutionStatus.UNBOUNDED;
+        }
+        else if (solution.status != SolutionStatus.INFEASIBLE) {
+            unsolvedBound.accumulate(node.bound);  //  the relaxation stopped at a limit
+        }
+
+        //  the children are open before the parent is closed, so the bound never jumps
+        openNodes.addAll(children);
+        if (nodeSelection == NodeSelection.BEST_BOUND) {
+            queue.addAll(children);
+        }
+        openNodes.remove(node);
+        report(improved);
+        return children;
+    }  //  end of solveNode()
+
+    /**
+     *  @return the problem with the bounds of the node added as constraints after
+     *  those of {@code program}, in the order they were added from the root
+     */
+    private LinearProgram getRelaxation(Node node) {
+        if (node.depth == 0) {
+            return program;
+        }
+        int rowNumber = matrix.rowNumber;
+        int[] variables = new int[node.depth];
+        String[] symbols = Arrays.copyOf(program.symbols, rowNumber + node.depth);
+        double[] rightHandSides = Arrays.copyOf(program.rightHandSides, rowNumber + node.depth);
+        for (Node bound = node; bound.parent != null; bound = bound.parent) {
+            variables[bound.depth - 1] = bound.variable;
+            symbols[rowNumber + bound.depth - 1] = bound.symbol;
+            rightHandSides[rowNumber + bound.depth - 1] = bound.value;
+        }
+
+        int[] columnStarts = new int[matrix.columnNumber + 1];
+        for (int j = 0; j < matrix.columnNumber; j++) {
+            columnStarts[j + 1] = matrix.columnStarts[j + 1] - matrix.columnStarts[j];
+        }
+        for (int variable : variables) {
+            columnStarts[variable + 1]++;
+        }
+        for (int j = 0; j < matrix.columnNumber; j++) {
+            columnStarts[j + 1] += columnStarts[j];
+        }
+        int[] rowIndices = new int[columnStarts[matrix.columnNumber]];
+        double[] values = new double[rowIndices.length];
+        int[] next = new int[matrix.columnNumber];
+        for (int j = 0; j < matrix.columnNumber; j++) {
+            int length = matrix.columnStarts[j + 1] - matrix.columnStarts[j];
+            System.arraycopy(matrix.rowIndices, matrix.columnStarts[j], rowIndices, columnStarts[j], length);
+            System.arraycopy(matrix.values, matrix.columnStarts[j], values, columnStarts[j], length);
+            next[j] = columnStarts[j] + length;
+        }
+        for (int k = 0; k < variables.length; k++) {
+            rowIndices[next[variables[k]]] = rowNumber + k;
+            values[next[variables[k]]++] = 1;
+        }
+
+        LinearProgram relaxation = new LinearProgram(program.optimisationType, new SparseMatrix(
+                rowNumber + node.depth, matrix.columnNumber, columnStarts, rowIndices, values));
+        relaxation.objective = program.objective;
+        relaxation.symbols = symbols;
+        relaxation.rightHandSides = rightHandSides;
+        return relaxation;
+    }  //  end of getRelaxation()
+
+    /**
+     *  @return the integer variable whose value is furthest from a whole number,
+     *  or <i>-1</i> if every one is whole
+     */
+    private int getBranchingVariable(double[] variableValues) {
+        int variable = -1;
+        double largest = integerTolerance;
+        for (int j = 0; j < variableValues.length; j++) {
+            if (integerVariables[j]) {
+                double fraction = variableValues[j] - Math.floor(variableValues[j]);
+                if (Math.min(fraction, 1 - fraction) > largest) {
+                    largest = Math.min(fraction, 1 - fraction);
+                    variable = j;
+                }
+            }
+        }
+        return variable;
+    }  //  end of getBranchingVariable()
+
+    /**
+     *  Makes a whole number solution the incumbent if it is better.
+     *
+     *  @return <i>true</i> if it became the incumbent
+     */
+    private boolean offer(double[] variableValues) {
+        double[] values = variableValues.clone();
+        double value = 0;
+        for (int j = 0; j < values.length; j++) {
+            if (integerVariables[j]) {
+                values[j] = Math.round(values[j]);
+            }
+            value += sense * program.objective[j] * values[j];
+        }
+        Incumbent candidate = new Incumbent(value, values);
+        while (true) {
+            Incumbent current = incumbent.get();
+            if (current != null && current.value <= value) {
+                return false;
+            }
+            if (incumbent.compareAndSet(current, candidate)) {
+                return true;
+            }
+        }
+    }  //  end of offer()
+
+    /**
+     *  @return the value a node must be below to be able to beat the incumbent by more than the gap
+     */
+    private double getCutoff() {
+        Incumbent current = incumbent.get();
+        if (current == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return current.value - Math.max(relativeGap * Math.abs(current.value), 1e-9);
+    }  //  end of getCutoff()
+
+    /**
+     *  Reports the progress if a better solution was found or the report interval
+     *  has passed, and ends the search if the gap is within {@code relativeGap}.
+     */
+    private void report(boolean improved) {
+        long now = System.nanoTime();
+        long due = nextReport.get();
+        if (!improved && (now < due || !nextReport.compareAndSet(due, now + reportInterval * 1000000))) {
+            return;
+        }
+        synchronized (this) {
+            MipProgress current = getProgress(now);
+            progress.add(current);
+            for (MipListener listener : listeners) {
+                listener.progressMade(current);
+            }
+            if (current.gap <= relativeGap && stopStatus == null) {
+                stopStatus = SolutionStatus.OPTIMAL;
+            }
+        }
+    }  //  end of report()
+
+    private MipProgress getProgress(long now) {
+        Incumbent current = incumbent.get();
+        double value = current == null ? Double.POSITIVE_INFINITY : current.value;
+        //  nodes left out within the gap may still beat the incumbent by a little
+        double bound = Math.min(value, Math.min(unsolvedBound.get(), prunedBound.get()));
+        for (Node node : openNodes) {
+            bound = Math.min(bound, node.bound);
+        }
+        double gap = Double.isInfinite(value) ? Double.POSITIVE_INFINITY
+                : (value - bound) / Math.max(Math.abs(value), 1e-10);
+        return new MipProgress(now - start, nodeCount.get(), sense * value, sense * bound, gap);
+    }  //  end of getProgress()
+
+    private MipSolution finish() {
+        MipProgress last = getProgress(System.nanoTime());
+        progress.add(last);
+        Incumbent best = incumbent.get();
+
+        SolutionStatus status;
+        if (stopStatus == SolutionStatus.UNBOUNDED) {
+            status = SolutionStatus.UNBOUNDED;
+        }
+        else if (openNodes.isEmpty() && unsolvedBound.get() == Double.POSITIVE_INFINITY) {
+            status = best == null ? SolutionStatus.INFEASIBLE : SolutionStatus.OPTIMAL;
+        }
+        else if (last.gap <= relativeGap) {
+            status = SolutionStatus.OPTIMAL;
+        }
+        else {
+            //  the tree was finished, but some relaxations stopped at their own limits
+            status = stopStatus != null ? stopStatus : SolutionStatus.ITERATION_LIMIT;
+        }
+
+        MipSolution solution = new MipSolution(status, best == null ? Double.NaN : sense * best.value,
+                best == null ? null : best.variableValues, (int) Math.min(iterationCount.get(), Integer.MAX_VALUE));
+        solution.bound = last.bound;
+        solution.gap = last.gap;
+        solution.nodes = last.nodes;
+        solution.progress = progress;
+        solution.solveTime = last.time;
+        return solution;
+    }  //  end of finish()
+
+}  //  end of class
@@ -0,0 +1,22 @@
+/**
+ *  <p>The class {@code DantzigPricing} chooses the column with the most
+ *  negative coefficient in the objective function row. It is the rule
+ *  {@code Simplex} has always used.</p>
+ */
+
+public class DantzigPricing implements PricingRule {
+
+    @Override
+    public int chooseColumn(Simplex simplex) {
+        double key = -simplex.optimalityTolerance;
+        int keyColumn = -1;
+        for (int i = 0; i < simplex.artificialStart; i++) {
+            if (simplex.tableau.get(0, i) < key) {
+                key = simplex.tableau.get(0, i);
+                keyColumn = i;
+            }
+        }
+        return keyColumn;
+    }  //  end of chooseColumn()
+
+}  //  end of class
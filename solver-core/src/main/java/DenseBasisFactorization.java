@@ -0,0 +1,133 @@
+/**
+ *  <p>The class {@code DenseBasisFactorization} factorises the basis
+ *  into dense <i>L</i> and <i>U</i> factors using Gaussian elimination
+ *  with partial pivoting.</p>
+ *  <p>It is the fastest choice when the basis has few coefficients that are <i>0</i>.</p>
+ */
+
+public class DenseBasisFactorization extends BasisFactorization {
+
+    /**
+     *  The factors <i>L</i> and <i>U</i> of the permuted basis, stored in one array.
+     *  The unit diagonal of <i>L</i> is not stored
+     */
+    double[][] lu;
+
+    /**
+     *  Row <i>i</i> of the factorised matrix is row {@code permutation[i]} of the basis
+     */
+    int[] permutation;
+
+    double[] work;
+
+    public DenseBasisFactorization(int size, int refactorizationInterval) {
+        super(size, refactorizationInterval);
+        this.lu = new double[size][size];
+        this.permutation = new int[size];
+        this.work = new double[size];
+    }  //  end of constructor
+
+    @Override
+    void decompose(SparseMatrix basis) {
+        for (int i = 0; i < size; i++) {
+            permutation[i] = i;
+            java.util.Arrays.fill(lu[i], 0);
+        }
+        for (int k = 0; k < size; k++) {
+            for (int p = basis.columnStarts[k]; p < basis.columnStarts[k + 1]; p++) {
+                lu[basis.rowIndices[p]][k] = basis.values[p];
+            }
+        }
+
+        for (int k = 0; k < size; k++) {
+            //  find the largest pivot in column k
+            int pivotRow = k;
+            for (int i = k + 1; i < size; i++) {
+                if (Math.abs(lu[i][k]) > Math.abs(lu[pivotRow][k])) {
+                    pivotRow = i;
+                }
+            }
+            if (lu[pivotRow][k] == 0) {
+                throw new ArithmeticException("Basis matrix is singular");
+            }
+            if (pivotRow != k) {
+                double[] row = lu[k];
+                lu[k] = lu[pivotRow];
+                lu[pivotRow] = row;
+                int index = permutation[k];
+                permutation[k] = permutation[pivotRow];
+                permutation[pivotRow] = index;
+            }
+
+            //  eliminate below the pivot
+            double[] keyRow = lu[k];
+            for (int i = k + 1; i < size; i++) {
+                double[] row = lu[i];
+                if (row[k] != 0) {
+                    row[k] /= keyRow[k];
+                    double multiplier = row[k];
+                    for (int j = k + 1; j < size; j++) {
+                        row[j] -= multiplier * keyRow[j];
+                    }
+                }
+            }
+        }  //  end of for
+    }  //  end of decompose()
+
+    @Override
+    void solve(double[] a) {
+        double[] x = work;
+        for (int i = 0; i < size; i++) {
+            x[i] = a[permutation[i]];
+        }
+
+        //  forward substitution with L
+        for (int i = 1; i < size; i++) {
+            double[] row = lu[i];
+            double sum = x[i];
+            for (int j = 0; j < i; j++) {
+                sum -= row[j] * x[j];
+            }
+            x[i] = sum;
+        }
+        //  back substitution with U
+        for (int i = size - 1; i >= 0; i--) {
+            double[] row = lu[i];
+            double sum = x[i];
+            for (int j = i + 1; j < size; j++) {
+                sum -= row[j] * x[j];
+            }
+            x[i] = sum / row[i];
+        }
+
+        System.arraycopy(x, 0, a, 0, size);
+    }  //  end of solve()
+
+    @Override
+    void solveTransposed(double[] c) {
+        double[] y = work;
+        System.arraycopy(c, 0, y, 0, size);
+
+        //  forward substitution with the transpose of U
+        for (int i = 0; i < size; i++) {
+            double sum = y[i];
+            for (int j = 0; j < i; j++) {
+                sum -= lu[j][i] * y[j];
+            }
+            y[i] = sum / lu[i][i];
+        }
+        //  back substitution with the transpose of L
+        for (int i = size - 1; i >= 0; i--) {
+            double sum = y[i];
+            for (int j = i + 1; j < size; j++) {
+                sum -= lu[j][i] * y[j];
+            }
+            y[i] = sum;
+        }
+
+        for (int i = 0; i < size; i++) {
+            c[permutation[i]] = y[i];
+        }
+    }  //  end of solveTransposed()
+
+}  //  end of class
@@ -0,0 +1,46 @@
+/**
+ *  <p>The class {@code DevexPricing} chooses the column with the largest
+ *  squared objective function coefficient relative to a reference weight,
+ *  which approximates the length of the edge moved along by the pivot.</p>
+ *  <p>The weights start at <i>1</i> and are updated after every pivot from
+ *  the key row, as described by Forrest and Goldfarb.</p>
+ */
+
+public class DevexPricing implements PricingRule {
+
+    double[] weights;
+
+    @Override
+    public void reset(Simplex simplex) {
+        weights = new double[simplex.colSize - 1];
+        java.util.Arrays.fill(weights, 1);
+    }  //  end of reset()
+
+    @Override
+    public int chooseColumn(Simplex simplex) {
+        double best = 0;
+        int keyColumn = -1;
+        for (int i = 0; i < simplex.artificialStart; i++) {
+            double key = simplex.tableau.get(0, i);
+            if (key < -simplex.optimalityTolerance && key * key / weights[i] > best) {
+                best = key * key / weights[i];
+                keyColumn = i;
+            }
+        }
+        return keyColumn;
+    }  //  end of chooseColumn()
+
+    @Override
+    public void update(Simplex simplex, int keyRow, int keyColumn) {
+        //  after the pivot the key row holds each coefficient divided by the pivot
+        double keyWeight = weights[keyColumn];
+        for (int j = 0; j < weights.length; j++) {
+            double ratio = simplex.tableau.get(keyRow, j);
+            if (j != keyColumn && ratio != 0) {
+                weights[j] = Math.max(weights[j], ratio * ratio * keyWeight);
+            }
+        }
+        weights[keyColumn] = 1;
+    }  //  end of update()
+
+}  //  end of class
@@ -0,0 +1,131 @@
+/**
+ *  <p>The enum {@code Engine} lists the methods that can be used
+ *  to solve a {@code LinearProgram}, so that a method can be chosen
+ *  for each problem.</p>
+ */
+
+public enum Engine {
+
+    /**
+     *  The simplex method on the full tableau, carried out by {@code Simplex}
+     */
+    TABLEAU {
+        @Override
+        Solution solveProgram(LinearProgram program, SolverOptions options) {
+            Simplex simplex = program.toSimplex();
+            simplex.prepareSimpex();
+            options.applyTo(simplex);
+            return simplex.solve();
+        }
+    },
+
+    /**
+     *  The revised simplex method with a factorised basis,
+     *  carried out by {@code RevisedSimplex}
+     */
+    REVISED {
+        @Override
+        Solution solveProgram(LinearProgram program, SolverOptions options) {
+            RevisedSimplex revisedSimplex = new RevisedSimplex(program);
+            options.applyTo(revisedSimplex);
+            return revisedSimplex.optimise();
+        }
+    },
+
+    /**
+     *  The revised simplex method with a sparse factorisation of the basis,
+     *  for problems where most coefficients are <i>0</i>
+     */
+    SPARSE {
+        @Override
+        Solution solveProgram(LinearProgram program, SolverOptions options) {
+            RevisedSimplex revisedSimplex = new RevisedSimplex(program);
+            revisedSimplex.sparseFactorization = true;
+            options.applyTo(revisedSimplex);
+            return revisedSimplex.optimise();
+        }
+    },
+
+    /**
+     *  The dual simplex method, carried out by {@code RevisedSimplex} from the
+     *  basis of the slack and surplus variables, or from {@code options.startBasis}.
+     *  Problems whose reduced costs are not all at least <i>0</i> in that basis are
+     *  solved with the two phases of the primal method instead
+     */
+    DUAL {
+        @Override
+        Solution solveProgram(LinearProgram program, SolverOptions options) {
+            RevisedSimplex revisedSimplex = new RevisedSimplex(program);
+            options.applyTo(revisedSimplex);
+            if (revisedSimplex.startBasis == null) {
+                revisedSimplex.startBasis = new Basis(program.constraintNumber, program.variableNumber);
+            }
+            return revisedSimplex.optimise();
+        }
+    },
+
+    /**
+     *  The primal-dual interior point method, carried out by {@code InteriorPoint},
+     *  for large problems that take many simplex iterations. Its solution is at a
+     *  vertex only when {@code options.crossover} is set
+     */
+    INTERIOR_POINT {
+        @Override
+        Solution solveProgram(LinearProgram program, SolverOptions options) {
+            InteriorPoint interiorPoint = new InteriorPoint(program);
+            options.applyTo(interiorPoint);
+            return interiorPoint.solve();
+        }
+    };
+
+    /**
+     *  Solves the problem with this engine, without presolve.
+     */
+    abstract Solution solveProgram(LinearProgram program, SolverOptions options);
+
+    /**
+     *  @return <i>true</i> if this engine starts from {@code options.startBasis} when it is set
+     */
+    public boolean acceptsStartBasis() {
+        return this == REVISED || this == SPARSE || this == DUAL;
+    }
+
+    /**
+     *  Solves the problem with this engine. If {@code options.presolve} is set the
+     *  problem is made smaller first, and if {@code options.scaling} is set it is
+     *  scaled, and the solution is mapped back to it.
+     *
+     *  @param program is the problem to be solved
+     *  @param options holds the limits of the solve
+     *  @return the solution found
+     */
+    public Solution solve(LinearProgram program, SolverOptions options) {
+        if (!options.presolve && options.scaling == ScalingMethod.NONE) {
+            return solveProgram(program, options);
+        }
+        long start = System.nanoTime();
+        Presolve presolve = options.presolve ? new Presolve(program) : null;
+        LinearProgram reduced = presolve == null ? program : presolve.reduce();
+        Solution solution = null;
+        if (reduced != null) {
+            Scaling scaling = new Scaling(reduced, options.scaling);
+            solution = scaling.unscale(solveProgram(scaling.scale(), options));
+        }
+        if (presolve != null) {
+            solution = presolve.postsolve(solution);
+        }
+        solution.solveTime = System.nanoTime() - start;
+        return solution;
+    }  //  end of solve()
+
+    /**
+     *  Solves the problem with this engine and the default options.
+     *
+     *  @param program is the problem to be solved
+     *  @return the solution found
+     */
+    public Solution solve(LinearProgram program) {
+        return solve(program, new SolverOptions());
+    }
+
+}  //  end of enum
@@ -0,0 +1,175 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ *  <p>The class {@code FlatTableau} stores the tableau in one contiguous
+ *  row-major {@code double} array so that each row update in a pivot
+ *  reads and writes consecutive memory.</p>
+ *  <p>The row updates are done by a {@code PivotKernel}, which uses SIMD
+ *  instructions when the {@code jdk.incubator.vector} module is available.</p>
+ */
+
+public class FlatTableau implements Tableau {
+
+    int rowSize;
+    int colSize;
+
+    /**
+     *  The coefficient at row <i>i</i> and column <i>j</i>
+     *  is stored at index <i>i * colSize + j</i>
+     */
+    double[] cells;
+
+    PivotKernel kernel;
+
+    /**
+     *  A copy of the key row made before each row update, so that the
+     *  kernel reads the key row from a different array than it writes to
+     */
+    double[] keyRowValues;
+
+    /**
+     *  The pool used to reduce rows in parallel. Every pivot is
+     *  carried out on the calling thread when it is {@code null}
+     */
+    ForkJoinPool pool;
+
+    /**
+     *  The {@code int} is the number of coefficients in the tableau below
+     *  which pivots stay on the calling thread even if {@code pool} is set
+     */
+    int parallelThreshold = 1 << 18;
+
+    /**
+     *  The {@code int} is the approximate number of coefficients
+     *  reduced by each fork/join task
+     */
+    int blockSize = 1 << 14;
+
+    /**
+     *  Creates a {@code FlatTableau} with a copy of the given coefficients
+     *  and the fastest {@code PivotKernel} available.
+     *
+     *  @param coefficients is the tableau to be copied
+     */
+    public FlatTableau(double[][] coefficients) {
+        this(coefficients, PivotKernel.create());
+    }  //  end of constructor
+
+    /**
+     *  Creates a {@code FlatTableau} with a copy of the given coefficients.
+     *
+     *  @param coefficients is the tableau to be copied
+     *  @param kernel is used for the row updates of every pivot
+     */
+    public FlatTableau(double[][] coefficients, PivotKernel kernel) {
+        this.rowSize = coefficients.length;
+        this.colSize = coefficients[0].length;
+        this.cells = new double[rowSize * colSize];
+        this.kernel = kernel;
+        this.keyRowValues = new double[colSize];
+        for (int i = 0; i < rowSize; i++) {
+            System.arraycopy(coefficients[i], 0, cells, i * colSize, colSize);
+        }
+    }  //  end of constructor
+
+    @Override
+    public int rowSize() {
+        return rowSize;
+    }
+
+    @Override
+    public int colSize() {
+        return colSize;
+    }
+
+    @Override
+    public double get(int row, int column) {
+        return cells[row * colSize + column];
+    }
+
+    @Override
+    public void set(int row, int column, double value) {
+        cells[row * colSize + column] = value;
+    }
+
+    @Override
+    public void pivot(int keyRow, int keyColumn) {
+        int keyOffset = keyRow * colSize;
+        kernel.divide(cells, keyOffset, colSize, cells[keyOffset + keyColumn]);
+        System.arraycopy(cells, keyOffset, keyRowValues, 0, colSize);
+
+        if (pool != null && (long) rowSize * colSize >= parallelThreshold) {
+            //  each row only depends on the key row, so the blocks can be
+            //  reduced in any order and give the same result as below
+            int blockRows = Math.max(1, blockSize / colSize);
+            pool.invoke(new RowReduction(0, rowSize, keyRow, keyColumn, blockRows));
+            return;
+        }
+
+        reduceRows(0, rowSize, keyRow, keyColumn);
+    }  //  end of pivot()
+
+    /**
+     *  Reduces the rows from {@code from} up to but not including {@code to}.
+     */
+    private void reduceRows(int from, int to, int keyRow, int keyColumn) {
+        //  rows above and below the key row are reduced separately
+        //  so the inner loop does not have to skip the key row
+        for (int i = from; i < Math.min(to, keyRow); i++) {
+            reduceRow(i, keyColumn);
+        }
+        for (int i = Math.max(from, keyRow + 1); i < to; i++) {
+            reduceRow(i, keyColumn);
+        }
+    }  //  end of reduceRows()
+
+    private void reduceRow(int row, int keyColumn) {
+        int rowOffset = row * colSize;
+        double rowPivot = cells[rowOffset + keyColumn];
+        if (rowPivot != 0) {
+            kernel.subtractMultiple(cells, rowOffset, keyRowValues, colSize, rowPivot);
+        }
+    }  //  end of reduceRow()
+
+    /**
+     *  Splits a range of rows in half until it has at most
+     *  {@code blockRows} rows, then reduces them.
+     */
+    private class RowReduction extends RecursiveAction {
+
+        int from;
+        int to;
+        int keyRow;
+        int keyColumn;
+        int blockRows;
+
+        RowReduction(int from, int to, int keyRow, int keyColumn, int blockRows) {
+            this.from = from;
+            this.to = to;
+            this.keyRow = keyRow;
+            this.keyColumn = keyColumn;
+            this.blockRows = blockRows;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= blockRows) {
+                reduceRows(from, to, keyRow, keyColumn);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RowReduction(from, middle, keyRow, keyColumn, blockRows),
+                    new RowReduction(middle, to, keyRow, keyColumn, blockRows));
+        }
+
+    }  //  end of RowReduction
+
+    @Override
+    public void copyTo(double[][] coefficients) {
+        for (int i = 0; i < rowSize; i++) {
+            System.arraycopy(cells, i * colSize, coefficients[i], 0, colSize);
+        }
+    }  //  end of copyTo()
+
+}  //  end of class
@@ -0,0 +1,99 @@
+/**
+ *  <p>The class {@code Histogram} counts values, such as times in nanoseconds,
+ *  in buckets whose bounds are powers of <i>2</i>. Bucket <i>k</i> holds the values
+ *  from <i>2<sup>k</sup></i> to <i>2<sup>k+1</sup> - 1</i>, and bucket <i>0</i> also
+ *  holds <i>0</i>, so a value is recorded with a few instructions and no allocation.</p>
+ *  <p>A {@code Histogram} is not thread safe.</p>
+ */
+
+public class Histogram {
+
+    /**
+     *  The number of values recorded in each bucket
+     */
+    final long[] counts = new long[64];
+
+    /**
+     *  The {@code long} values are the number of values recorded, their sum and the largest
+     */
+    long count, total, max;
+
+    /**
+     *  Records a value, which is taken as <i>0</i> if it is negative.
+     */
+    void record(long value) {
+        value = Math.max(value, 0);
+        counts[63 - Long.numberOfLeadingZeros(value | 1)]++;
+        count++;
+        total += value;
+        max = Math.max(max, value);
+    }  //  end of record()
+
+    /**
+     *  Adds the values recorded in another histogram to this one.
+     */
+    void add(Histogram histogram) {
+        for (int k = 0; k < counts.length; k++) {
+            counts[k] += histogram.counts[k];
+        }
+        count += histogram.count;
+        total += histogram.total;
+        max = Math.max(max, histogram.max);
+    }  //  end of add()
+
+    /**
+     *  @return a copy of this histogram
+     */
+    Histogram copy() {
+        Histogram histogram = new Histogram();
+        histogram.add(this);
+        return histogram;
+    }  //  end of copy()
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     *  @return the number of values recorded in bucket {@code k}
+     */
+    public long getBucketCount(int k) {
+        return counts[k];
+    }
+
+    /**
+     *  @param fraction is between <i>0</i> and <i>1</i>, for example <i>0.99</i>
+     *  @return the upper bound of the bucket holding that fraction of the values,
+     *  which is at most twice the value itself, or <i>0</i> if none were recorded
+     */
+    public long getPercentile(double fraction) {
+        long rank = (long) Math.ceil(fraction * count);
+        long seen = 0;
+        for (int k = 0; k < counts.length; k++) {
+            seen += counts[k];
+            if (seen >= rank && seen > 0) {
+                return Math.min((2L << k) - 1, max);
+            }
+        }
+        return 0;
+    }  //  end of getPercentile()
+
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.0f p50=%d p99=%d max=%d",
+                count, getMean(), getPercentile(0.5), getPercentile(0.99), max);
+    }
+
+}  //  end of class
@@ -0,0 +1,489 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ *  <p>The class {@code InteriorPoint} solves a {@code LinearProgram} with the
+ *  primal-dual predictor-corrector method of Mehrotra.</p>
+ *  <p>The problem is written as <i>minimise c x subject to A x = b, x &ge; 0</i>,
+ *  with a slack or surplus variable for each inequality, and its dual as
+ *  <i>A<sup>T</sup>y + z = c, z &ge; 0</i>. Each iteration moves <i>x</i>,
+ *  <i>y</i> and <i>z</i> towards a point where both are feasible and
+ *  <i>x<sub>j</sub> z<sub>j</sub> = 0</i>, staying inside <i>x, z &gt; 0</i>.
+ *  The predictor step aims straight at that point and the corrector step bends
+ *  it back towards the centre, by how far the predictor could go. Both steps
+ *  solve the normal equations <i>A D A<sup>T</sup> dy = r</i>, where <i>D</i>
+ *  holds <i>x<sub>j</sub> / z<sub>j</sub></i>, with one {@code BlockedCholesky}
+ *  factorisation, which is formed and factorised on {@code pool}.</p>
+ *  <p>The number of iterations hardly grows with the size of the problem, usually
+ *  from 10 to 60, but each costs <i>O(m<sup>3</sup>)</i> for <i>m</i> constraints.
+ *  The solution is inside the feasible region rather than at a vertex unless
+ *  {@code crossover} is set, when {@code RevisedSimplex} finishes from the basis of
+ *  the largest variables.</p>
+ */
+
+public class InteriorPoint {
+
+    LinearProgram program;
+
+    /**
+     *  The {@code double} is the relative size below which the infeasibilities
+     *  and the duality gap are taken to be <i>0</i>
+     */
+    double tolerance = 1e-8;
+
+    /**
+     *  The {@code double} is the fraction of the longest step to the boundary
+     *  that is taken
+     */
+    double stepFraction = 0.99;
+
+    /**
+     *  The {@code int} is the largest number of iterations a solve may carry out
+     */
+    int iterationLimit = 200;
+
+    /**
+     *  The {@code int} is the number of iterations without progress after which
+     *  the problem is taken to have no optimum
+     */
+    int stallLimit = 15;
+
+    /**
+     *  The {@code long} is the time in milliseconds at which the solve stops,
+     *  or <i>0</i> for no limit
+     */
+    long deadline;
+
+    volatile boolean cancelled;
+
+    /**
+     *  The {@code boolean} is <i>true</i> to finish with {@code RevisedSimplex} from
+     *  the basis of the variables that are largest compared with their dual values
+     */
+    boolean crossover;
+
+    /**
+     *  The settings of the {@code RevisedSimplex} solve of the crossover
+     */
+    SolverOptions crossoverOptions = new SolverOptions();
+
+    /**
+     *  The pool used to form and factorise the normal equations, or {@code null}
+     *  to do so on the calling thread
+     */
+    ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    //  the problem in standard form, with a slack or surplus column after the variables for each inequality
+    private int rowNumber, columnNumber;
+    private int[] columnStarts, rowIndices;
+    private double[] values;
+    private int[] rowStarts, columnIndices;
+    private double[] rowValues;
+    private double[] costs, rightHandSides;
+
+    /**
+     *  The column of the slack or surplus variable of each constraint, or <i>-1</i>
+     *  for an <i>=</i> constraint
+     */
+    private int[] slackColumns;
+
+    private double[] x, y, z;
+    private BlockedCholesky cholesky;
+    int iteration;
+
+    /**
+     *  @param program is the problem to be solved, which is not changed
+     */
+    public InteriorPoint(LinearProgram program) {
+        this.program = program;
+    }  //  end of constructor
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     *  Solves the problem.
+     *
+     *  @return the solution, which is at a vertex only with {@code crossover}
+     */
+    public Solution solve() {
+        setUpStandardForm();
+        cholesky = new BlockedCholesky(rowNumber);
+        cholesky.pool = pool;
+
+        SolutionStatus status = iterate();
+        if (status == null) {
+            //  there seems to be no optimum, and the simplex method says why
+            Solution solution = Engine.REVISED.solveProgram(program, crossoverOptions);
+            solution.iterations += iteration;
+            return solution;
+        }
+
+        double[] variableValues = Arrays.copyOf(x, program.variableNumber);
+        if (status == SolutionStatus.OPTIMAL && crossover) {
+            RevisedSimplex revisedSimplex = new RevisedSimplex(program);
+            crossoverOptions.applyTo(revisedSimplex);
+            revisedSimplex.startBasis = getCrossoverBasis();
+            Solution solution = revisedSimplex.optimise();
+            solution.iterations += iteration;
+            return solution;
+        }
+        double objectiveValue = 0;
+        for (int j = 0; j < program.variableNumber; j++) {
+            objectiveValue += program.objective[j] * variableValues[j];
+        }
+        return new Solution(status, objectiveValue, variableValues, iteration);
+    }  //  end of solve()
+
+    /**
+     *  Adds a slack variable to each <i>&lt;</i> constraint and a surplus variable
+     *  to each <i>&gt;</i> constraint, and stores the coefficients by column and by row.
+     */
+    private void setUpStandardForm() {
+        SparseMatrix matrix = program.getSparseConstraints();
+        rowNumber = program.constraintNumber;
+        slackColumns = new int[rowNumber];
+        columnNumber = program.variableNumber;
+        for (int i = 0; i < rowNumber; i++) {
+            slackColumns[i] = program.symbols[i].equals("=") ? -1 : columnNumber++;
+        }
+
+        int nonZeroNumber = matrix.nonZeroNumber() + columnNumber - program.variableNumber;
+        columnStarts = Arrays.copyOf(matrix.columnStarts, columnNumber + 1);
+        rowIndices = Arrays.copyOf(matrix.rowIndices, nonZeroNumber);
+        values = Arrays.copyOf(matrix.values, nonZeroNumber);
+        costs = new double[columnNumber];
+        double sense = program.optimisationType == 1 ? -1 : 1;
+        for (int j = 0; j < program.variableNumber; j++) {
+            costs[j] = sense * program.objective[j];
+        }
+        int p = matrix.nonZeroNumber();
+        for (int i = 0; i < rowNumber; i++) {
+            if (slackColumns[i] >= 0) {
+                rowIndices[p] = i;
+                values[p++] = program.symbols[i].equals("<") ? 1 : -1;
+                columnStarts[slackColumns[i] + 1] = p;
+            }
+        }
+        rightHandSides = program.rightHandSides.clone();
+
+        //  the same coefficients by row, for forming the normal equations one row at a time
+        rowStarts = new int[rowNumber + 1];
+        for (int q = 0; q < nonZeroNumber; q++) {
+            rowStarts[rowIndices[q] + 1]++;
+        }
+        for (int i = 0; i < rowNumber; i++) {
+            rowStarts[i + 1] += rowStarts[i];
+        }
+        int[] next = Arrays.copyOf(rowStarts, rowNumber);
+        columnIndices = new int[nonZeroNumber];
+        rowValues = new double[nonZeroNumber];
+        for (int j = 0; j < columnNumber; j++) {
+            for (int q = columnStarts[j]; q < columnStarts[j + 1]; q++) {
+                columnIndices[next[rowIndices[q]]] = j;
+                rowValues[next[rowIndices[q]]++] = values[q];
+            }
+        }
+    }  //  end of setUpStandardForm()
+
+    /**
+     *  Carries out the iterations.
+     *
+     *  @return how the solve ended, or {@code null} if the iterates diverge or stop
+     *  getting closer to an optimum
+     */
+    private SolutionStatus iterate() {
+        setStartingPoint();
+        double rightHandSideNorm = 1 + norm(rightHandSides);
+        double costNorm = 1 + norm(costs);
+        double[] dx = new double[columnNumber], dy = new double[rowNumber], dz = new double[columnNumber];
+        double[] affineX = new double[columnNumber], affineY = new double[rowNumber],
+                affineZ = new double[columnNumber];
+        double[] complementarity = new double[columnNumber];
+        double bestError = Double.POSITIVE_INFINITY;
+        int bestIteration = 0;
+
+        for (iteration = 0; ; iteration++) {
+            //  the infeasibilities b - A x and c - A^T y - z
+            double[] primalResiduals = rightHandSides.clone();
+            multiply(x, primalResiduals, -1);
+            double[] dualResiduals = costs.clone();
+            multiplyTransposed(y, dualResiduals, -1);
+            for (int j = 0; j < columnNumber; j++) {
+                dualResiduals[j] -= z[j];
+            }
+            double primalValue = dot(costs, x);
+            double dualValue = dot(rightHandSides, y);
+            double error = Math.max(Math.max(norm(primalResiduals) / rightHandSideNorm, norm(dualResiduals) / costNorm),
+                    Math.abs(primalValue - dualValue) / (1 + Math.abs(primalValue)));
+            if (error <= tolerance) {
+                return SolutionStatus.OPTIMAL;
+            }
+            if (error < 0.9 * bestError) {
+                bestError = error;
+                bestIteration = iteration;
+            }
+            if (iteration - bestIteration >= stallLimit || largest(x) > 1e12 * rightHandSideNorm
+                    || largest(y) > 1e12 * costNorm || Double.isNaN(error)) {
+                return null;
+            }
+            if (iteration >= iterationLimit) {
+                return SolutionStatus.ITERATION_LIMIT;
+            }
+            if (cancelled || Thread.currentThread().isInterrupted()) {
+                return SolutionStatus.CANCELLED;
+            }
+            if (deadline > 0 && System.currentTimeMillis() >= deadline) {
+                return SolutionStatus.TIME_LIMIT;
+            }
+
+            double[] scales = new double[columnNumber];
+            for (int j = 0; j < columnNumber; j++) {
+                scales[j] = x[j] / z[j];
+            }
+            factorNormalEquations(scales);
+
+            //  the predictor aims at x z = 0
+            double mu = dot(x, z) / columnNumber;
+            for (int j = 0; j < columnNumber; j++) {
+                complementarity[j] = -x[j] * z[j];
+            }
+            solveNewton(scales, primalResiduals, dualResiduals, complementarity, affineX, affineY, affineZ);
+            double affinePrimalStep = getStepLength(x, affineX, 1);
+            double affineDualStep = getStepLength(z, affineZ, 1);
+            double affineMu = 0;
+            for (int j = 0; j < columnNumber; j++) {
+                affineMu += (x[j] + affinePrimalStep * affineX[j]) * (z[j] + affineDualStep * affineZ[j]);
+            }
+            affineMu /= columnNumber;
+            double centring = Math.pow(affineMu / mu, 3);
+
+            //  the corrector adds the second order term of the predictor and a pull to the centre
+            for (int j = 0; j < columnNumber; j++) {
+                complementarity[j] = -x[j] * z[j] - affineX[j] * affineZ[j] + centring * mu;
+            }
+            solveNewton(scales, primalResiduals, dualResiduals, complementarity, dx, dy, dz);
+            double primalStep = getStepLength(x, dx, stepFraction);
+            double dualStep = getStepLength(z, dz, stepFraction);
+            for (int j = 0; j < columnNumber; j++) {
+                x[j] += primalStep * dx[j];
+                z[j] += dualStep * dz[j];
+            }
+            for (int i = 0; i < rowNumber; i++) {
+                y[i] += dualStep * dy[i];
+            }
+        }  //  end of for
+    }  //  end of iterate()
+
+    /**
+     *  Sets the starting point of Mehrotra: the least squares solutions of
+     *  <i>A x = b</i> and <i>A<sup>T</sup>y + z = c</i>, moved inside <i>x, z &gt; 0</i>.
+     */
+    private void setStartingPoint() {
+        double[] ones = new double[columnNumber];
+        Arrays.fill(ones, 1);
+        factorNormalEquations(ones);
+
+        y = rightHandSides.clone();
+        cholesky.solve(y);
+        x = new double[columnNumber];
+        multiplyTransposed(y, x, 1);
+
+        y = new double[rowNumber];
+        multiply(costs, y, 1);
+        cholesky.solve(y);
+        z = costs.clone();
+        multiplyTransposed(y, z, -1);
+
+        double xShift = Math.max(-1.5 * smallest(x), 0);
+        double zShift = Math.max(-1.5 * smallest(z), 0);
+        for (int j = 0; j < columnNumber; j++) {
+            x[j] += xShift;
+            z[j] += zShift;
+        }
+        double product = dot(x, z);
+        double xSum = Arrays.stream(x).sum(), zSum = Arrays.stream(z).sum();
+        xShift = zSum > 0 ? 0.5 * product / zSum : 0;
+        zShift = xSum > 0 ? 0.5 * product / xSum : 0;
+        for (int j = 0; j < columnNumber; j++) {
+            //  a problem with b = 0 or c = 0 starts at the centre of the unit box
+            x[j] = product > 0 ? x[j] + xShift : x[j] + 1;
+            z[j] = product > 0 ? z[j] + zShift : z[j] + 1;
+        }
+    }  //  end of setStartingPoint()
+
+    /**
+     *  Forms the lower triangle of <i>A D A<sup>T</sup></i> and factorises it. Each row
+     *  is formed from the coefficients of that row of <i>A</i> alone, so the rows are
+     *  formed in parallel.
+     *
+     *  @param scales holds the diagonal of <i>D</i>
+     */
+    private void factorNormalEquations(double[] scales) {
+        double[] cells = cholesky.cells;
+        IntStream rows = IntStream.range(0, rowNumber);
+        if (pool != null && rowNumber >= cholesky.parallelThreshold) {
+            pool.submit(() -> rows.parallel().forEach(i -> formRow(i, scales, cells))).join();
+        }
+        else {
+            rows.forEach(i -> formRow(i, scales, cells));
+        }
+        cholesky.factor();
+    }  //  end of factorNormalEquations()
+
+    private void formRow(int row, double[] scales, double[] cells) {
+        int offset = row * rowNumber;
+        Arrays.fill(cells, offset, offset + row + 1, 0);
+        for (int p = rowStarts[row]; p < rowStarts[row + 1]; p++) {
+            int j = columnIndices[p];
+            double factor = rowValues[p] * scales[j];
+            for (int q = columnStarts[j]; q < columnStarts[j + 1] && rowIndices[q] <= row; q++) {
+                cells[offset + rowIndices[q]] += factor * values[q];
+            }
+        }
+    }  //  end of formRow()
+
+    /**
+     *  Solves the Newton equations <i>A dx = r<sub>b</sub></i>,
+     *  <i>A<sup>T</sup>dy + dz = r<sub>c</sub></i> and <i>Z dx + X dz = r<sub>xz</sub></i>
+     *  with the factorised normal equations.
+     */
+    private void solveNewton(double[] scales, double[] primalResiduals, double[] dualResiduals,
+            double[] complementarity, double[] dx, double[] dy, double[] dz) {
+        //  dx = t + D A^T dy, where t = (r_xz - X r_c) / z
+        double[] t = new double[columnNumber];
+        for (int j = 0; j < columnNumber; j++) {
+            t[j] = (complementarity[j] - x[j] * dualResiduals[j]) / z[j];
+        }
+        System.arraycopy(primalResiduals, 0, dy, 0, rowNumber);
+        multiply(t, dy, -1);
+        cholesky.solve(dy);
+
+        System.arraycopy(dualResiduals, 0, dz, 0, columnNumber);
+        multiplyTransposed(dy, dz, -1);
+        for (int j = 0; j < columnNumber; j++) {
+            dx[j] = t[j] + scales[j] * (dualResiduals[j] - dz[j]);
+        }
+    }  //  end of solveNewton()
+
+    /**
+     *  @return the largest step up to {@code limit} times the step to the boundary,
+     *  and at most <i>1</i>, that keeps {@code point + step * direction} above <i>0</i>
+     */
+    private static double getStepLength(double[] point, double[] direction, double limit) {
+        double step = 1 / limit;
+        for (int j = 0; j < point.length; j++) {
+            if (direction[j] < 0) {
+                step = Math.min(step, -point[j] / direction[j]);
+            }
+        }
+        return Math.min(1, limit * step);
+    }  //  end of getStepLength()
+
+    /**
+     *  Adds {@code sign} times <i>A v</i> to {@code result}.
+     */
+    private void multiply(double[] vector, double[] result, double sign) {
+        for (int j = 0; j < columnNumber; j++) {
+            double value = sign * vector[j];
+            if (value != 0) {
+                for (int p = columnStarts[j]; p < columnStarts[j + 1]; p++) {
+                    result[rowIndices[p]] += value * values[p];
+                }
+            }
+        }
+    }  //  end of multiply()
+
+    /**
+     *  Adds {@code sign} times <i>A<sup>T</sup>v</i> to {@code result}.
+     */
+    private void multiplyTransposed(double[] vector, double[] result, double sign) {
+        for (int j = 0; j < columnNumber; j++) {
+            double value = 0;
+            for (int p = columnStarts[j]; p < columnStarts[j + 1]; p++) {
+                value += values[p] * vector[rowIndices[p]];
+            }
+            result[j] += sign * value;
+        }
+    }  //  end of multiplyTransposed()
+
+    /**
+     *  @return the basis of the <i>m</i> columns with the largest <i>x<sub>j</sub> /
+     *  z<sub>j</sub></i>, which is the optimal basis when the solution is not degenerate
+     */
+    private Basis getCrossoverBasis() {
+        Integer[] order = new Integer[columnNumber + rowNumber];
+        double[] ratios = new double[order.length];
+        for (int j = 0; j < columnNumber; j++) {
+            ratios[j] = x[j] / z[j];
+        }
+        for (int i = 0; i < rowNumber; i++) {
+            order[columnNumber + i] = columnNumber + i;  //  the artificial variable of an = constraint
+        }
+        for (int j = 0; j < columnNumber; j++) {
+            order[j] = j;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(ratios[b], ratios[a]));
+
+        boolean[] basicVariables = new boolean[program.variableNumber];
+        boolean[] basicRows = new boolean[rowNumber];
+        int[] slackRows = new int[columnNumber];
+        Arrays.fill(slackRows, -1);
+        for (int i = 0; i < rowNumber; i++) {
+            if (slackColumns[i] >= 0) {
+                slackRows[slackColumns[i]] = i;
+            }
+        }
+        int count = 0;
+        for (int k = 0; k < order.length && count < rowNumber; k++) {
+            int column = order[k];
+            if (column >= columnNumber) {
+                int row = column - columnNumber;
+                if (slackColumns[row] < 0 && !basicRows[row]) {
+                    basicRows[row] = true;
+                    count++;
+                }
+            }
+            else if (column < program.variableNumber) {
+                basicVariables[column] = true;
+                count++;
+            }
+            else {
+                basicRows[slackRows[column]] = true;
+                count++;
+            }
+        }
+        return new Basis(basicVariables, basicRows);
+    }  //  end of getCrossoverBasis()
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0;
+        for (int k = 0; k < a.length; k++) {
+            sum += a[k] * b[k];
+        }
+        return sum;
+    }
+
+    private static double norm(double[] vector) {
+        return Math.sqrt(dot(vector, vector));
+    }
+
+    private static double largest(double[] vector) {
+        double largest = 0;
+        for (double value : vector) {
+            largest = Math.max(largest, Math.abs(value));
+        }
+        return largest;
+    }
+
+    private static double smallest(double[] vector) {
+        double smallest = Double.POSITIVE_INFINITY;
+        for (double value : vector) {
+            smallest = Math.min(smallest, value);
+        }
+        return vector.length == 0 ? 0 : smallest;
+    }
+
+}  //  end of class
@@ -0,0 +1,36 @@
+/**
+ *  <p>The interface {@code IterationListener} is told about the progress of a
+ *  solve. Add one to {@code Simplex.listeners} before solving.</p>
+ *  <p>The methods are called on the solving thread between iterations, so they
+ *  should return quickly and leave slow work, such as writing, to another thread.</p>
+ */
+
+public interface IterationListener {
+
+    /**
+     *  Called once the first tableau has been set up, before the first iteration.
+     *
+     *  @param simplex is the problem being solved
+     */
+    default void solveStarted(Simplex simplex) {
+    }
+
+    /**
+     *  Called after each iteration. {@code simplex.enteringColumn} and
+     *  {@code simplex.leavingColumn} tell which variables changed places, and
+     *  are <i>-1</i> when the iteration started the second phase.
+     *
+     *  @param simplex is the problem being solved
+     */
+    void iterationDone(Simplex simplex);
+
+    /**
+     *  Called once the solve has ended.
+     *
+     *  @param simplex is the problem that was solved
+     *  @param solution is the result of the solve
+     */
+    default void solveFinished(Simplex simplex, Solution solution) {
+    }
+
+}  //  end of interface
@@ -0,0 +1,162 @@
+/**
+ *  <p>The class {@code LinearProgram} holds an optimisation problem
+ *  independently of the method used to solve it.</p>
+ *  <p>It contains the same input that is entered into a {@code Simplex} object:
+ *  the coefficients of the objective function, the coefficients, symbols and
+ *  solutions of the constraints, and the type of optimisation.</p>
+ */
+
+public class LinearProgram {
+
+    /**
+     *  The {@code int} value can only be above 0
+     */
+    int constraintNumber;
+
+    /**
+     *  The {@code int} value can only be above 0
+     */
+    int variableNumber;
+
+    /**
+     *  The {@code int} can only have <i>1</i> or <i>2</i>
+     *  indicating <b>Maximisation</b> or <b>Minimisation</b>
+     *  problems respectively
+     */
+    int optimisationType;
+
+    /**
+     *  The coefficients of the variables in the objective function
+     */
+    double[] objective;
+
+    /**
+     *  The coefficients of the variables in each constraint.
+     *  It is {@code null} when the problem was created with a {@code SparseMatrix}
+     */
+    double[][] constraints;
+
+    /**
+     *  The coefficients of the constraints that are not <i>0</i>, with a row for
+     *  each constraint and a column for each variable
+     */
+    SparseMatrix sparseConstraints;
+
+    /**
+     *  The {@code string} can only have <i><</i>, <i>></i> or <i>=</i> as its value
+     */
+    String[] symbols;
+
+    /**
+     *  The solution of each constraint
+     */
+    double[] rightHandSides;
+
+    /**
+     *  The {@code boolean} values are <i>true</i> for each variable that can only take
+     *  a whole number value. It is {@code null} when every variable is continuous,
+     *  and it is used only by {@code BranchAndBound}
+     */
+    boolean[] integerVariables;
+
+    /**
+     *  Creates an empty {@code LinearProgram} with a specified number
+     *  of constraints, variables and type of optimisation.
+     *
+     *  @param constraintNumber should greater than 0
+     *  @param variableNumber should be greater than 0
+     *  @param optimisationType can only be 1 or 2
+     */
+    public LinearProgram(int constraintNumber, int variableNumber, int optimisationType) {
+        this.constraintNumber = constraintNumber;
+        this.variableNumber = variableNumber;
+        this.optimisationType = optimisationType;
+        this.objective = new double[variableNumber];
+        this.constraints = new double[constraintNumber][variableNumber];
+        this.symbols = new String[constraintNumber];
+        this.rightHandSides = new double[constraintNumber];
+    }  //  end of constructor
+
+    /**
+     *  Creates a {@code LinearProgram} whose constraint coefficients are held
+     *  only in a {@code SparseMatrix}, so that no dense array is allocated.
+     *
+     *  @param optimisationType can only be 1 or 2
+     *  @param sparseConstraints has a row for each constraint and a column for each variable
+     */
+    public LinearProgram(int optimisationType, SparseMatrix sparseConstraints) {
+        this.constraintNumber = sparseConstraints.rowNumber;
+        this.variableNumber = sparseConstraints.columnNumber;
+        this.optimisationType = optimisationType;
+        this.objective = new double[variableNumber];
+        this.sparseConstraints = sparseConstraints;
+        this.symbols = new String[constraintNumber];
+        this.rightHandSides = new double[constraintNumber];
+    }  //  end of constructor
+
+    /**
+     *  @return the coefficients of the constraints as a {@code SparseMatrix},
+     *  which is created from {@code constraints} the first time it is needed
+     */
+    public SparseMatrix getSparseConstraints() {
+        if (sparseConstraints == null) {
+            sparseConstraints = SparseMatrix.fromDense(constraints, variableNumber);
+        }
+        return sparseConstraints;
+    }  //  end of getSparseConstraints()
+
+    /**
+     *  Copies the problem entered into a {@code Simplex} object.
+     *  It must be called before {@code simplex.prepareSimpex()}.
+     *
+     *  @param simplex holds the coefficients and symbols of the problem
+     *  @return a {@code LinearProgram} with the same problem
+     */
+    public static LinearProgram fromSimplex(Simplex simplex) {
+        LinearProgram program = new LinearProgram(simplex.constraintNumber, simplex.variableNumber,
+                simplex.optimisationType);
+        for (int j = 0; j < program.variableNumber; j++) {
+            program.objective[j] = simplex.coefficients[0][j];
+        }
+        for (int i = 0; i < program.constraintNumber; i++) {
+            for (int j = 0; j < program.variableNumber; j++) {
+                program.constraints[i][j] = simplex.coefficients[i + 1][j];
+            }
+            program.symbols[i] = simplex.symbols[i];
+            program.rightHandSides[i] = simplex.coefficients[i + 1][simplex.colSize - 1];
+        }
+        return program;
+    }  //  end of fromSimplex()
+
+    /**
+     *  Creates a {@code Simplex} object holding this problem.
+     *  {@code prepareSimpex()} has not been called on it.
+     *
+     *  @return a new {@code Simplex} object
+     */
+    public Simplex toSimplex() {
+        Simplex simplex = new Simplex(constraintNumber, variableNumber, optimisationType);
+        for (int j = 0; j < variableNumber; j++) {
+            simplex.coefficients[0][j] = objective[j];
+        }
+        if (constraints == null) {
+            SparseMatrix matrix = sparseConstraints;
+            for (int j = 0; j < variableNumber; j++) {
+                for (int p = matrix.columnStarts[j]; p < matrix.columnStarts[j + 1]; p++) {
+                    simplex.coefficients[matrix.rowIndices[p] + 1][j] = matrix.values[p];
+                }
+            }
+        }
+        for (int i = 0; i < constraintNumber; i++) {
+            if (constraints != null) {
+                for (int j = 0; j < variableNumber; j++) {
+                    simplex.coefficients[i + 1][j] = constraints[i][j];
+                }
+            }
+            simplex.symbols[i] = symbols[i];
+            simplex.coefficients[i + 1][simplex.colSize - 1] = rightHandSides[i];
+        }
+        return simplex;
+    }  //  end of toSimplex()
+
+}  //  end of class
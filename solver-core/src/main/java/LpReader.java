@@ -0,0 +1,442 @@
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ *  <p>The class {@code LpReader} reads a model written in CPLEX LP format:</p>
+ *  <pre>
+ *  Maximize
+ *   obj: 3 x1 + 5 x2
+ *  Subject To
+ *   c1: x1 &lt;= 4
+ *   c2: 2 x2 &lt;= 12
+ *   c3: 3 x1 + 2 x2 &lt;= 18
+ *  Bounds
+ *   x1 &lt;= 3
+ *  End
+ *  </pre>
+ *  <p>Expressions may go over several lines and text after a backslash is a
+ *  comment. The variables in the sections {@code General} and {@code Binary} are
+ *  marked as integer, and binary variables are given the bounds <i>0</i> and
+ *  <i>1</i>. Bounds that let a variable go below <i>0</i> are not supported.</p>
+ *  <p>The file is read through a {@code ModelScanner}, so names and numbers are
+ *  read from the mapped bytes and coefficients go straight into a
+ *  {@code TripletList}.</p>
+ */
+
+public class LpReader {
+
+    private enum Section { NONE, OBJECTIVE, CONSTRAINTS, BOUNDS, GENERALS, BINARIES, END }
+
+    private enum Token { END_OF_LINE, NUMBER, NAME, PLUS, MINUS, COLON, LESS, GREATER, EQUAL }
+
+    private final ModelScanner scanner;
+    private final ModelBuilder builder = new ModelBuilder();
+    private Section section = Section.NONE;
+
+    //  the tokenizer
+    private Token token;
+    private double number;
+
+    //  the expression being read
+    private boolean inStatement;
+    private double sign = 1;
+    private double coefficient = Double.NaN;
+    private double constant;
+    private String symbol;
+    private double rightHandSideSign = 1;
+
+    private LpReader(ModelScanner scanner) {
+        this.scanner = scanner;
+    }
+
+    /**
+     *  Reads a model from a file.
+     *
+     *  @param path is the file to be read
+     *  @return the model
+     *  @throws IOException if the file cannot be read
+     *  @throws IllegalArgumentException if the file is not in CPLEX LP format
+     */
+    public static LinearProgram read(Path path) throws IOException {
+        try (ModelScanner scanner = new ModelScanner(path)) {
+            return new LpReader(scanner).read();
+        }
+    }  //  end of read()
+
+    private LinearProgram read() throws IOException {
+        while (section != Section.END && scanner.nextLine()) {
+            if (section == Section.OBJECTIVE || !inStatement) {
+                readKeyword();
+            }
+            if (section == Section.BOUNDS) {
+                readBound();
+                continue;
+            }
+            for (nextToken(); token != Token.END_OF_LINE; nextToken()) {
+                switch (section) {
+                    case OBJECTIVE:
+                    case CONSTRAINTS:
+                        readExpression();
+                        break;
+                    case GENERALS:
+                    case BINARIES:
+                        readInteger();
+                        break;
+                    default:
+                        throw error("data found outside a section");
+                }
+            }
+        }  //  end of while
+        if (inStatement && section != Section.OBJECTIVE) {
+            throw error("the last constraint is not complete");
+        }
+        return builder.build();
+    }  //  end of read()
+
+    /**
+     *  Changes the section if the line starts with a keyword, leaving the
+     *  tokenizer after the keyword.
+     */
+    private void readKeyword() {
+        int start = scanner.cursor;
+        nextToken();
+        if (token != Token.NAME) {
+            scanner.cursor = start;
+            return;
+        }
+
+        Section next = null;
+        if (isToken("maximize") || isToken("maximise") || isToken("maximum") || isToken("max")) {
+            builder.optimisationType = 1;
+            next = Section.OBJECTIVE;
+        }
+        else if (isToken("minimize") || isToken("minimise") || isToken("minimum") || isToken("min")) {
+            builder.optimisationType = 2;
+            next = Section.OBJECTIVE;
+        }
+        else if (isToken("st") || isToken("s.t.") || isToken("st.")) {
+            next = Section.CONSTRAINTS;
+        }
+        else if (isToken("subject") || isToken("such")) {
+            int afterFirst = scanner.cursor;
+            nextToken();
+            if (token == Token.NAME && (isToken("to") || isToken("that"))) {
+                next = Section.CONSTRAINTS;
+            }
+            else {
+                scanner.cursor = afterFirst;
+            }
+        }
+        else if (isToken("bounds") || isToken("bound")) {
+            next = Section.BOUNDS;
+        }
+        else if (isToken("generals") || isToken("general") || isToken("gen")
+                || isToken("integers") || isToken("integer")) {
+            next = Section.GENERALS;
+        }
+        else if (isToken("binaries") || isToken("binary") || isToken("bin")) {
+            next = Section.BINARIES;
+        }
+        else if (isToken("end")) {
+            next = Section.END;
+        }
+
+        if (next == null) {
+            scanner.cursor = start;
+            return;
+        }
+        if (section == Section.OBJECTIVE) {
+            endStatement();
+        }
+        section = next;
+    }  //  end of readKeyword()
+
+    /**
+     *  Reads the current token of the objective function or of a constraint.
+     */
+    private void readExpression() {
+        if (symbol != null) {
+            //  after the symbol only the solution is left
+            if (token == Token.MINUS) {
+                rightHandSideSign = -rightHandSideSign;
+            }
+            else if (token == Token.NUMBER) {
+                int row = builder.addRow(symbol);
+                builder.rightHandSides[row] = rightHandSideSign * number - constant;
+                endStatement();
+            }
+            else if (token != Token.PLUS) {
+                throw error("the solution of the constraint must be a number");
+            }
+            return;
+        }
+
+        switch (token) {
+            case NAME:
+                if (!inStatement && nextIsColon()) {
+                    //  the name of the objective function or constraint is not kept
+                    nextToken();
+                    inStatement = true;
+                    return;
+                }
+                int column = builder.column(scanner.buffer, scanner.tokenStart, scanner.tokenEnd);
+                double value = sign * (Double.isNaN(coefficient) ? 1 : coefficient);
+                if (section == Section.OBJECTIVE) {
+                    builder.objective[column] += value;
+                }
+                else {
+                    builder.coefficients.add(builder.rowCount, column, value);
+                }
+                sign = 1;
+                coefficient = Double.NaN;
+                break;
+            case NUMBER:
+                if (!Double.isNaN(coefficient)) {
+                    throw error("two numbers without a variable");
+                }
+                coefficient = number;
+                break;
+            case PLUS:
+            case MINUS:
+                addConstant();
+                if (token == Token.MINUS) {
+                    sign = -sign;
+                }
+                break;
+            case LESS:
+            case GREATER:
+            case EQUAL:
+                if (section == Section.OBJECTIVE) {
+                    throw error("the objective function cannot have " + scanner.token());
+                }
+                addConstant();
+                symbol = token == Token.LESS ? "<" : token == Token.GREATER ? ">" : "=";
+                break;
+            default:
+                throw error(scanner.token() + " was not expected");
+        }
+        inStatement = true;
+    }  //  end of readExpression()
+
+    /**
+     *  A number that is not followed by a variable is a constant, which
+     *  is moved to the solution of a constraint.
+     */
+    private void addConstant() {
+        if (!Double.isNaN(coefficient)) {
+            constant += sign * coefficient;
+            coefficient = Double.NaN;
+            sign = 1;
+        }
+    }  //  end of addConstant()
+
+    private void endStatement() {
+        inStatement = false;
+        sign = 1;
+        coefficient = Double.NaN;
+        constant = 0;
+        symbol = null;
+        rightHandSideSign = 1;
+    }  //  end of endStatement()
+
+    /**
+     *  Reads a line of the bounds section, which has one of the forms
+     *  <i>x free</i>, <i>x &lt;= u</i>, <i>x &gt;= l</i>, <i>x = v</i>,
+     *  <i>l &lt;= x</i> and <i>l &lt;= x &lt;= u</i>.
+     */
+    private void readBound() {
+        nextToken();
+        if (token == Token.END_OF_LINE) {
+            return;
+        }
+
+        if (token == Token.NAME && !isInfinity()) {
+            int column = builder.column(scanner.buffer, scanner.tokenStart, scanner.tokenEnd);
+            nextToken();
+            if (token == Token.NAME && isToken("free")) {
+                builder.lowerBounds[column] = Double.NEGATIVE_INFINITY;
+                return;
+            }
+            Token relation = readRelation();
+            setBound(column, relation, readValue(), false);
+        }
+        else {
+            double value = readValue();
+            nextToken();
+            Token relation = readRelation();
+            nextToken();
+            if (token != Token.NAME) {
+                throw error("variable expected");
+            }
+            int column = builder.column(scanner.buffer, scanner.tokenStart, scanner.tokenEnd);
+            setBound(column, relation, value, true);
+            nextToken();
+            if (token != Token.END_OF_LINE) {
+                relation = readRelation();
+                setBound(column, relation, readValue(), false);
+            }
+        }
+        nextToken();
+        if (token != Token.END_OF_LINE) {
+            throw error(scanner.token() + " was not expected");
+        }
+    }  //  end of readBound()
+
+    private void setBound(int column, Token relation, double value, boolean valueFirst) {
+        if (relation == Token.EQUAL) {
+            builder.lowerBounds[column] = value;
+            builder.upperBounds[column] = value;
+        }
+        else if ((relation == Token.LESS) != valueFirst) {
+            builder.upperBounds[column] = value;
+        }
+        else {
+            builder.lowerBounds[column] = value;
+        }
+    }  //  end of setBound()
+
+    private Token readRelation() {
+        if (token != Token.LESS && token != Token.GREATER && token != Token.EQUAL) {
+            throw error("<=, >= or = expected");
+        }
+        return token;
+    }  //  end of readRelation()
+
+    /**
+     *  Reads a number with its sign, starting at the current token if it has
+     *  been read or else at the next one.
+     */
+    private double readValue() {
+        if (token != Token.PLUS && token != Token.MINUS && token != Token.NUMBER && token != Token.NAME) {
+            nextToken();
+        }
+        double valueSign = 1;
+        while (token == Token.PLUS || token == Token.MINUS) {
+            if (token == Token.MINUS) {
+                valueSign = -valueSign;
+            }
+            nextToken();
+        }
+        if (token == Token.NUMBER) {
+            return valueSign * number;
+        }
+        if (token == Token.NAME && isInfinity()) {
+            return valueSign * Double.POSITIVE_INFINITY;
+        }
+        throw error("number expected");
+    }  //  end of readValue()
+
+    private void readInteger() {
+        if (token != Token.NAME) {
+            throw error("variable expected");
+        }
+        int column = builder.column(scanner.buffer, scanner.tokenStart, scanner.tokenEnd);
+        builder.integers[column] = true;
+        if (section == Section.BINARIES) {
+            builder.lowerBounds[column] = 0;
+            builder.upperBounds[column] = 1;
+        }
+    }  //  end of readInteger()
+
+    /**
+     *  Reads the next token of the line, setting {@code token}, and
+     *  {@code number} when the token is a number.
+     */
+    private void nextToken() {
+        int cursor = scanner.cursor;
+        int end = scanner.lineEnd;
+        while (cursor < end && ModelScanner.isSpace(scanner.get(cursor))) {
+            cursor++;
+        }
+        scanner.tokenStart = cursor;
+        if (cursor == end || scanner.get(cursor) == '\\') {
+            scanner.cursor = end;
+            scanner.tokenEnd = end;
+            token = Token.END_OF_LINE;
+            return;
+        }
+
+        byte b = scanner.get(cursor++);
+        switch (b) {
+            case '+':
+                token = Token.PLUS;
+                break;
+            case '-':
+                token = Token.MINUS;
+                break;
+            case ':':
+                token = Token.COLON;
+                break;
+            case '<':
+            case '>':
+            case '=':
+                token = b == '<' ? Token.LESS : b == '>' ? Token.GREATER : Token.EQUAL;
+                if (cursor < end && (scanner.get(cursor) == '=' || scanner.get(cursor) == '<' || scanner.get(cursor) == '>')) {
+                    if (b == '=') {
+                        token = scanner.get(cursor) == '<' ? Token.LESS : scanner.get(cursor) == '>' ? Token.GREATER : Token.EQUAL;
+                    }
+                    cursor++;
+                }
+                break;
+            default:
+                if (b >= '0' && b <= '9' || b == '.') {
+                    while (cursor < end && (isDigit(scanner.get(cursor)) || scanner.get(cursor) == '.')) {
+                        cursor++;
+                    }
+                    if (cursor < end && (scanner.get(cursor) == 'e' || scanner.get(cursor) == 'E')) {
+                        int exponent = cursor + 1;
+                        if (exponent < end && (scanner.get(exponent) == '+' || scanner.get(exponent) == '-')) {
+                            exponent++;
+                        }
+                        if (exponent < end && isDigit(scanner.get(exponent))) {
+                            cursor = exponent;
+                            while (cursor < end && isDigit(scanner.get(cursor))) {
+                                cursor++;
+                            }
+                        }
+                    }
+                    token = Token.NUMBER;
+                    scanner.tokenEnd = cursor;
+                    number = scanner.parseNumber(scanner.tokenStart, cursor);
+                }
+                else {
+                    while (cursor < end && !isNameEnd(scanner.get(cursor))) {
+                        cursor++;
+                    }
+                    token = Token.NAME;
+                }
+        }  //  end of switch
+        scanner.tokenEnd = cursor;
+        scanner.cursor = cursor;
+    }  //  end of nextToken()
+
+    private boolean nextIsColon() {
+        int cursor = scanner.cursor;
+        while (cursor < scanner.lineEnd && ModelScanner.isSpace(scanner.get(cursor))) {
+            cursor++;
+        }
+        return cursor < scanner.lineEnd && scanner.get(cursor) == ':';
+    }  //  end of nextIsColon()
+
+    private boolean isToken(String text) {
+        return scanner.tokenIs(text);
+    }
+
+    private boolean isInfinity() {
+        return isToken("inf") || isToken("infinity");
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean isNameEnd(byte b) {
+        return ModelScanner.isSpace(b) || b == '+' || b == '-' || b == ':' || b == '<' || b == '>' || b == '='
+                || b == '\\';
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("Line " + scanner.lineNumber + ": " + message);
+    }
+
+}  //  end of class
@@ -0,0 +1,137 @@
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ *  <p>The class {@code MetricsSnapshot} holds the totals of every solve a
+ *  {@code SolverInstrumentation} had recorded when {@code snapshot()} was called.
+ *  The counts only grow, so an exporter finds the rates by subtracting the
+ *  counts of the previous snapshot.</p>
+ */
+
+public class MetricsSnapshot {
+
+    /**
+     *  The {@code long} is the time the snapshot was taken, in milliseconds since 1970
+     */
+    long time;
+
+    /**
+     *  The {@code long} is the number of solves recorded
+     */
+    long solves;
+
+    /**
+     *  The number of solves that ended with each status
+     */
+    final Map<SolutionStatus, Long> statusCounts = new EnumMap<>(SolutionStatus.class);
+
+    /**
+     *  The {@code long} values are the total iterations, degenerate pivots and
+     *  refactorisations of the solves
+     */
+    long iterations, degeneratePivots, refactorizations;
+
+    /**
+     *  The total time spent in each {@code SolvePhase} in nanoseconds
+     */
+    final long[] phaseTimes = new long[SolvePhase.values().length];
+
+    /**
+     *  The time of each solve in nanoseconds
+     */
+    Histogram solveTimes = new Histogram();
+
+    /**
+     *  The time of each pivot of the timed solves in nanoseconds
+     */
+    Histogram pivotTimes = new Histogram();
+
+    /**
+     *  Adds a solve to the totals.
+     */
+    void add(SolveMetrics metrics, SolutionStatus status) {
+        solves++;
+        statusCounts.merge(status, 1L, Long::sum);
+        iterations += metrics.iterations;
+        degeneratePivots += metrics.degeneratePivots;
+        refactorizations += metrics.refactorizations;
+        for (int k = 0; k < phaseTimes.length; k++) {
+            phaseTimes[k] += metrics.phaseTimes[k];
+        }
+        solveTimes.record(metrics.solveTime);
+        pivotTimes.add(metrics.pivotTimes);
+    }  //  end of add()
+
+    /**
+     *  @return a copy of these totals, taken now
+     */
+    MetricsSnapshot copy() {
+        MetricsSnapshot snapshot = new MetricsSnapshot();
+        snapshot.time = System.currentTimeMillis();
+        snapshot.solves = solves;
+        snapshot.statusCounts.putAll(statusCounts);
+        snapshot.iterations = iterations;
+        snapshot.degeneratePivots = degeneratePivots;
+        snapshot.refactorizations = refactorizations;
+        System.arraycopy(phaseTimes, 0, snapshot.phaseTimes, 0, phaseTimes.length);
+        snapshot.solveTimes = solveTimes.copy();
+        snapshot.pivotTimes = pivotTimes.copy();
+        return snapshot;
+    }  //  end of copy()
+
+    public long getTime() {
+        return time;
+    }
+
+    public long getSolves() {
+        return solves;
+    }
+
+    /**
+     *  @return the number of solves that ended with {@code status}
+     */
+    public long getStatusCount(SolutionStatus status) {
+        return statusCounts.getOrDefault(status, 0L);
+    }
+
+    public long getIterations() {
+        return iterations;
+    }
+
+    public long getDegeneratePivots() {
+        return degeneratePivots;
+    }
+
+    public long getRefactorizations() {
+        return refactorizations;
+    }
+
+    /**
+     *  @return the total time spent in {@code phase} in nanoseconds
+     */
+    public long getPhaseTime(SolvePhase phase) {
+        return phaseTimes[phase.ordinal()];
+    }
+
+    public Histogram getSolveTimes() {
+        return solveTimes;
+    }
+
+    public Histogram getPivotTimes() {
+        return pivotTimes;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(String.format(
+                "solves=%d %s iterations=%d degenerate=%d refactorizations=%d",
+                solves, statusCounts, iterations, degeneratePivots, refactorizations));
+        for (SolvePhase phase : SolvePhase.values()) {
+            text.append(String.format(" %s=%.3fms", phase.name().toLowerCase(), getPhaseTime(phase) / 1e6));
+        }
+        text.append("\nsolve time (ns): ").append(solveTimes);
+        text.append("\npivot time (ns): ").append(pivotTimes);
+        return text.toString();
+    }  //  end of toString()
+
+}  //  end of class
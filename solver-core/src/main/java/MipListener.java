@@ -0,0 +1,19 @@
+/**
+ *  <p>The interface {@code MipListener} is told about the progress of a
+ *  {@code BranchAndBound} search. Add one to {@code BranchAndBound.listeners}
+ *  before solving.</p>
+ *  <p>The method is called on one worker thread at a time, so it should return
+ *  quickly. It may call {@code BranchAndBound.stop()} to end the search.</p>
+ */
+
+public interface MipListener {
+
+    /**
+     *  Called when a better solution is found and otherwise at most once every
+     *  {@code BranchAndBound.reportInterval} milliseconds.
+     *
+     *  @param progress is the state of the search
+     */
+    void progressMade(MipProgress progress);
+
+}  //  end of interface
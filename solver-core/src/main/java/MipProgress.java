@@ -0,0 +1,71 @@
+/**
+ *  <p>The class {@code MipProgress} records how far {@code BranchAndBound} had got
+ *  at one moment: the best whole number solution found, the bound that no solution
+ *  can beat and the relative gap between them.</p>
+ */
+
+public class MipProgress {
+
+    /**
+     *  The {@code long} is the time since the search started in nanoseconds
+     */
+    final long time;
+
+    /**
+     *  The {@code long} is the number of nodes solved
+     */
+    final long nodes;
+
+    /**
+     *  The value of <i>P</i> for the best solution found, or infinity,
+     *  with the sign of a solution that is not possible, if none has been found
+     */
+    final double incumbentValue;
+
+    /**
+     *  The best value of <i>P</i> any solution can have
+     */
+    final double bound;
+
+    /**
+     *  The {@code double} is the difference between {@code incumbentValue} and
+     *  {@code bound} divided by the size of {@code incumbentValue}, which is
+     *  infinity until a solution has been found
+     */
+    final double gap;
+
+    MipProgress(long time, long nodes, double incumbentValue, double bound, double gap) {
+        this.time = time;
+        this.nodes = nodes;
+        this.incumbentValue = incumbentValue;
+        this.bound = bound;
+        this.gap = gap;
+    }  //  end of constructor
+
+    public long getTime() {
+        return time;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public double getIncumbentValue() {
+        return incumbentValue;
+    }
+
+    public double getBound() {
+        return bound;
+    }
+
+    public double getGap() {
+        return gap;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%10.3f s %10d nodes   P = %-14.6g bound = %-14.6g gap = %.4g%%", time / 1e9, nodes,
+                incumbentValue, bound, gap * 100);
+    }
+
+}  //  end of class
@@ -0,0 +1,55 @@
+import java.util.List;
+
+/**
+ *  <p>The class {@code MipSolution} holds the result of a {@code BranchAndBound}
+ *  search: the best whole number solution found, with the bound and the gap that
+ *  say how far it can be from the optimum, and the gap over the time taken.</p>
+ *  <p>The status is {@code OPTIMAL} when the gap is within {@code relativeGap},
+ *  and {@code INFEASIBLE} when the search ended without a solution. When it was
+ *  stopped by a limit or cancelled, the variable values are those of the best
+ *  solution found so far, or {@code null} if there is none.</p>
+ */
+
+public class MipSolution extends Solution {
+
+    /**
+     *  The best value of <i>P</i> any solution can have
+     */
+    double bound;
+
+    /**
+     *  The {@code double} is the relative gap between the objective value and {@code bound}
+     */
+    double gap;
+
+    /**
+     *  The {@code long} is the number of nodes solved
+     */
+    long nodes;
+
+    /**
+     *  The progress reported during the search, ending with the final state
+     */
+    List<MipProgress> progress;
+
+    public MipSolution(SolutionStatus status, double objectiveValue, double[] variableValues, int iterations) {
+        super(status, objectiveValue, variableValues, iterations);
+    }  //  end of constructor
+
+    public double getBound() {
+        return bound;
+    }
+
+    public double getGap() {
+        return gap;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public List<MipProgress> getProgress() {
+        return progress;
+    }
+
+}  //  end of class
@@ -0,0 +1,230 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ *  <p>The class {@code ModelBuilder} collects a model as it is read by
+ *  {@code MpsReader} or {@code LpReader} and turns it into a {@code LinearProgram}.</p>
+ *  <p>Rows and columns are numbered in the order their names are first read,
+ *  and coefficients go into a {@code TripletList}. Ranges and bounds on the
+ *  variables are added as extra constraints when the model is built, since
+ *  every variable of a {@code LinearProgram} is at least <i>0</i>.</p>
+ */
+
+public class ModelBuilder {
+
+    /**
+     *  The {@code int} can only have <i>1</i> or <i>2</i>
+     *  indicating <b>Maximisation</b> or <b>Minimisation</b>
+     *  problems respectively
+     */
+    int optimisationType = 2;
+
+    NameTable rowNames = new NameTable();
+    NameTable columnNames = new NameTable();
+    TripletList coefficients = new TripletList();
+
+    double[] objective = new double[256];
+    String[] symbols = new String[256];
+    double[] rightHandSides = new double[256];
+
+    /**
+     *  The range of each row, which is {@code NaN} for rows without one
+     */
+    double[] ranges = new double[256];
+
+    /**
+     *  The bounds of each variable, which are <i>0</i> and infinity
+     *  unless they are set
+     */
+    double[] lowerBounds = new double[256];
+    double[] upperBounds = new double[256];
+
+    /**
+     *  The {@code boolean} values are <i>true</i> for each integer variable
+     */
+    boolean[] integers = new boolean[256];
+
+    /**
+     *  The {@code boolean} is <i>true</i> while the columns read are integer,
+     *  as between the integer markers of an MPS file
+     */
+    boolean readingIntegers;
+
+    private int rowCapacity = 256;
+    private int columnCapacity = 256;
+    private int boundedColumns;
+
+    /**
+     *  The {@code int} is the number of constraints added
+     */
+    int rowCount;
+
+    /**
+     *  Adds a constraint, or changes its symbol if a constraint with the
+     *  same name has been added.
+     *
+     *  @param symbol can only be <i><</i>, <i>></i> or <i>=</i>
+     *  @return the number of the constraint
+     */
+    public int addRow(ByteBuffer buffer, int start, int end, String symbol) {
+        int row = rowNames.add(buffer, start, end);
+        if (row == rowCount) {
+            return addRow(symbol);
+        }
+        symbols[row] = symbol;
+        return row;
+    }  //  end of addRow()
+
+    /**
+     *  Adds a constraint without a name. A model should add either named
+     *  or unnamed constraints, not both.
+     *
+     *  @param symbol can only be <i><</i>, <i>></i> or <i>=</i>
+     *  @return the number of the constraint
+     */
+    public int addRow(String symbol) {
+        int row = rowCount++;
+        if (row == rowCapacity) {
+            rowCapacity *= 2;
+            symbols = Arrays.copyOf(symbols, rowCapacity);
+            rightHandSides = Arrays.copyOf(rightHandSides, rowCapacity);
+            ranges = Arrays.copyOf(ranges, rowCapacity);
+        }
+        symbols[row] = symbol;
+        ranges[row] = Double.NaN;
+        return row;
+    }  //  end of addRow()
+
+    /**
+     *  Finds a variable, adding it if it has not been read before.
+     *
+     *  @return the number of the variable
+     */
+    public int column(ByteBuffer buffer, int start, int end) {
+        int column = columnNames.add(buffer, start, end);
+        if (column == columnCapacity) {
+            columnCapacity *= 2;
+            objective = Arrays.copyOf(objective, columnCapacity);
+            lowerBounds = Arrays.copyOf(lowerBounds, columnCapacity);
+            upperBounds = Arrays.copyOf(upperBounds, columnCapacity);
+            integers = Arrays.copyOf(integers, columnCapacity);
+        }
+        if (column == boundedColumns) {
+            upperBounds[column] = Double.POSITIVE_INFINITY;
+            boundedColumns++;
+        }
+        return column;
+    }  //  end of column()
+
+    /**
+     *  Creates the {@code LinearProgram}, adding a constraint for each range
+     *  and for each bound other than <i>x >= 0</i>.
+     *
+     *  @throws IllegalArgumentException if a variable may be below <i>0</i>,
+     *  or if the model has no constraints or variables
+     */
+    public LinearProgram build() {
+        int rowNumber = rowCount;
+        int columnNumber = columnNames.size;
+        if (columnNumber == 0) {
+            throw new IllegalArgumentException("The model has no variables");
+        }
+
+        int extraRows = 0;
+        for (int i = 0; i < rowNumber; i++) {
+            if (!Double.isNaN(ranges[i])) {
+                extraRows++;
+            }
+        }
+        for (int j = 0; j < columnNumber; j++) {
+            if (lowerBounds[j] < 0) {
+                throw new IllegalArgumentException("Variable " + columnNames.name(j)
+                        + " may be below 0, which is not supported");
+            }
+            if (lowerBounds[j] == upperBounds[j]) {
+                extraRows++;
+                continue;
+            }
+            if (lowerBounds[j] > 0) {
+                extraRows++;
+            }
+            if (upperBounds[j] != Double.POSITIVE_INFINITY) {
+                extraRows++;
+            }
+        }
+        if (rowNumber + extraRows == 0) {
+            throw new IllegalArgumentException("The model has no constraints");
+        }
+
+        int total = rowNumber + extraRows;
+        String[] allSymbols = Arrays.copyOf(symbols, total);
+        double[] allRightHandSides = Arrays.copyOf(rightHandSides, total);
+        int next = rowNumber;
+
+        //  a range gives the row a second limit, which becomes a copy of the row
+        if (extraRows > 0) {
+            int[] rangeRows = new int[rowNumber];
+            for (int i = 0; i < rowNumber; i++) {
+                double range = ranges[i];
+                if (Double.isNaN(range)) {
+                    rangeRows[i] = -1;
+                    continue;
+                }
+                rangeRows[i] = next;
+                if (symbols[i].equals("<") || symbols[i].equals("=") && range < 0) {
+                    allSymbols[i] = "<";
+                    allSymbols[next] = ">";
+                    allRightHandSides[next] = rightHandSides[i] - Math.abs(range);
+                }
+                else {
+                    allSymbols[i] = ">";
+                    allSymbols[next] = "<";
+                    allRightHandSides[next] = rightHandSides[i] + Math.abs(range);
+                }
+                next++;
+            }
+            int count = coefficients.count;
+            for (int k = 0; k < count; k++) {
+                int rangeRow = rangeRows[coefficients.rows[k]];
+                if (rangeRow >= 0) {
+                    coefficients.add(rangeRow, coefficients.columns[k], coefficients.values[k]);
+                }
+            }
+        }
+
+        for (int j = 0; j < columnNumber; j++) {
+            double lower = lowerBounds[j];
+            double upper = upperBounds[j];
+            if (lower == upper) {
+                next = addBound(j, "=", lower, next, allSymbols, allRightHandSides);
+                continue;
+            }
+            if (lower > 0) {
+                next = addBound(j, ">", lower, next, allSymbols, allRightHandSides);
+            }
+            if (upper != Double.POSITIVE_INFINITY) {
+                next = addBound(j, "<", upper, next, allSymbols, allRightHandSides);
+            }
+        }
+
+        LinearProgram program = new LinearProgram(optimisationType, coefficients.toSparseMatrix(total, columnNumber));
+        System.arraycopy(objective, 0, program.objective, 0, columnNumber);
+        program.symbols = allSymbols;
+        program.rightHandSides = allRightHandSides;
+        for (int j = 0; j < columnNumber; j++) {
+            if (integers[j]) {
+                program.integerVariables = Arrays.copyOf(integers, columnNumber);
+                break;
+            }
+        }
+        return program;
+    }  //  end of build()
+
+    private int addBound(int column, String symbol, double value, int row, String[] allSymbols, double[] allRightHandSides) {
+        coefficients.add(row, column, 1);
+        allSymbols[row] = symbol;
+        allRightHandSides[row] = value;
+        return row + 1;
+    }  //  end of addBound()
+
+}  //  end of class
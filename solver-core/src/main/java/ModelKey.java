@@ -0,0 +1,203 @@
+import java.util.Arrays;
+
+/**
+ *  <p>The class {@code ModelKey} is the canonical form of a {@code LinearProgram}, which
+ *  is the same for problems that differ only in the order of their variables, in
+ *  maximising <i>P</i> or minimising <i>-P</i>, or in a constraint written with
+ *  <i>></i> or multiplied by <i>-1</i> and written with <i><</i>.</p>
+ *  <p>In the canonical form <i>P</i> is maximised, each <i>></i> constraint is
+ *  multiplied by <i>-1</i>, and the variables are sorted by their coefficient in the
+ *  objective function and then by their coefficients in the constraints. The form
+ *  has a hash that does not change between runs, and two keys are equal only if
+ *  their canonical forms are, so different problems never share a key. Integer
+ *  variables are ignored, as they are by the engines.</p>
+ */
+
+public class ModelKey {
+
+    final int constraintNumber, variableNumber;
+
+    /**
+     *  The coefficients of the objective function to be maximised, in canonical order
+     */
+    final double[] objective;
+
+    /**
+     *  The symbol of each constraint, <i><</i> or <i>=</i>
+     */
+    final char[] symbols;
+
+    final double[] rightHandSides;
+
+    /**
+     *  The coefficients of the constraints, column by column in canonical order,
+     *  as in a {@code SparseMatrix}
+     */
+    final int[] columnStarts, rowIndices;
+    final double[] values;
+
+    /**
+     *  The variable of the problem at each canonical position
+     */
+    final int[] order;
+
+    /**
+     *  The {@code double} is <i>1</i> if the problem maximises <i>P</i> and <i>-1</i>
+     *  if it minimises it, so that the canonical value of <i>P</i> times it is the
+     *  value for the problem
+     */
+    final double sense;
+
+    /**
+     *  The shape of the problem, which keys the bases used for warm starts
+     */
+    final ModelShape shape;
+
+    private final long hash;
+
+    public ModelKey(LinearProgram program) {
+        SparseMatrix matrix = program.getSparseConstraints();
+        constraintNumber = program.constraintNumber;
+        variableNumber = program.variableNumber;
+        sense = program.optimisationType == 2 ? -1 : 1;
+
+        symbols = new char[constraintNumber];
+        rightHandSides = new double[constraintNumber];
+        double[] rowSigns = new double[constraintNumber];
+        for (int i = 0; i < constraintNumber; i++) {
+            char symbol = program.symbols[i].charAt(0);
+            rowSigns[i] = symbol == '>' ? -1 : 1;
+            symbols[i] = symbol == '>' ? '<' : symbol;
+            rightHandSides[i] = normalise(rowSigns[i] * program.rightHandSides[i]);
+        }
+        double[] programObjective = new double[variableNumber];
+        for (int j = 0; j < variableNumber; j++) {
+            programObjective[j] = normalise(sense * program.objective[j]);
+        }
+
+        Integer[] columns = new Integer[variableNumber];
+        for (int j = 0; j < variableNumber; j++) {
+            columns[j] = j;
+        }
+        Arrays.sort(columns, (a, b) -> compareColumns(matrix, programObjective, rowSigns, a, b));
+        order = new int[variableNumber];
+        objective = new double[variableNumber];
+        columnStarts = new int[variableNumber + 1];
+        rowIndices = new int[matrix.nonZeroNumber()];
+        values = new double[matrix.nonZeroNumber()];
+        for (int k = 0; k < variableNumber; k++) {
+            int j = columns[k];
+            order[k] = j;
+            objective[k] = programObjective[j];
+            int p = columnStarts[k];
+            for (int q = matrix.columnStarts[j]; q < matrix.columnStarts[j + 1]; q++, p++) {
+                rowIndices[p] = matrix.rowIndices[q];
+                values[p] = normalise(rowSigns[rowIndices[p]] * matrix.values[q]);
+            }
+            columnStarts[k + 1] = p;
+        }
+
+        shape = new ModelShape(program, symbols);
+        hash = computeHash();
+    }  //  end of constructor
+
+    /**
+     *  @return {@code value} with <i>-0</i> made <i>0</i>, so that they compare equal
+     */
+    private static double normalise(double value) {
+        return value + 0.0;
+    }
+
+    /**
+     *  Orders two columns by their coefficient in the objective function, then by
+     *  their number of coefficients that are not <i>0</i>, and then by the rows and
+     *  values of those coefficients.
+     */
+    private static int compareColumns(SparseMatrix matrix, double[] objective, double[] rowSigns, int a, int b) {
+        int comparison = Double.compare(objective[a], objective[b]);
+        if (comparison != 0) {
+            return comparison;
+        }
+        int startA = matrix.columnStarts[a], startB = matrix.columnStarts[b];
+        int lengthA = matrix.columnStarts[a + 1] - startA, lengthB = matrix.columnStarts[b + 1] - startB;
+        if (lengthA != lengthB) {
+            return Integer.compare(lengthA, lengthB);
+        }
+        for (int p = 0; p < lengthA; p++) {
+            int row = matrix.rowIndices[startA + p];
+            if (row != matrix.rowIndices[startB + p]) {
+                return Integer.compare(row, matrix.rowIndices[startB + p]);
+            }
+            comparison = Double.compare(normalise(rowSigns[row] * matrix.values[startA + p]),
+                    normalise(rowSigns[row] * matrix.values[startB + p]));
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }  //  end of compareColumns()
+
+    /**
+     *  @return a 64-bit FNV-1a hash of the canonical form
+     */
+    private long computeHash() {
+        long h = 0xcbf29ce484222325L;
+        h = mix(h, constraintNumber);
+        h = mix(h, variableNumber);
+        for (char symbol : symbols) {
+            h = mix(h, symbol);
+        }
+        for (double value : rightHandSides) {
+            h = mix(h, Double.doubleToLongBits(value));
+        }
+        for (double value : objective) {
+            h = mix(h, Double.doubleToLongBits(value));
+        }
+        for (int k = 0; k < variableNumber; k++) {
+            h = mix(h, columnStarts[k + 1]);
+        }
+        for (int p = 0; p < values.length; p++) {
+            h = mix(h, rowIndices[p]);
+            h = mix(h, Double.doubleToLongBits(values[p]));
+        }
+        return h;
+    }  //  end of computeHash()
+
+    private static long mix(long h, long value) {
+        for (int b = 0; b < 64; b += 8) {
+            h ^= (value >>> b) & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }  //  end of mix()
+
+    /**
+     *  @return the hash of the canonical form, which is the same in every run
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof ModelKey)) {
+            return false;
+        }
+        ModelKey key = (ModelKey) object;
+        return hash == key.hash && constraintNumber == key.constraintNumber && variableNumber == key.variableNumber
+                && Arrays.equals(symbols, key.symbols) && Arrays.equals(rightHandSides, key.rightHandSides)
+                && Arrays.equals(objective, key.objective) && Arrays.equals(columnStarts, key.columnStarts)
+                && Arrays.equals(rowIndices, key.rowIndices) && Arrays.equals(values, key.values);
+    }  //  end of equals()
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hash);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x", hash);
+    }
+
+}  //  end of class
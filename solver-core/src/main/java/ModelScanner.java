@@ -0,0 +1,289 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ *  <p>The class {@code ModelScanner} reads a model file line by line through
+ *  a memory-mapped window, so that the text is never copied into {@code String}
+ *  objects. Tokens and numbers are read straight from the mapped bytes.</p>
+ *  <p>Files larger than the window are read by moving the window forward,
+ *  so a single line must fit in {@code WINDOW_SIZE} bytes.</p>
+ */
+
+public class ModelScanner implements Closeable {
+
+    /**
+     *  The {@code long} is the largest number of bytes mapped at once
+     */
+    static final long WINDOW_SIZE = 1L << 28;
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private long windowPosition;
+    private int windowLimit;
+    private int position;
+
+    /**
+     *  The mapped bytes of the current window
+     */
+    MappedByteBuffer buffer;
+
+    /**
+     *  The {@code int} values are the first byte and the byte after the last
+     *  of the current line in {@code buffer}, without the line break
+     */
+    int lineStart, lineEnd;
+
+    /**
+     *  The {@code int} is the number of the current line, starting at <i>1</i>
+     */
+    int lineNumber;
+
+    /**
+     *  The {@code int} values are the first byte and the byte after the last
+     *  of the token read by {@code nextToken()}
+     */
+    int tokenStart, tokenEnd;
+
+    /**
+     *  The {@code int} is where {@code nextToken()} continues in the current line
+     */
+    int cursor;
+
+    /**
+     *  Opens a file and maps its first window.
+     *
+     *  @param path is the file to be read
+     *  @throws IOException if the file cannot be opened or mapped
+     */
+    public ModelScanner(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        fileSize = channel.size();
+        map(0);
+    }  //  end of constructor
+
+    private void map(long start) throws IOException {
+        windowPosition = start;
+        windowLimit = (int) Math.min(WINDOW_SIZE, fileSize - start);
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, windowLimit);
+        position = 0;
+    }  //  end of map()
+
+    /**
+     *  Moves to the next line of the file.
+     *
+     *  @return {@code false} when the end of the file has been reached
+     *  @throws IOException if the next window cannot be mapped
+     */
+    public boolean nextLine() throws IOException {
+        while (true) {
+            if (position >= windowLimit) {
+                if (windowPosition + windowLimit >= fileSize) {
+                    return false;
+                }
+                map(windowPosition + position);
+            }
+
+            int end = position;
+            while (end < windowLimit && buffer.get(end) != '\n') {
+                end++;
+            }
+            if (end == windowLimit && windowPosition + windowLimit < fileSize) {
+                //  the line continues past the window, so map it again from its start
+                if (position == 0) {
+                    throw new IllegalArgumentException("Line " + (lineNumber + 1) + ": line is too long");
+                }
+                map(windowPosition + position);
+                continue;
+            }
+
+            lineStart = position;
+            lineEnd = end;
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            position = end + 1;
+            cursor = lineStart;
+            lineNumber++;
+            return true;
+        }  //  end of while
+    }  //  end of nextLine()
+
+    /**
+     *  Reads the next token of the current line separated by spaces or tabs.
+     *
+     *  @return {@code false} when the line has no more tokens
+     */
+    public boolean nextToken() {
+        while (cursor < lineEnd && isSpace(buffer.get(cursor))) {
+            cursor++;
+        }
+        if (cursor == lineEnd) {
+            return false;
+        }
+        tokenStart = cursor;
+        while (cursor < lineEnd && !isSpace(buffer.get(cursor))) {
+            cursor++;
+        }
+        tokenEnd = cursor;
+        return true;
+    }  //  end of nextToken()
+
+    /**
+     *  @return {@code true} if {@code b} is a space, a tab or another control character
+     */
+    static boolean isSpace(byte b) {
+        return b <= ' ' && b >= 0;
+    }
+
+    /**
+     *  @return the byte at {@code index} in the current window
+     */
+    public byte get(int index) {
+        return buffer.get(index);
+    }
+
+    /**
+     *  @return {@code true} if the current token is {@code text}, ignoring case
+     */
+    public boolean tokenIs(String text) {
+        return regionIs(tokenStart, tokenEnd, text);
+    }
+
+    /**
+     *  @return {@code true} if the bytes from {@code start} to {@code end} are
+     *  {@code text}, ignoring case
+     */
+    public boolean regionIs(int start, int end, String text) {
+        if (end - start != text.length()) {
+            return false;
+        }
+        for (int k = 0; k < text.length(); k++) {
+            if (Character.toUpperCase((char) buffer.get(start + k)) != Character.toUpperCase(text.charAt(k))) {
+                return false;
+            }
+        }
+        return true;
+    }  //  end of regionIs()
+
+    /**
+     *  @return the current token as a {@code String}, for error messages
+     */
+    public String token() {
+        return text(tokenStart, tokenEnd);
+    }
+
+    /**
+     *  @return the bytes from {@code start} to {@code end} as a {@code String}
+     */
+    public String text(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }  //  end of text()
+
+    /**
+     *  @return the current token as a number
+     *  @throws IllegalArgumentException if the token is not a number
+     */
+    public double tokenNumber() {
+        return parseNumber(tokenStart, tokenEnd);
+    }
+
+    /**
+     *  Reads a number straight from the mapped bytes. Numbers with up to 15
+     *  significant digits and a small exponent are converted exactly without
+     *  creating any object; other numbers are passed to {@code Double.parseDouble}.
+     *
+     *  @return the number written from {@code start} to {@code end}
+     *  @throws IllegalArgumentException if the bytes are not a number
+     */
+    public double parseNumber(int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean foundDigit = false;
+        for (; i < end && isDigit(buffer.get(i)); i++) {
+            foundDigit = true;
+            if (digits < 19) {
+                mantissa = mantissa * 10 + (buffer.get(i) - '0');
+                if (mantissa != 0) {
+                    digits++;
+                }
+            }
+            else {
+                exponent++;
+            }
+        }
+        if (i < end && buffer.get(i) == '.') {
+            for (i++; i < end && isDigit(buffer.get(i)); i++) {
+                foundDigit = true;
+                if (digits < 19) {
+                    mantissa = mantissa * 10 + (buffer.get(i) - '0');
+                    if (mantissa != 0) {
+                        digits++;
+                    }
+                    exponent--;
+                }
+            }
+        }
+        if (foundDigit && i < end && (buffer.get(i) == 'e' || buffer.get(i) == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+                negativeExponent = buffer.get(i) == '-';
+                i++;
+            }
+            int exponentStart = i;
+            int written = 0;
+            for (; i < end && isDigit(buffer.get(i)); i++) {
+                written = Math.min(written * 10 + (buffer.get(i) - '0'), 100000);
+            }
+            if (i == exponentStart) {
+                foundDigit = false;
+            }
+            exponent += negativeExponent ? -written : written;
+        }
+
+        if (!foundDigit || i != end || digits > 15 || exponent > 22 || exponent < -22) {
+            return parseSlowly(start, end);
+        }
+        double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+    }  //  end of parseNumber()
+
+    private double parseSlowly(int start, int end) {
+        String text = text(start, end);
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": " + text + " is not a number");
+        }
+    }  //  end of parseSlowly()
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}  //  end of class
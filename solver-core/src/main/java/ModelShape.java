@@ -0,0 +1,120 @@
+import java.util.Arrays;
+
+/**
+ *  <p>The class {@code ModelShape} is the shape of a {@code LinearProgram}: the number
+ *  of constraints and variables, the symbols of the constraints and which coefficients
+ *  are not <i>0</i>, but not their values. Problems with the same shape usually
+ *  differ in a few coefficients, so the optimal basis of one is a good start for
+ *  the other.</p>
+ *  <p>The variables are put in an order that depends only on the rows in which their
+ *  coefficients are not <i>0</i>, and {@code order} maps it back to the variables of
+ *  the problem, so that a basis can be carried between problems whose variables are
+ *  in another order. Variables with the same rows keep their own order.</p>
+ */
+
+public class ModelShape {
+
+    final int constraintNumber, variableNumber;
+
+    /**
+     *  The symbol of each constraint, with <i>></i> written as <i><</i>
+     */
+    final char[] symbols;
+
+    /**
+     *  The rows of the coefficients that are not <i>0</i>, column by column in
+     *  the order of the shape, as in a {@code SparseMatrix}
+     */
+    final int[] columnStarts, rowIndices;
+
+    /**
+     *  The variable of the problem at each position of the shape
+     */
+    final int[] order;
+
+    private final int hash;
+
+    ModelShape(LinearProgram program, char[] symbols) {
+        SparseMatrix matrix = program.getSparseConstraints();
+        this.constraintNumber = program.constraintNumber;
+        this.variableNumber = program.variableNumber;
+        this.symbols = symbols;
+
+        Integer[] columns = new Integer[variableNumber];
+        for (int j = 0; j < variableNumber; j++) {
+            columns[j] = j;
+        }
+        Arrays.sort(columns, (a, b) -> compareColumns(matrix, a, b));
+        order = new int[variableNumber];
+        columnStarts = new int[variableNumber + 1];
+        rowIndices = new int[matrix.nonZeroNumber()];
+        for (int k = 0; k < variableNumber; k++) {
+            int j = columns[k];
+            order[k] = j;
+            int length = matrix.columnStarts[j + 1] - matrix.columnStarts[j];
+            System.arraycopy(matrix.rowIndices, matrix.columnStarts[j], rowIndices, columnStarts[k], length);
+            columnStarts[k + 1] = columnStarts[k] + length;
+        }
+        hash = 31 * (31 * Arrays.hashCode(symbols) + Arrays.hashCode(columnStarts)) + Arrays.hashCode(rowIndices);
+    }  //  end of constructor
+
+    /**
+     *  Orders two columns by their number of coefficients that are not <i>0</i>
+     *  and then by the rows of those coefficients.
+     */
+    private static int compareColumns(SparseMatrix matrix, int a, int b) {
+        int startA = matrix.columnStarts[a], startB = matrix.columnStarts[b];
+        int lengthA = matrix.columnStarts[a + 1] - startA, lengthB = matrix.columnStarts[b + 1] - startB;
+        if (lengthA != lengthB) {
+            return Integer.compare(lengthA, lengthB);
+        }
+        for (int p = 0; p < lengthA; p++) {
+            int rowA = matrix.rowIndices[startA + p], rowB = matrix.rowIndices[startB + p];
+            if (rowA != rowB) {
+                return Integer.compare(rowA, rowB);
+            }
+        }
+        return 0;
+    }  //  end of compareColumns()
+
+    /**
+     *  @return {@code basis}, a basis of a problem with this shape, with its variables
+     *  in the order of the shape
+     */
+    boolean[] toShapeOrder(Basis basis) {
+        boolean[] basicVariables = new boolean[variableNumber];
+        for (int k = 0; k < variableNumber; k++) {
+            basicVariables[k] = basis.isBasicVariable(order[k]);
+        }
+        return basicVariables;
+    }  //  end of toShapeOrder()
+
+    /**
+     *  @return a basis of the problem of this shape, made from basic variables in
+     *  the order of the shape and basic constraints
+     */
+    Basis toBasis(boolean[] shapeBasicVariables, boolean[] basicRows) {
+        boolean[] basicVariables = new boolean[variableNumber];
+        for (int k = 0; k < variableNumber; k++) {
+            basicVariables[order[k]] = shapeBasicVariables[k];
+        }
+        return new Basis(basicVariables, basicRows.clone());
+    }  //  end of toBasis()
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof ModelShape)) {
+            return false;
+        }
+        ModelShape shape = (ModelShape) object;
+        return hash == shape.hash && constraintNumber == shape.constraintNumber
+                && variableNumber == shape.variableNumber && Arrays.equals(symbols, shape.symbols)
+                && Arrays.equals(columnStarts, shape.columnStarts) && Arrays.equals(rowIndices, shape.rowIndices);
+    }  //  end of equals()
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+}  //  end of class
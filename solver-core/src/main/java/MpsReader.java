@@ -0,0 +1,306 @@
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ *  <p>The class {@code MpsReader} reads a model written in free MPS format.</p>
+ *  <p>The sections {@code NAME}, {@code OBJSENSE}, {@code ROWS}, {@code COLUMNS},
+ *  {@code RHS}, {@code RANGES}, {@code BOUNDS} and {@code ENDATA} are read.
+ *  The first <i>N</i> row is the objective function and other <i>N</i> rows are
+ *  left out. Columns between the integer markers, and columns with the bound types
+ *  {@code UI}, {@code LI} or {@code BV}, are marked as integer. A solution given for
+ *  the objective function is skipped. Bounds that let a variable go below <i>0</i>
+ *  are not supported.</p>
+ *  <p>The file is read through a {@code ModelScanner}, so names and numbers are
+ *  read from the mapped bytes and coefficients go straight into a
+ *  {@code TripletList}.</p>
+ */
+
+public class MpsReader {
+
+    private static final int OBJECTIVE = -1;
+    private static final int FREE_ROW = -2;
+
+    private enum Section { NONE, OBJSENSE, ROWS, COLUMNS, RHS, RANGES, BOUNDS, END }
+
+    /**
+     *  Reads a model from a file.
+     *
+     *  @param path is the file to be read
+     *  @return the model
+     *  @throws IOException if the file cannot be read
+     *  @throws IllegalArgumentException if the file is not in free MPS format
+     */
+    public static LinearProgram read(Path path) throws IOException {
+        try (ModelScanner scanner = new ModelScanner(path)) {
+            return read(scanner);
+        }
+    }  //  end of read()
+
+    private static LinearProgram read(ModelScanner scanner) throws IOException {
+        ModelBuilder builder = new ModelBuilder();
+        NameTable freeRows = new NameTable();
+        int objectiveName = -1;
+        NameTable objectiveNames = new NameTable();
+        Section section = Section.NONE;
+
+        while (section != Section.END && scanner.nextLine()) {
+            if (scanner.lineStart == scanner.lineEnd || scanner.get(scanner.lineStart) == '*'
+                    || !scanner.nextToken()) {
+                continue;
+            }
+
+            //  section headers start in the first column
+            if (!ModelScanner.isSpace(scanner.get(scanner.lineStart))) {
+                section = readHeader(scanner, builder);
+                continue;
+            }
+
+            switch (section) {
+                case OBJSENSE:
+                    builder.optimisationType = readSense(scanner);
+                    break;
+                case ROWS:
+                    String symbol = rowSymbol(scanner);
+                    if (!scanner.nextToken()) {
+                        throw error(scanner, "row name expected");
+                    }
+                    if (symbol != null) {
+                        builder.addRow(scanner.buffer, scanner.tokenStart, scanner.tokenEnd, symbol);
+                    }
+                    else if (objectiveName < 0) {
+                        objectiveName = objectiveNames.add(scanner.buffer, scanner.tokenStart, scanner.tokenEnd);
+                    }
+                    else {
+                        freeRows.add(scanner.buffer, scanner.tokenStart, scanner.tokenEnd);
+                    }
+                    break;
+                case COLUMNS:
+                    readColumn(scanner, builder, objectiveNames, freeRows);
+                    break;
+                case RHS:
+                case RANGES:
+                    readRowValues(scanner, builder, objectiveNames, freeRows, section == Section.RANGES);
+                    break;
+                case BOUNDS:
+                    readBound(scanner, builder);
+                    break;
+                default:
+                    throw error(scanner, "data found outside a section");
+            }
+        }  //  end of while
+        return builder.build();
+    }  //  end of read()
+
+    private static Section readHeader(ModelScanner scanner, ModelBuilder builder) {
+        if (scanner.tokenIs("NAME")) {
+            return Section.NONE;
+        }
+        if (scanner.tokenIs("OBJSENSE")) {
+            if (scanner.nextToken()) {
+                builder.optimisationType = readSense(scanner);
+                return Section.NONE;
+            }
+            return Section.OBJSENSE;
+        }
+        if (scanner.tokenIs("ROWS")) {
+            return Section.ROWS;
+        }
+        if (scanner.tokenIs("COLUMNS")) {
+            return Section.COLUMNS;
+        }
+        if (scanner.tokenIs("RHS")) {
+            return Section.RHS;
+        }
+        if (scanner.tokenIs("RANGES")) {
+            return Section.RANGES;
+        }
+        if (scanner.tokenIs("BOUNDS")) {
+            return Section.BOUNDS;
+        }
+        if (scanner.tokenIs("ENDATA")) {
+            return Section.END;
+        }
+        throw error(scanner, "unknown section " + scanner.token());
+    }  //  end of readHeader()
+
+    private static int readSense(ModelScanner scanner) {
+        if (scanner.tokenIs("MAX") || scanner.tokenIs("MAXIMIZE") || scanner.tokenIs("MAXIMISE")) {
+            return 1;
+        }
+        if (scanner.tokenIs("MIN") || scanner.tokenIs("MINIMIZE") || scanner.tokenIs("MINIMISE")) {
+            return 2;
+        }
+        throw error(scanner, "unknown objective sense " + scanner.token());
+    }  //  end of readSense()
+
+    /**
+     *  @return the symbol of a row type, or {@code null} for an <i>N</i> row
+     */
+    private static String rowSymbol(ModelScanner scanner) {
+        if (scanner.tokenIs("L")) {
+            return "<";
+        }
+        if (scanner.tokenIs("G")) {
+            return ">";
+        }
+        if (scanner.tokenIs("E")) {
+            return "=";
+        }
+        if (scanner.tokenIs("N")) {
+            return null;
+        }
+        throw error(scanner, "unknown row type " + scanner.token());
+    }  //  end of rowSymbol()
+
+    /**
+     *  @return the number of the row named by the current token, {@code OBJECTIVE}
+     *  or {@code FREE_ROW}
+     */
+    private static int findRow(ModelScanner scanner, ModelBuilder builder, NameTable objectiveNames, NameTable freeRows) {
+        int row = builder.rowNames.find(scanner.buffer, scanner.tokenStart, scanner.tokenEnd);
+        if (row >= 0) {
+            return row;
+        }
+        if (objectiveNames.find(scanner.buffer, scanner.tokenStart, scanner.tokenEnd) >= 0) {
+            return OBJECTIVE;
+        }
+        if (freeRows.find(scanner.buffer, scanner.tokenStart, scanner.tokenEnd) >= 0) {
+            return FREE_ROW;
+        }
+        throw error(scanner, "unknown row " + scanner.token());
+    }  //  end of findRow()
+
+    private static void readColumn(ModelScanner scanner, ModelBuilder builder, NameTable objectiveNames, NameTable freeRows) {
+        int nameStart = scanner.tokenStart;
+        int nameEnd = scanner.tokenEnd;
+        if (!scanner.nextToken()) {
+            throw error(scanner, "row name expected");
+        }
+        if (scanner.tokenIs("'MARKER'")) {
+            if (scanner.nextToken()) {
+                builder.readingIntegers = scanner.tokenIs("'INTORG'");
+            }
+            return;
+        }
+
+        int column = builder.column(scanner.buffer, nameStart, nameEnd);
+        builder.integers[column] |= builder.readingIntegers;
+        do {
+            int row = findRow(scanner, builder, objectiveNames, freeRows);
+            if (!scanner.nextToken()) {
+                throw error(scanner, "coefficient expected");
+            }
+            double value = scanner.tokenNumber();
+            if (row == OBJECTIVE) {
+                builder.objective[column] += value;
+            }
+            else if (row != FREE_ROW) {
+                builder.coefficients.add(row, column, value);
+            }
+        } while (scanner.nextToken());
+    }  //  end of readColumn()
+
+    private static void readRowValues(ModelScanner scanner, ModelBuilder builder, NameTable objectiveNames,
+                                      NameTable freeRows, boolean ranges) {
+        //  the set name is optional when a row and value follow
+        int tokenCount = countTokens(scanner);
+        if (tokenCount % 2 == 1) {
+            scanner.nextToken();
+        }
+        do {
+            int row = findRow(scanner, builder, objectiveNames, freeRows);
+            if (!scanner.nextToken()) {
+                throw error(scanner, "value expected");
+            }
+            double value = scanner.tokenNumber();
+            if (row >= 0) {
+                if (ranges) {
+                    builder.ranges[row] = value;
+                }
+                else {
+                    builder.rightHandSides[row] = value;
+                }
+            }
+        } while (scanner.nextToken());
+    }  //  end of readRowValues()
+
+    private static void readBound(ModelScanner scanner, ModelBuilder builder) {
+        int typeStart = scanner.tokenStart;
+        int typeEnd = scanner.tokenEnd;
+        boolean needsValue = !(scanner.regionIs(typeStart, typeEnd, "FR") || scanner.regionIs(typeStart, typeEnd, "MI")
+                || scanner.regionIs(typeStart, typeEnd, "PL") || scanner.regionIs(typeStart, typeEnd, "BV"));
+
+        //  the bound set name is optional
+        int tokenCount = countTokens(scanner);
+        if (!scanner.nextToken() || (tokenCount == (needsValue ? 4 : 3) && !scanner.nextToken())) {
+            throw error(scanner, "column name expected");
+        }
+        int column = builder.column(scanner.buffer, scanner.tokenStart, scanner.tokenEnd);
+        double value = 0;
+        if (needsValue) {
+            if (!scanner.nextToken()) {
+                throw error(scanner, "bound expected");
+            }
+            value = scanner.tokenNumber();
+        }
+        if (scanner.regionIs(typeStart, typeEnd, "UI") || scanner.regionIs(typeStart, typeEnd, "LI")
+                || scanner.regionIs(typeStart, typeEnd, "BV")) {
+            builder.integers[column] = true;
+        }
+        if (value >= 1e30) {
+            value = Double.POSITIVE_INFINITY;
+        }
+        else if (value <= -1e30) {
+            value = Double.NEGATIVE_INFINITY;
+        }
+
+        if (scanner.regionIs(typeStart, typeEnd, "UP") || scanner.regionIs(typeStart, typeEnd, "UI")) {
+            if (value < 0 && builder.lowerBounds[column] == 0) {
+                builder.lowerBounds[column] = Double.NEGATIVE_INFINITY;
+            }
+            builder.upperBounds[column] = value;
+        }
+        else if (scanner.regionIs(typeStart, typeEnd, "LO") || scanner.regionIs(typeStart, typeEnd, "LI")) {
+            builder.lowerBounds[column] = value;
+        }
+        else if (scanner.regionIs(typeStart, typeEnd, "FX")) {
+            builder.lowerBounds[column] = value;
+            builder.upperBounds[column] = value;
+        }
+        else if (scanner.regionIs(typeStart, typeEnd, "FR") || scanner.regionIs(typeStart, typeEnd, "MI")) {
+            builder.lowerBounds[column] = Double.NEGATIVE_INFINITY;
+        }
+        else if (scanner.regionIs(typeStart, typeEnd, "PL")) {
+            builder.upperBounds[column] = Double.POSITIVE_INFINITY;
+        }
+        else if (scanner.regionIs(typeStart, typeEnd, "BV")) {
+            builder.lowerBounds[column] = 0;
+            builder.upperBounds[column] = 1;
+        }
+        else {
+            throw error(scanner, "unknown bound type " + scanner.text(typeStart, typeEnd));
+        }
+    }  //  end of readBound()
+
+    /**
+     *  Counts the tokens left in the line without moving past them.
+     */
+    private static int countTokens(ModelScanner scanner) {
+        int start = scanner.tokenStart;
+        int end = scanner.tokenEnd;
+        int cursor = scanner.cursor;
+        int count = 1;
+        while (scanner.nextToken()) {
+            count++;
+        }
+        scanner.tokenStart = start;
+        scanner.tokenEnd = end;
+        scanner.cursor = cursor;
+        return count;
+    }  //  end of countTokens()
+
+    private static IllegalArgumentException error(ModelScanner scanner, String message) {
+        return new IllegalArgumentException("Line " + scanner.lineNumber + ": " + message);
+    }
+
+}  //  end of class
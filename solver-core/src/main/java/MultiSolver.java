@@ -0,0 +1,140 @@
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ *  <p>The class {@code MultiSolver} solves a block of problems that share the
+ *  constraint coefficients of one {@code LinearProgram} and differ only in the
+ *  solutions of the constraints, or only in the objective function.</p>
+ *  <p>The block is split into one run of problems for each thread. Every problem
+ *  uses the same {@code SparseMatrix} and the same symbols, so only the vectors of
+ *  the block are held for each problem. Each thread keeps the factorised optimal
+ *  basis of the last problem it solved. A new vector of solutions leaves that basis
+ *  optimal, and a new objective function leaves it feasible, so when it is also
+ *  feasible, or also optimal, the solution is found from the factorisation without
+ *  a pivot. Otherwise the problem is solved from that basis with the dual or the
+ *  primal simplex method, which takes a few pivots when the vectors are close.</p>
+ */
+
+public class MultiSolver {
+
+    LinearProgram program;
+
+    /**
+     *  The {@code int} is the number of threads the block is solved on
+     */
+    int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     *  The limits, tolerances and recovery from stalls of each solve. Presolve and
+     *  scaling are not used, as they would give each problem its own matrix
+     */
+    SolverOptions options = new SolverOptions();
+
+    /**
+     *  The {@code boolean} is {@code true} to factorise the bases with the sparse
+     *  factorisation of the {@code SPARSE} engine
+     */
+    boolean sparseFactorization;
+
+    /**
+     *  @param program holds the constraint coefficients and symbols, and the vector
+     *  that is not replaced by the block, which are not changed
+     */
+    public MultiSolver(LinearProgram program) {
+        this.program = program;
+    }  //  end of constructor
+
+    /**
+     *  Solves the problem once for each vector of solutions of the constraints.
+     *
+     *  @param rightHandSides holds one vector of solutions in each row
+     *  @return the solution for each vector, in the same order
+     */
+    public Solution[] solveRightHandSides(double[][] rightHandSides) {
+        checkLengths(rightHandSides, program.constraintNumber, "right-hand side");
+        return solveBlock(rightHandSides, true);
+    }
+
+    /**
+     *  Solves the problem once for each objective function.
+     *
+     *  @param objectives holds the coefficients of one objective function in each row
+     *  @return the solution for each objective function, in the same order
+     */
+    public Solution[] solveObjectives(double[][] objectives) {
+        checkLengths(objectives, program.variableNumber, "objective");
+        return solveBlock(objectives, false);
+    }
+
+    private static void checkLengths(double[][] vectors, int length, String name) {
+        for (int k = 0; k < vectors.length; k++) {
+            if (vectors[k].length != length) {
+                throw new IllegalArgumentException("The " + name + " vector " + (k + 1) + " has "
+                        + vectors[k].length + " values instead of " + length);
+            }
+        }
+    }  //  end of checkLengths()
+
+    /**
+     *  Splits the block into one contiguous run for each thread, so that the vectors
+     *  each thread solves in turn are as close as the caller ordered them.
+     */
+    private Solution[] solveBlock(double[][] vectors, boolean rightHandSides) {
+        SparseMatrix matrix = program.getSparseConstraints();
+        Solution[] solutions = new Solution[vectors.length];
+        int runNumber = Math.max(1, Math.min(threads, vectors.length));
+        ExecutorService pool = Executors.newFixedThreadPool(runNumber);
+        try {
+            CompletableFuture<?>[] runs = new CompletableFuture<?>[runNumber];
+            for (int t = 0; t < runNumber; t++) {
+                int first = (int) ((long) vectors.length * t / runNumber);
+                int last = (int) ((long) vectors.length * (t + 1) / runNumber);
+                runs[t] = CompletableFuture.runAsync(
+                        () -> solveRun(matrix, vectors, rightHandSides, first, last, solutions), pool);
+            }
+            CompletableFuture.allOf(runs).join();
+        } finally {
+            pool.shutdown();
+        }
+        return solutions;
+    }  //  end of solveBlock()
+
+    /**
+     *  Solves the problems from {@code first} up to {@code last} on one thread. The
+     *  factorisation of a {@code RevisedSimplex} is not shared between threads.
+     */
+    private void solveRun(SparseMatrix matrix, double[][] vectors, boolean rightHandSides, int first, int last,
+            Solution[] solutions) {
+        RevisedSimplex current = null;  //  the last solver to reach an optimum
+        for (int k = first; k < last; k++) {
+            long start = System.nanoTime();
+            Solution solution = null;
+            if (current != null) {
+                solution = rightHandSides ? current.resolveRightHandSides(vectors[k])
+                        : current.resolveObjective(vectors[k]);
+            }
+
+            if (solution == null) {
+                LinearProgram instance = new LinearProgram(program.optimisationType, matrix);
+                instance.symbols = program.symbols;
+                instance.objective = rightHandSides ? program.objective : vectors[k];
+                instance.rightHandSides = rightHandSides ? vectors[k] : program.rightHandSides;
+
+                RevisedSimplex revisedSimplex = new RevisedSimplex(instance);
+                revisedSimplex.sparseFactorization = sparseFactorization;
+                options.applyTo(revisedSimplex);
+                if (current != null) {
+                    revisedSimplex.startBasis = current.getBasis();
+                }
+                solution = revisedSimplex.optimise();
+                if (solution.status == SolutionStatus.OPTIMAL) {
+                    current = revisedSimplex;
+                }
+            }
+            solution.solveTime = System.nanoTime() - start;
+            solutions[k] = solution;
+        }  //  end of for
+    }  //  end of solveRun()
+
+}  //  end of class
@@ -0,0 +1,118 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ *  <p>The class {@code NameTable} numbers the names of the rows or columns
+ *  of a model in the order they are first added.</p>
+ *  <p>Names are looked up straight from the bytes of a {@code ByteBuffer} and
+ *  their bytes are kept in one shared array, so that reading a model creates
+ *  no object for each name.</p>
+ */
+
+public class NameTable {
+
+    private byte[] bytes = new byte[1 << 12];
+    private int byteCount;
+    private int[] starts = new int[257];
+    private int[] hashes = new int[256];
+    private int[] slots = new int[512];
+
+    /**
+     *  The {@code int} is the number of names added
+     */
+    int size;
+
+    /**
+     *  Finds a name.
+     *
+     *  @return the number of the name held in {@code buffer} from {@code start}
+     *  to {@code end}, or <i>-1</i> if it has not been added
+     */
+    public int find(ByteBuffer buffer, int start, int end) {
+        int hash = hash(buffer, start, end);
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int index = slots[slot] - 1;
+            if (hashes[index] == hash && matches(index, buffer, start, end)) {
+                return index;
+            }
+        }
+        return -1;
+    }  //  end of find()
+
+    /**
+     *  Finds a name, adding it if it has not been added.
+     *
+     *  @return the number of the name held in {@code buffer} from {@code start} to {@code end}
+     */
+    public int add(ByteBuffer buffer, int start, int end) {
+        int index = find(buffer, start, end);
+        if (index >= 0) {
+            return index;
+        }
+
+        int length = end - start;
+        if (size + 1 == hashes.length) {
+            hashes = Arrays.copyOf(hashes, hashes.length * 2);
+            starts = Arrays.copyOf(starts, starts.length * 2);
+        }
+        while (byteCount + length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        }
+        buffer.get(start, bytes, byteCount, length);
+        index = size++;
+        hashes[index] = hash(buffer, start, end);
+        byteCount += length;
+        starts[size] = byteCount;
+
+        if (size * 2 > slots.length) {
+            slots = new int[slots.length * 2];
+            for (int k = 0; k < size; k++) {
+                insert(k);
+            }
+        }
+        else {
+            insert(index);
+        }
+        return index;
+    }  //  end of add()
+
+    private void insert(int index) {
+        int mask = slots.length - 1;
+        int slot = hashes[index] & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = index + 1;
+    }  //  end of insert()
+
+    private boolean matches(int index, ByteBuffer buffer, int start, int end) {
+        int length = starts[index + 1] - starts[index];
+        if (length != end - start) {
+            return false;
+        }
+        for (int k = 0; k < length; k++) {
+            if (bytes[starts[index] + k] != buffer.get(start + k)) {
+                return false;
+            }
+        }
+        return true;
+    }  //  end of matches()
+
+    private static int hash(ByteBuffer buffer, int start, int end) {
+        int hash = 0;
+        for (int k = start; k < end; k++) {
+            hash = 31 * hash + buffer.get(k);
+        }
+        return hash ^ (hash >>> 16);
+    }  //  end of hash()
+
+    /**
+     *  @return the name with the number {@code index}
+     */
+    public String name(int index) {
+        return new String(bytes, starts[index], starts[index + 1] - starts[index], StandardCharsets.ISO_8859_1);
+    }
+
+}  //  end of class
@@ -0,0 +1,22 @@
+/**
+ *  <p>The enum {@code NodeSelection} sets the order in which {@code BranchAndBound}
+ *  solves the nodes of its search tree.</p>
+ */
+
+public enum NodeSelection {
+
+    /**
+     *  The open node whose relaxation has the best value is solved next. This
+     *  raises the bound, and so closes the gap, as fast as possible, but keeps
+     *  many nodes open at once
+     */
+    BEST_BOUND,
+
+    /**
+     *  Each thread follows its own branch down the tree, trying first the side the
+     *  value of the variable is closer to. This finds whole number solutions early
+     *  and keeps few nodes open. Idle threads take the open node nearest the root
+     */
+    DEPTH_FIRST
+
+}  //  end of enum
@@ -4,6 +4,12 @@ public class OptimisationProgram {
 
     public static void main (String[] args) {
 
+        //  solve problems from files without prompts
+        if (args.length > 0) {
+            BatchSolver.main(args);
+            return;
+        }
+
         Scanner scan = new Scanner(System.in);
         int constraintNumber = 0;
         int variableNumber = 0;
@@ -119,6 +125,7 @@ public class OptimisationProgram {
 
         simplex.prepareSimpex();
 
+        simplex.traceLevel = TraceLevel.FULL_TABLEAU;
         simplex.optimise();
 
     }  //  end of main
@@ -135,7 +142,7 @@ public class OptimisationProgram {
     public static double inputDouble(String message) {
         System.out.println("Enter " + message);
         Scanner scan = new Scanner(System.in);
-        double x = scan.nextInt();
+        double x = scan.nextDouble();
         return x;
     }  //  end of inputValue()
 
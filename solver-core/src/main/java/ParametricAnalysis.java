@@ -0,0 +1,258 @@
+/**
+ *  <p>The class {@code ParametricAnalysis} finds the optimum of a problem for every
+ *  value of a parameter <i>t</i> in an interval, where either the solutions of the
+ *  constraints are <i>b + t d</i> or the objective function is <i>c + t e</i>.</p>
+ *  <p>The problem is solved once at the start of the interval. From that optimal
+ *  tableau <i>t</i> is moved towards the end of the interval until a basic variable
+ *  reaches <i>0</i>, for the solutions, or a coefficient in the objective function row
+ *  reaches <i>0</i>, for the objective function. There the basis is changed with a dual
+ *  or a primal simplex pivot and <i>t</i> is moved on again. Each breakpoint costs one
+ *  pivot, so the whole interval costs little more than a single solve. The end of the
+ *  interval may be below its start, and then <i>t</i> decreases.</p>
+ */
+
+public class ParametricAnalysis {
+
+    LinearProgram program;
+
+    /**
+     *  The {@code double} is the size below which a coefficient is treated as <i>0</i>
+     */
+    double tolerance = 1e-9;
+
+    /**
+     *  The {@code int} is the most pivots made after the first solve
+     */
+    int pivotLimit = 100000;
+
+    /**
+     *  @param program is the problem at <i>t = 0</i>, which is not changed
+     */
+    public ParametricAnalysis(LinearProgram program) {
+        this.program = program;
+    }  //  end of constructor
+
+    /**
+     *  Finds the optimum for the solutions <i>b + t d</i>, for <i>t</i> from
+     *  {@code from} to {@code to}, which may be below {@code from}.
+     *
+     *  @param direction holds <i>d</i>, one value for each constraint
+     *  @return the breakpoints, which end early if no feasible solution exists beyond the last one
+     */
+    public ParametricResult traceRightHandSides(double[] direction, double from, double to) {
+        ParametricResult result = new ParametricResult();
+        Simplex simplex = solveAt(direction, null, from);
+        if (simplex.status != SolutionStatus.OPTIMAL) {
+            result.status = simplex.status;
+            return result;
+        }
+        Tableau tableau = simplex.tableau;
+        int solutionColumn = simplex.colSize - 1;
+        int[] unitColumns = getUnitColumns(simplex);
+        double sign = to < from ? -1 : 1;  //  the direction t moves in
+        double parameter = from;
+        result.add(parameter, simplex.getObjectiveValue(), getVariableValues(simplex), null);
+
+        while (true) {
+            //  how the solutions change as t moves, in the current basis
+            double[] change = new double[simplex.rowSize];
+            for (int i = 0; i < simplex.constraintNumber; i++) {
+                double value = sign * (simplex.reversedRows[i] ? -direction[i] : direction[i]);
+                if (value != 0) {
+                    for (int r = 0; r < simplex.rowSize; r++) {
+                        change[r] += value * tableau.get(r, unitColumns[i]);
+                    }
+                }
+            }
+
+            //  find the basic variable that reaches 0 first
+            int keyRow = -1;
+            double step = Double.POSITIVE_INFINITY;
+            for (int r = 1; r < simplex.rowSize; r++) {
+                if (simplex.columnRoles[simplex.basis[r - 1]] == Simplex.ARTIFICIAL) {
+                    if (Math.abs(change[r]) > tolerance) {  //  a redundant constraint stops being redundant
+                        keyRow = r;
+                        step = 0;
+                        break;
+                    }
+                }
+                else if (change[r] < -tolerance) {
+                    double ratio = Math.max(tableau.get(r, solutionColumn), 0) / -change[r];
+                    if (ratio < step) {
+                        step = ratio;
+                        keyRow = r;
+                    }
+                }
+            }
+            step = Math.min(step, Math.abs(to - parameter));
+            for (int r = 0; r < simplex.rowSize; r++) {
+                tableau.set(r, solutionColumn, tableau.get(r, solutionColumn) + step * change[r]);
+            }
+            parameter = keyRow < 0 || step >= Math.abs(to - parameter) ? to : parameter + sign * step;
+            if (parameter == to) {
+                result.add(parameter, simplex.getObjectiveValue(), getVariableValues(simplex), null);
+                result.status = SolutionStatus.OPTIMAL;
+                return result;
+            }
+
+            //  find the entering variable with the dual ratio test
+            int keyColumn = -1;
+            double ratio = Double.MAX_VALUE;
+            if (simplex.columnRoles[simplex.basis[keyRow - 1]] != Simplex.ARTIFICIAL) {
+                for (int j = 0; j < simplex.artificialStart; j++) {
+                    double value = tableau.get(keyRow, j);
+                    if (value < -tolerance && Math.max(tableau.get(0, j), 0) / -value < ratio) {
+                        ratio = Math.max(tableau.get(0, j), 0) / -value;
+                        keyColumn = j;
+                    }
+                }
+            }
+            if (keyColumn < 0 || result.pivots >= pivotLimit) {
+                result.add(parameter, simplex.getObjectiveValue(), getVariableValues(simplex), null);
+                result.status = keyColumn < 0 ? SolutionStatus.INFEASIBLE : SolutionStatus.ITERATION_LIMIT;
+                return result;
+            }
+            simplex.pivot(keyRow, keyColumn);
+            result.pivots++;
+            result.add(parameter, simplex.getObjectiveValue(), getVariableValues(simplex), getBasisChange(simplex));
+        }  //  end of while
+    }  //  end of traceRightHandSides()
+
+    /**
+     *  Finds the optimum for the objective function <i>c + t e</i>, for <i>t</i> from
+     *  {@code from} to {@code to}, which may be below {@code from}.
+     *
+     *  @param direction holds <i>e</i>, one value for each variable
+     *  @return the breakpoints, which end early if the objective function is unbounded
+     *  beyond the last one
+     */
+    public ParametricResult traceObjective(double[] direction, double from, double to) {
+        ParametricResult result = new ParametricResult();
+        Simplex simplex = solveAt(null, direction, from);
+        if (simplex.status != SolutionStatus.OPTIMAL) {
+            result.status = simplex.status;
+            return result;
+        }
+        Tableau tableau = simplex.tableau;
+        int solutionColumn = simplex.colSize - 1;
+        double sign = to < from ? -1 : 1;  //  the direction t moves in
+        double[] costs = new double[simplex.colSize];  //  the direction in the tableau, which minimises
+        for (int j = 0; j < simplex.variableNumber; j++) {
+            costs[j] = sign * (simplex.optimisationType == 1 ? -direction[j] : direction[j]);
+        }
+        double parameter = from;
+        double[] variableValues = getVariableValues(simplex);
+        result.add(parameter, getObjectiveValue(direction, parameter, variableValues), variableValues, null);
+
+        while (true) {
+            //  how the objective function row changes as t moves, in the current basis
+            double[] change = costs.clone();
+            for (int r = 1; r < simplex.rowSize; r++) {
+                double cost = costs[simplex.basis[r - 1]];
+                if (cost != 0) {
+                    for (int j = 0; j < simplex.colSize; j++) {
+                        change[j] -= cost * tableau.get(r, j);
+                    }
+                }
+            }
+
+            //  find the coefficient that reaches 0 first
+            int keyColumn = -1;
+            double step = Double.POSITIVE_INFINITY;
+            for (int j = 0; j < simplex.artificialStart; j++) {
+                if (change[j] < -tolerance) {
+                    double ratio = Math.max(tableau.get(0, j), 0) / -change[j];
+                    if (ratio < step) {
+                        step = ratio;
+                        keyColumn = j;
+                    }
+                }
+            }
+            step = Math.min(step, Math.abs(to - parameter));
+            for (int j = 0; j < simplex.colSize; j++) {
+                tableau.set(0, j, tableau.get(0, j) + step * change[j]);
+            }
+            parameter = keyColumn < 0 || step >= Math.abs(to - parameter) ? to : parameter + sign * step;
+            if (parameter == to) {
+                result.add(parameter, getObjectiveValue(direction, parameter, variableValues), variableValues, null);
+                result.status = SolutionStatus.OPTIMAL;
+                return result;
+            }
+
+            //  find the leaving variable with the ratio test
+            int keyRow = -1;
+            double ratio = Double.MAX_VALUE;
+            for (int r = 1; r < simplex.rowSize; r++) {
+                double value = tableau.get(r, keyColumn);
+                if (value > tolerance && Math.max(tableau.get(r, solutionColumn), 0) / value < ratio) {
+                    ratio = Math.max(tableau.get(r, solutionColumn), 0) / value;
+                    keyRow = r;
+                }
+            }
+            if (keyRow < 0 || result.pivots >= pivotLimit) {
+                result.add(parameter, getObjectiveValue(direction, parameter, variableValues), variableValues, null);
+                result.status = keyRow < 0 ? SolutionStatus.UNBOUNDED : SolutionStatus.ITERATION_LIMIT;
+                return result;
+            }
+            simplex.pivot(keyRow, keyColumn);
+            result.pivots++;
+            variableValues = getVariableValues(simplex);
+            result.add(parameter, getObjectiveValue(direction, parameter, variableValues), variableValues,
+                    getBasisChange(simplex));
+        }  //  end of while
+    }  //  end of traceObjective()
+
+    /**
+     *  Solves the problem at a single value of the parameter.
+     */
+    private Simplex solveAt(double[] rightHandSideDirection, double[] objectiveDirection, double parameter) {
+        Simplex simplex = program.toSimplex();
+        for (int i = 0; rightHandSideDirection != null && i < program.constraintNumber; i++) {
+            simplex.coefficients[i + 1][simplex.colSize - 1] += parameter * rightHandSideDirection[i];
+        }
+        for (int j = 0; objectiveDirection != null && j < program.variableNumber; j++) {
+            simplex.coefficients[0][j] += parameter * objectiveDirection[j];
+        }
+        simplex.prepareSimpex();
+        simplex.solve();
+        return simplex;
+    }  //  end of solveAt()
+
+    /**
+     *  @return the slack or artificial column of each constraint, which has <i>1</i>
+     *  in that constraint and <i>0</i> in every other in the first tableau
+     */
+    private static int[] getUnitColumns(Simplex simplex) {
+        int[] unitColumns = new int[simplex.constraintNumber];
+        for (int j = simplex.variableNumber; j < simplex.colSize - 1; j++) {
+            if (simplex.columnRoles[j] == Simplex.SLACK || simplex.columnRoles[j] == Simplex.ARTIFICIAL) {
+                unitColumns[simplex.columnRows[j]] = j;
+            }
+        }
+        return unitColumns;
+    }  //  end of getUnitColumns()
+
+    private static double[] getVariableValues(Simplex simplex) {
+        double[] variableValues = new double[simplex.variableNumber];
+        for (int i = 0; i < simplex.constraintNumber; i++) {
+            if (simplex.columnRoles[simplex.basis[i]] == Simplex.VARIABLE) {
+                variableValues[simplex.basis[i]] = simplex.tableau.get(i + 1, simplex.colSize - 1);
+            }
+        }
+        return variableValues;
+    }  //  end of getVariableValues()
+
+    private double getObjectiveValue(double[] direction, double parameter, double[] variableValues) {
+        double objectiveValue = 0;
+        for (int j = 0; j < variableValues.length; j++) {
+            objectiveValue += (program.objective[j] + parameter * direction[j]) * variableValues[j];
+        }
+        return objectiveValue;
+    }  //  end of getObjectiveValue()
+
+    private static String getBasisChange(Simplex simplex) {
+        return simplex.columnTitles[simplex.enteringColumn] + " enters, "
+                + simplex.columnTitles[simplex.leavingColumn] + " leaves";
+    }
+
+}  //  end of class
@@ -0,0 +1,121 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  <p>The class {@code ParametricResult} holds the optimum value of the objective
+ *  function of a problem as a parameter <i>t</i> moves over an interval, found by
+ *  {@code ParametricAnalysis}.</p>
+ *  <p>The optimum value is linear in <i>t</i> between breakpoints, where the optimal
+ *  basis changes, so the breakpoints and their values describe it completely.</p>
+ */
+
+public class ParametricResult {
+
+    /**
+     *  <p>The class {@code Breakpoint} holds the optimum at a value of the parameter
+     *  where the basis changes, or at either end of the interval.</p>
+     */
+    static class Breakpoint {
+
+        final double parameter;
+        final double objectiveValue;
+        final double[] variableValues;
+
+        /**
+         *  The variables that entered and left the basis at the breakpoint,
+         *  or {@code null} at the start of the interval
+         */
+        String basisChange;
+
+        Breakpoint(double parameter, double objectiveValue, double[] variableValues) {
+            this.parameter = parameter;
+            this.objectiveValue = objectiveValue;
+            this.variableValues = variableValues;
+        }  //  end of constructor
+
+    }  //  end of class Breakpoint
+
+    final List<Breakpoint> breakpoints = new ArrayList<>();
+
+    /**
+     *  {@code OPTIMAL} if the whole interval was traced, or otherwise the status
+     *  of the problem beyond the last breakpoint
+     */
+    SolutionStatus status;
+
+    /**
+     *  The {@code int} is the number of pivots made after the first solve
+     */
+    int pivots;
+
+    /**
+     *  Adds a breakpoint, or replaces the last one if it has the same parameter.
+     */
+    void add(double parameter, double objectiveValue, double[] variableValues, String basisChange) {
+        Breakpoint breakpoint = new Breakpoint(parameter, objectiveValue, variableValues);
+        breakpoint.basisChange = basisChange;
+        if (!breakpoints.isEmpty() && breakpoints.get(breakpoints.size() - 1).parameter == parameter) {
+            Breakpoint last = breakpoints.remove(breakpoints.size() - 1);
+            if (last.basisChange != null) {
+                breakpoint.basisChange = basisChange == null ? last.basisChange : last.basisChange + "; " + basisChange;
+            }
+        }
+        breakpoints.add(breakpoint);
+    }  //  end of add()
+
+    public SolutionStatus getStatus() {
+        return status;
+    }
+
+    public int getPivots() {
+        return pivots;
+    }
+
+    /**
+     *  @return the number of breakpoints, including the ends of the interval traced
+     */
+    public int size() {
+        return breakpoints.size();
+    }
+
+    public Breakpoint get(int index) {
+        return breakpoints.get(index);
+    }
+
+    /**
+     *  @return the optimum value of the objective function at {@code parameter},
+     *  or {@code NaN} if it is outside the interval traced
+     */
+    public double getObjectiveValue(double parameter) {
+        for (int k = 0; k < breakpoints.size(); k++) {
+            Breakpoint right = breakpoints.get(k);
+            if (parameter == right.parameter) {
+                return right.objectiveValue;
+            }
+            Breakpoint left = k > 0 ? breakpoints.get(k - 1) : null;
+
+            //  the breakpoints decrease when the interval was traced downwards
+            if (left != null && Math.min(left.parameter, right.parameter) < parameter
+                    && parameter < Math.max(left.parameter, right.parameter)) {
+                double fraction = (parameter - left.parameter) / (right.parameter - left.parameter);
+                return left.objectiveValue + fraction * (right.objectiveValue - left.objectiveValue);
+            }
+        }
+        return Double.NaN;
+    }  //  end of getObjectiveValue()
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (Breakpoint breakpoint : breakpoints) {
+            text.append(String.format("t = %-14.6g P = %-14.6g", breakpoint.parameter, breakpoint.objectiveValue));
+            if (breakpoint.basisChange != null) {
+                text.append(breakpoint.basisChange);
+            }
+            text.append('\n');
+        }
+        text.append(String.format("%s after %d pivot(s)\n", status, pivots));
+        return text.toString();
+    }  //  end of toString()
+
+}  //  end of class
@@ -0,0 +1,53 @@
+/**
+ *  <p>The class {@code PartialPricing} splits the columns into segments
+ *  and only scans the segments needed to find a negative coefficient in the
+ *  objective function row. The most negative coefficient of that segment is
+ *  chosen and the next search starts at the following segment.</p>
+ */
+
+public class PartialPricing implements PricingRule {
+
+    /**
+     *  The {@code int} is the number of segments the columns are split into
+     */
+    int segmentNumber;
+
+    int segmentStart;
+
+    public PartialPricing() {
+        this(8);
+    }
+
+    public PartialPricing(int segmentNumber) {
+        this.segmentNumber = segmentNumber;
+    }  //  end of constructor
+
+    @Override
+    public void reset(Simplex simplex) {
+        segmentStart = 0;
+    }
+
+    @Override
+    public int chooseColumn(Simplex simplex) {
+        int columnNumber = simplex.artificialStart;
+        int segmentSize = Math.max(1, (columnNumber + segmentNumber - 1) / segmentNumber);
+
+        for (int scanned = 0; scanned < columnNumber; scanned += segmentSize) {
+            double key = -simplex.optimalityTolerance;
+            int keyColumn = -1;
+            for (int k = 0; k < segmentSize && scanned + k < columnNumber; k++) {
+                int i = (segmentStart + scanned + k) % columnNumber;
+                if (simplex.tableau.get(0, i) < key) {
+                    key = simplex.tableau.get(0, i);
+                    keyColumn = i;
+                }
+            }
+            if (keyColumn >= 0) {
+                segmentStart = (segmentStart + scanned + segmentSize) % columnNumber;
+                return keyColumn;
+            }
+        }  //  end of for
+        return -1;
+    }  //  end of chooseColumn()
+
+}  //  end of class
@@ -0,0 +1,33 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ *  <p>The class {@code PivotBatchEvent} is the JDK Flight Recorder event of
+ *  {@code SolveMetrics.PIVOT_BATCH_SIZE} pivots in a row, or of the pivots at the end
+ *  of a solve. One event per pivot would cost more than many pivots do.</p>
+ */
+
+@Name("optimisation.PivotBatch")
+@Label("Pivot Batch")
+@Category("Optimisation")
+@Description("A run of pivots in a solve by a simplex engine")
+class PivotBatchEvent extends jdk.jfr.Event {
+
+    @Label("Engine")
+    String engine;
+
+    @Label("First Iteration")
+    int firstIteration;
+
+    @Label("Pivots")
+    int pivots;
+
+    @Label("Degenerate Pivots")
+    int degeneratePivots;
+
+    @Label("Refactorizations")
+    int refactorizations;
+
+}  //  end of class
@@ -0,0 +1,39 @@
+/**
+ *  <p>The interface {@code PivotKernel} describes the row operations
+ *  carried out on a {@code FlatTableau} during Gaussian reduction.</p>
+ *  <p>Implementations must give the same result as the scalar loops in
+ *  {@code ScalarPivotKernel}, element for element.</p>
+ */
+
+public interface PivotKernel {
+
+    /**
+     *  Divides {@code length} values starting at {@code offset} by {@code pivot}.
+     */
+    void divide(double[] cells, int offset, int length, double pivot);
+
+    /**
+     *  Subtracts {@code factor} times the first {@code length} values of
+     *  {@code keyRow} from the values starting at {@code target}.
+     */
+    void subtractMultiple(double[] cells, int target, double[] keyRow, int length, double factor);
+
+    /**
+     *  Returns the {@code VectorPivotKernel} if the {@code jdk.incubator.vector}
+     *  module is available and has not been disabled with
+     *  <i>-Dsimplex.vector=false</i>, otherwise a {@code ScalarPivotKernel}.
+     *
+     *  @return the fastest kernel available
+     */
+    static PivotKernel create() {
+        if (Boolean.parseBoolean(System.getProperty("simplex.vector", "true"))) {
+            try {
+                return (PivotKernel) Class.forName("VectorPivotKernel").getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                //  the vector API is missing, so fall back to scalar code
+            }
+        }
+        return new ScalarPivotKernel();
+    }  //  end of create()
+
+}  //  end of interface
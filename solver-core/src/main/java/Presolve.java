@@ -0,0 +1,460 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  <p>The class {@code Presolve} makes a {@code LinearProgram} smaller before a
+ *  tableau is built for it, and maps the solution of the smaller problem back
+ *  to the original variables.</p>
+ *  <p>The following are removed, over as many passes as keep finding something:</p>
+ *  <ul>
+ *      <li>empty constraints, after checking that <i>0</i> satisfies them;</li>
+ *      <li>constraints on a single variable, which become bounds on it. Bounds
+ *      that still matter at the end are added back as one constraint each;</li>
+ *      <li>variables whose bounds fix their value, whose coefficients are moved
+ *      into the solutions of the constraints;</li>
+ *      <li>dominated variables, which can only make the objective function or the
+ *      constraints worse as they grow, so are set to their lower bound;</li>
+ *      <li>constraints that are multiples of another constraint, which are merged
+ *      into one constraint, or two when they give a range.</li>
+ *  </ul>
+ *  <p>Presolve may find that the problem is infeasible or unbounded, or solve it
+ *  completely, in which case {@code reduce()} returns {@code null}.</p>
+ */
+
+public class Presolve {
+
+    LinearProgram program;
+
+    /**
+     *  The {@code double} is the size below which a difference is treated as <i>0</i>
+     */
+    double tolerance = 1e-9;
+
+    /**
+     *  What was removed and the sizes before and after
+     */
+    PresolveReport report = new PresolveReport();
+
+    /**
+     *  The result found by presolve alone, or {@code null} if the smaller
+     *  problem has to be solved
+     */
+    SolutionStatus status;
+
+    private int rowNumber, columnNumber;
+    private SparseMatrix byColumn, byRow;
+    private double[] costs;
+    private double[] rightHandSides;
+    private String[] symbols;
+    private boolean[] rowRemoved, columnRemoved;
+    private int[] rowCounts;
+    private double[] lowerBounds, upperBounds, fixedValues;
+    private int[] columnMap;
+
+    /**
+     *  @param program is the problem to be made smaller, which is not changed
+     */
+    public Presolve(LinearProgram program) {
+        this.program = program;
+    }  //  end of constructor
+
+    /**
+     *  Removes what is not needed from the problem.
+     *
+     *  @return the smaller problem, or {@code null} if {@code status} already
+     *  holds the result
+     */
+    public LinearProgram reduce() {
+        rowNumber = program.constraintNumber;
+        columnNumber = program.variableNumber;
+        byColumn = program.getSparseConstraints();
+        byRow = byColumn.transpose();
+        rightHandSides = program.rightHandSides.clone();
+        symbols = program.symbols.clone();
+        rowRemoved = new boolean[rowNumber];
+        columnRemoved = new boolean[columnNumber];
+        lowerBounds = new double[columnNumber];
+        upperBounds = new double[columnNumber];
+        Arrays.fill(upperBounds, Double.POSITIVE_INFINITY);
+        fixedValues = new double[columnNumber];
+
+        //  presolve minimises, so a maximised objective function is negated
+        costs = new double[columnNumber];
+        for (int j = 0; j < columnNumber; j++) {
+            costs[j] = program.optimisationType == 1 ? -program.objective[j] : program.objective[j];
+        }
+
+        rowCounts = new int[rowNumber];
+        for (int p = 0; p < byColumn.nonZeroNumber(); p++) {
+            if (byColumn.values[p] != 0) {
+                rowCounts[byColumn.rowIndices[p]]++;
+            }
+        }
+        report.originalRows = rowNumber;
+        report.originalColumns = columnNumber;
+        report.originalNonZeros = byColumn.nonZeroNumber();
+
+        boolean changed = true;
+        while (changed && status == null) {
+            report.passes++;
+            changed = removeEmptyRows();
+            changed |= removeSingletonRows();
+            changed |= removeFixedColumns();
+            changed |= removeDominatedColumns();
+            changed |= removeDuplicateRows();
+        }  //  end of while
+
+        return status == null ? build() : null;
+    }  //  end of reduce()
+
+    private boolean removeEmptyRows() {
+        boolean changed = false;
+        for (int i = 0; i < rowNumber && status == null; i++) {
+            if (!rowRemoved[i] && rowCounts[i] == 0) {
+                if (!isSatisfied(0, symbols[i], rightHandSides[i])) {
+                    status = SolutionStatus.INFEASIBLE;
+                }
+                rowRemoved[i] = true;
+                report.emptyRows++;
+                changed = true;
+            }
+        }
+        return changed;
+    }  //  end of removeEmptyRows()
+
+    private boolean removeSingletonRows() {
+        boolean changed = false;
+        for (int i = 0; i < rowNumber && status == null; i++) {
+            if (rowRemoved[i] || rowCounts[i] != 1) {
+                continue;
+            }
+
+            //  find the only variable left in the row
+            int column = -1;
+            double coefficient = 0;
+            for (int p = byRow.columnStarts[i]; p < byRow.columnStarts[i + 1]; p++) {
+                if (byRow.values[p] != 0 && !columnRemoved[byRow.rowIndices[p]]) {
+                    column = byRow.rowIndices[p];
+                    coefficient = byRow.values[p];
+                    break;
+                }
+            }
+
+            double bound = rightHandSides[i] / coefficient;
+            String symbol = coefficient < 0 ? reverse(symbols[i]) : symbols[i];
+            if (!symbol.equals(">")) {
+                upperBounds[column] = Math.min(upperBounds[column], bound);
+            }
+            if (!symbol.equals("<")) {
+                lowerBounds[column] = Math.max(lowerBounds[column], bound);
+            }
+            if (lowerBounds[column] > upperBounds[column] + tolerance * Math.max(1, Math.abs(upperBounds[column]))) {
+                status = SolutionStatus.INFEASIBLE;
+            }
+            rowRemoved[i] = true;
+            report.singletonRows++;
+            changed = true;
+        }  //  end of for
+        return changed;
+    }  //  end of removeSingletonRows()
+
+    private boolean removeFixedColumns() {
+        boolean changed = false;
+        for (int j = 0; j < columnNumber && status == null; j++) {
+            if (!columnRemoved[j] && upperBounds[j] < Double.POSITIVE_INFINITY
+                    && upperBounds[j] - lowerBounds[j] <= tolerance * Math.max(1, Math.abs(upperBounds[j]))) {
+                fixColumn(j, lowerBounds[j]);
+                report.fixedColumns++;
+                changed = true;
+            }
+        }
+        return changed;
+    }  //  end of removeFixedColumns()
+
+    private boolean removeDominatedColumns() {
+        boolean changed = false;
+        for (int j = 0; j < columnNumber && status == null; j++) {
+            if (columnRemoved[j] || costs[j] < 0) {
+                continue;
+            }
+
+            //  growing the variable must not help any constraint
+            boolean dominated = true;
+            for (int p = byColumn.columnStarts[j]; p < byColumn.columnStarts[j + 1] && dominated; p++) {
+                int row = byColumn.rowIndices[p];
+                double value = byColumn.values[p];
+                if (rowRemoved[row] || value == 0) {
+                    continue;
+                }
+                dominated = symbols[row].equals("<") ? value > 0 : symbols[row].equals(">") && value < 0;
+            }
+            if (dominated) {
+                fixColumn(j, lowerBounds[j]);
+                report.dominatedColumns++;
+                changed = true;
+            }
+        }  //  end of for
+        return changed;
+    }  //  end of removeDominatedColumns()
+
+    /**
+     *  Removes a variable whose value is known, moving its coefficients
+     *  into the solutions of the constraints.
+     */
+    private void fixColumn(int column, double value) {
+        for (int p = byColumn.columnStarts[column]; p < byColumn.columnStarts[column + 1]; p++) {
+            int row = byColumn.rowIndices[p];
+            if (!rowRemoved[row] && byColumn.values[p] != 0) {
+                rightHandSides[row] -= byColumn.values[p] * value;
+                rowCounts[row]--;
+            }
+        }
+        columnRemoved[column] = true;
+        fixedValues[column] = value;
+    }  //  end of fixColumn()
+
+    private boolean removeDuplicateRows() {
+        //  group the rows whose coefficients are the same after dividing by the first one
+        Map<RowKey, List<Integer>> groups = new HashMap<>();
+        for (int i = 0; i < rowNumber; i++) {
+            if (!rowRemoved[i] && rowCounts[i] >= 2) {
+                groups.computeIfAbsent(new RowKey(i), key -> new ArrayList<>(1)).add(i);
+            }
+        }
+
+        boolean changed = false;
+        for (List<Integer> group : groups.values()) {
+            if (group.size() < 2 || status != null) {
+                continue;
+            }
+
+            //  each row limits the same combination v.x from below, above or both
+            double lower = Double.NEGATIVE_INFINITY;
+            double upper = Double.POSITIVE_INFINITY;
+            for (int row : group) {
+                double scale = firstCoefficient(row);
+                double bound = rightHandSides[row] / scale;
+                String symbol = scale < 0 ? reverse(symbols[row]) : symbols[row];
+                if (!symbol.equals(">")) {
+                    upper = Math.min(upper, bound);
+                }
+                if (!symbol.equals("<")) {
+                    lower = Math.max(lower, bound);
+                }
+            }
+            double gap = tolerance * Math.max(1, Math.abs(upper));
+            if (lower > upper + gap) {
+                status = SolutionStatus.INFEASIBLE;
+                break;
+            }
+
+            int kept = 1;
+            int first = group.get(0);
+            if (lower == Double.NEGATIVE_INFINITY) {
+                setRow(first, "<", upper);
+            }
+            else if (upper == Double.POSITIVE_INFINITY) {
+                setRow(first, ">", lower);
+            }
+            else if (upper - lower <= gap) {
+                setRow(first, "=", upper);
+            }
+            else {
+                setRow(first, "<", upper);
+                setRow(group.get(1), ">", lower);
+                kept = 2;
+            }
+            for (int k = kept; k < group.size(); k++) {
+                rowRemoved[group.get(k)] = true;
+                report.duplicateRows++;
+                changed = true;
+            }
+        }  //  end of for
+        return changed;
+    }  //  end of removeDuplicateRows()
+
+    /**
+     *  Makes a row say that v.x, its coefficients divided by the first one,
+     *  has the relation {@code symbol} to {@code value}.
+     */
+    private void setRow(int row, String symbol, double value) {
+        double scale = firstCoefficient(row);
+        symbols[row] = scale < 0 ? reverse(symbol) : symbol;
+        rightHandSides[row] = value * scale;
+    }  //  end of setRow()
+
+    private double firstCoefficient(int row) {
+        for (int p = byRow.columnStarts[row]; p < byRow.columnStarts[row + 1]; p++) {
+            if (byRow.values[p] != 0 && !columnRemoved[byRow.rowIndices[p]]) {
+                return byRow.values[p];
+            }
+        }
+        return 0;
+    }  //  end of firstCoefficient()
+
+    /**
+     *  <p>The class {@code RowKey} holds the variables and the coefficients of a
+     *  row divided by its first coefficient, so that rows that are multiples of
+     *  each other are equal.</p>
+     */
+    private class RowKey {
+
+        final int[] columns;
+        final double[] values;
+        final int hash;
+
+        RowKey(int row) {
+            int count = rowCounts[row];
+            columns = new int[count];
+            values = new double[count];
+            double scale = firstCoefficient(row);
+            int k = 0;
+            for (int p = byRow.columnStarts[row]; p < byRow.columnStarts[row + 1]; p++) {
+                if (byRow.values[p] != 0 && !columnRemoved[byRow.rowIndices[p]]) {
+                    columns[k] = byRow.rowIndices[p];
+                    values[k] = byRow.values[p] / scale;
+                    k++;
+                }
+            }
+            hash = 31 * Arrays.hashCode(columns) + Arrays.hashCode(values);
+        }  //  end of constructor
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof RowKey && Arrays.equals(columns, ((RowKey) other).columns)
+                    && Arrays.equals(values, ((RowKey) other).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }  //  end of class RowKey
+
+    /**
+     *  Creates the smaller problem from the rows and columns that are left,
+     *  adding a constraint for each bound that still matters.
+     */
+    private LinearProgram build() {
+        columnMap = new int[columnNumber];
+        int reducedColumns = 0;
+        int boundRows = 0;
+        for (int j = 0; j < columnNumber; j++) {
+            columnMap[j] = columnRemoved[j] ? -1 : reducedColumns++;
+            if (!columnRemoved[j]) {
+                boundRows += (lowerBounds[j] > 0 ? 1 : 0) + (upperBounds[j] < Double.POSITIVE_INFINITY ? 1 : 0);
+            }
+        }
+        int[] rowMap = new int[rowNumber];
+        int reducedRows = 0;
+        for (int i = 0; i < rowNumber; i++) {
+            rowMap[i] = rowRemoved[i] ? -1 : reducedRows++;
+        }
+        int totalRows = reducedRows + boundRows;
+
+        report.reducedRows = totalRows;
+        report.reducedColumns = reducedColumns;
+        report.boundRows = boundRows;
+        if (totalRows == 0) {
+            //  every variable left could grow without limit and improve the objective function
+            status = reducedColumns == 0 ? SolutionStatus.OPTIMAL : SolutionStatus.UNBOUNDED;
+            return null;
+        }
+
+        TripletList coefficients = new TripletList();
+        String[] reducedSymbols = new String[totalRows];
+        double[] reducedRightHandSides = new double[totalRows];
+        for (int i = 0; i < rowNumber; i++) {
+            if (rowMap[i] >= 0) {
+                reducedSymbols[rowMap[i]] = symbols[i];
+                reducedRightHandSides[rowMap[i]] = rightHandSides[i];
+            }
+        }
+        int next = reducedRows;
+        for (int j = 0; j < columnNumber; j++) {
+            if (columnRemoved[j]) {
+                continue;
+            }
+            for (int p = byColumn.columnStarts[j]; p < byColumn.columnStarts[j + 1]; p++) {
+                int row = rowMap[byColumn.rowIndices[p]];
+                if (row >= 0) {
+                    coefficients.add(row, columnMap[j], byColumn.values[p]);
+                }
+            }
+            if (lowerBounds[j] > 0) {
+                coefficients.add(next, columnMap[j], 1);
+                reducedSymbols[next] = ">";
+                reducedRightHandSides[next++] = lowerBounds[j];
+            }
+            if (upperBounds[j] < Double.POSITIVE_INFINITY) {
+                coefficients.add(next, columnMap[j], 1);
+                reducedSymbols[next] = "<";
+                reducedRightHandSides[next++] = upperBounds[j];
+            }
+        }  //  end of for
+
+        LinearProgram reduced = new LinearProgram(program.optimisationType,
+                coefficients.toSparseMatrix(totalRows, reducedColumns));
+        for (int j = 0; j < columnNumber; j++) {
+            if (columnMap[j] >= 0) {
+                reduced.objective[columnMap[j]] = program.objective[j];
+            }
+        }
+        reduced.symbols = reducedSymbols;
+        reduced.rightHandSides = reducedRightHandSides;
+        report.reducedNonZeros = reduced.sparseConstraints.nonZeroNumber();
+        return reduced;
+    }  //  end of build()
+
+    /**
+     *  Maps the solution of the smaller problem back to the original variables.
+     *
+     *  @param reducedSolution is the solution of the problem returned by {@code reduce()},
+     *  or {@code null} if it returned {@code null}
+     *  @return the solution of the original problem
+     */
+    public Solution postsolve(Solution reducedSolution) {
+        double[] variableValues = new double[columnNumber];
+        double objectiveValue = 0;
+        for (int j = 0; j < columnNumber; j++) {
+            if (columnRemoved[j]) {
+                variableValues[j] = fixedValues[j];
+            }
+            else if (reducedSolution != null) {
+                variableValues[j] = reducedSolution.variableValues[columnMap[j]];
+            }
+            objectiveValue += program.objective[j] * variableValues[j];
+        }
+
+        Solution solution = reducedSolution == null
+                ? new Solution(status, objectiveValue, variableValues, 0)
+                : new Solution(reducedSolution.status, objectiveValue, variableValues, reducedSolution.iterations);
+        solution.presolveReport = report;
+        if (reducedSolution != null) {
+            solution.stallCounters = reducedSolution.stallCounters;
+            solution.metrics = reducedSolution.metrics;
+        }
+        return solution;
+    }  //  end of postsolve()
+
+    private boolean isSatisfied(double value, String symbol, double rightHandSide) {
+        double gap = tolerance * Math.max(1, Math.abs(rightHandSide));
+        switch (symbol) {
+            case "<":
+                return value <= rightHandSide + gap;
+            case ">":
+                return value >= rightHandSide - gap;
+            default:
+                return Math.abs(value - rightHandSide) <= gap;
+        }
+    }  //  end of isSatisfied()
+
+    private static String reverse(String symbol) {
+        return symbol.equals("<") ? ">" : symbol.equals(">") ? "<" : symbol;
+    }
+
+}  //  end of class
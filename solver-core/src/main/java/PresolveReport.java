@@ -0,0 +1,52 @@
+/**
+ *  <p>The class {@code PresolveReport} tells what a {@code Presolve} removed
+ *  from a problem and how much smaller the problem became.</p>
+ */
+
+public class PresolveReport {
+
+    /**
+     *  The sizes of the problem before and after presolve
+     */
+    int originalRows, originalColumns, originalNonZeros;
+    int reducedRows, reducedColumns, reducedNonZeros;
+
+    /**
+     *  The {@code int} values are the number of constraints removed for each reason
+     */
+    int emptyRows, singletonRows, duplicateRows;
+
+    /**
+     *  The {@code int} is the number of constraints added back as bounds on a
+     *  single variable, after the singleton rows on that variable were merged
+     */
+    int boundRows;
+
+    /**
+     *  The {@code int} values are the number of variables removed for each reason
+     */
+    int fixedColumns, dominatedColumns;
+
+    /**
+     *  The {@code int} is the number of passes made over the problem
+     */
+    int passes;
+
+    public int getRowsRemoved() {
+        return originalRows - reducedRows;
+    }
+
+    public int getColumnsRemoved() {
+        return originalColumns - reducedColumns;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Presolve: %d x %d (%d nonzeros) -> %d x %d (%d nonzeros) in %d pass(es); "
+                        + "removed %d empty, %d singleton and %d duplicate row(s), %d fixed and %d dominated "
+                        + "column(s); %d bound row(s) kept",
+                originalRows, originalColumns, originalNonZeros, reducedRows, reducedColumns, reducedNonZeros, passes,
+                emptyRows, singletonRows, duplicateRows, fixedColumns, dominatedColumns, boundRows);
+    }  //  end of toString()
+
+}  //  end of class
@@ -0,0 +1,29 @@
+/**
+ *  <p>The interface {@code PricingRule} describes how {@code Simplex} chooses
+ *  the key column, the variable that enters the basis, on each iteration.</p>
+ *  <p>Only columns before {@code simplex.artificialStart} may be chosen and only
+ *  if their coefficient in the objective function row is below
+ *  {@code -simplex.optimalityTolerance}.</p>
+ */
+
+public interface PricingRule {
+
+    /**
+     *  Called before the first iteration of a solve, once the tableau has been prepared.
+     */
+    default void reset(Simplex simplex) {
+    }
+
+    /**
+     *  @return the key column, or <i>-1</i> if no coefficient in the objective
+     *  function row is negative
+     */
+    int chooseColumn(Simplex simplex);
+
+    /**
+     *  Called after every pivot so that rules which keep weights can update them.
+     */
+    default void update(Simplex simplex, int keyRow, int keyColumn) {
+    }
+
+}  //  end of interface
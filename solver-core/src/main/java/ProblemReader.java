@@ -0,0 +1,275 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ *  <p>The class {@code ProblemReader} reads optimisation problems from text
+ *  written in the same form they are entered in {@code OptimisationProgram}.</p>
+ *  <p>Each problem starts with <i>max</i> or <i>min</i> followed by the coefficients
+ *  of the objective function. Each constraint is on its own line with the
+ *  coefficients of the variables, the symbol (<i><</i>, <i>></i> or <i>=</i>)
+ *  and the solution. Blank lines and lines starting with <i>#</i> are ignored,
+ *  and a file may hold any number of problems:</p>
+ *  <pre>
+ *  max 3 5
+ *  1 0 &lt; 4
+ *  0 2 &lt; 12
+ *  3 2 &lt; 18
+ *  </pre>
+ */
+
+public class ProblemReader {
+
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    /**
+     *  Reads every problem in a file.
+     *
+     *  @param path is the file to be read
+     *  @return the problems in the order they appear
+     *  @throws IOException if the file cannot be read
+     *  @throws IllegalArgumentException if the file is not in the expected form
+     */
+    public static List<LinearProgram> read(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }  //  end of read()
+
+    /**
+     *  Reads every problem from a reader.
+     *
+     *  @param reader holds the problems
+     *  @return the problems in the order they appear
+     *  @throws IOException if the reader fails
+     *  @throws IllegalArgumentException if the text is not in the expected form
+     */
+    public static List<LinearProgram> read(BufferedReader reader) throws IOException {
+        List<LinearProgram> programs = new ArrayList<>();
+        int optimisationType = 0;
+        double[] objective = null;
+        List<double[]> constraints = new ArrayList<>();
+        List<String> symbols = new ArrayList<>();
+        List<Double> rightHandSides = new ArrayList<>();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] tokens = line.split("\\s+");
+
+            if (tokens[0].equalsIgnoreCase("max") || tokens[0].equalsIgnoreCase("min")) {
+                //  start of a new problem
+                if (objective != null) {
+                    programs.add(createProgram(optimisationType, objective, constraints, symbols, rightHandSides));
+                }
+                optimisationType = tokens[0].equalsIgnoreCase("max") ? 1 : 2;
+                objective = new double[tokens.length - 1];
+                for (int j = 1; j < tokens.length; j++) {
+                    objective[j - 1] = parseNumber(tokens[j], lineNumber);
+                }
+                if (objective.length == 0) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": the objective function has no variables");
+                }
+                constraints.clear();
+                symbols.clear();
+                rightHandSides.clear();
+                continue;
+            }
+
+            if (objective == null) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": expected max or min");
+            }
+            if (tokens.length != objective.length + 2) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": expected " + objective.length
+                        + " coefficients, a symbol and a solution");
+            }
+            double[] row = new double[objective.length];
+            for (int j = 0; j < row.length; j++) {
+                row[j] = parseNumber(tokens[j], lineNumber);
+            }
+            constraints.add(row);
+            symbols.add(parseSymbol(tokens[row.length], lineNumber));
+            rightHandSides.add(parseNumber(tokens[row.length + 1], lineNumber));
+        }  //  end of while
+
+        if (objective != null) {
+            programs.add(createProgram(optimisationType, objective, constraints, symbols, rightHandSides));
+        }
+        return programs;
+    }  //  end of read()
+
+    /**
+     *  Reads one problem laid out as a table, such as a CSV file or cells copied
+     *  from a spreadsheet. The cells of a row are separated by tabs, semicolons or
+     *  commas, the first of these found in the row, or else by spaces. An empty cell
+     *  is <i>0</i>. The first row holds the coefficients of the objective function,
+     *  optionally after <i>max</i> or <i>min</i>, and may follow a row of column titles,
+     *  which has cells that are not numbers. Its empty cells at the end are taken as
+     *  padding and left out. Each other row holds the coefficients of a constraint,
+     *  its symbol and its solution, and may be padded with empty cells after them.
+     *
+     *  @param reader holds the table
+     *  @param optimisationType is used unless the first row starts with <i>max</i> or <i>min</i>
+     *  @return the problem
+     *  @throws IOException if the reader fails
+     *  @throws IllegalArgumentException if the table is not in the expected form
+     */
+    public static LinearProgram readTable(BufferedReader reader, int optimisationType) throws IOException {
+        double[] objective = null;
+        List<double[]> constraints = new ArrayList<>();
+        List<String> symbols = new ArrayList<>();
+        List<Double> rightHandSides = new ArrayList<>();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.trim().isEmpty() || line.trim().startsWith("#")) {
+                continue;
+            }
+            String[] tokens = splitCells(line.replace("\"", ""));
+            int cellNumber = tokens.length;
+            while (cellNumber > 0 && tokens[cellNumber - 1].isEmpty()) {
+                cellNumber--;
+            }
+            if (cellNumber == 0) {
+                continue;
+            }
+
+            if (objective == null) {
+                tokens = Arrays.copyOf(tokens, cellNumber);
+                int first = 0;
+                if (tokens[0].equalsIgnoreCase("max") || tokens[0].equalsIgnoreCase("min")) {
+                    optimisationType = tokens[0].equalsIgnoreCase("max") ? 1 : 2;
+                    first = 1;
+                }
+                else if (hasText(tokens)) {
+                    continue;  //  column titles
+                }
+                objective = new double[tokens.length - first];
+                for (int j = first; j < tokens.length; j++) {
+                    objective[j - first] = parseCell(tokens[j], lineNumber);
+                }
+                if (objective.length == 0) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": the objective function has no variables");
+                }
+                continue;
+            }
+
+            if (tokens.length < objective.length + 2 || cellNumber > objective.length + 2) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": expected " + objective.length
+                        + " coefficients, a symbol and a solution");
+            }
+            double[] row = new double[objective.length];
+            for (int j = 0; j < row.length; j++) {
+                row[j] = parseCell(tokens[j], lineNumber);
+            }
+            constraints.add(row);
+            symbols.add(parseSymbol(tokens[row.length], lineNumber));
+            rightHandSides.add(parseCell(tokens[row.length + 1], lineNumber));
+        }  //  end of while
+
+        if (objective == null) {
+            throw new IllegalArgumentException("The table has no objective function");
+        }
+        return createProgram(optimisationType, objective, constraints, symbols, rightHandSides);
+    }  //  end of readTable()
+
+    /**
+     *  Splits a row of a table at each tab, semicolon or comma, whichever is found
+     *  first in that order, so that empty cells keep their place, or else at each
+     *  run of spaces.
+     *
+     *  @return the trimmed cells
+     */
+    private static String[] splitCells(String line) {
+        String[] cells;
+        if (line.indexOf('\t') >= 0) {
+            cells = line.split("\t", -1);
+        }
+        else if (line.indexOf(';') >= 0) {
+            cells = line.split(";", -1);
+        }
+        else if (line.indexOf(',') >= 0) {
+            cells = line.split(",", -1);
+        }
+        else {
+            cells = SPACES.split(line.trim());
+        }
+        for (int j = 0; j < cells.length; j++) {
+            cells[j] = cells[j].trim();
+        }
+        return cells;
+    }  //  end of splitCells()
+
+    /**
+     *  @return <i>true</i> if a cell is not empty and not a number, as in a row of column titles
+     */
+    private static boolean hasText(String[] cells) {
+        for (String cell : cells) {
+            if (!cell.isEmpty()) {
+                try {
+                    Double.parseDouble(cell);
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }  //  end of hasText()
+
+    /**
+     *  @return the number in a cell of a table, which is <i>0</i> if the cell is empty
+     */
+    private static double parseCell(String token, int lineNumber) {
+        return token.isEmpty() ? 0 : parseNumber(token, lineNumber);
+    }
+
+    private static LinearProgram createProgram(int optimisationType, double[] objective, List<double[]> constraints,
+                                               List<String> symbols, List<Double> rightHandSides) {
+        if (constraints.isEmpty()) {
+            throw new IllegalArgumentException("A problem has no constraints");
+        }
+        LinearProgram program = new LinearProgram(constraints.size(), objective.length, optimisationType);
+        program.objective = objective;
+        for (int i = 0; i < constraints.size(); i++) {
+            program.constraints[i] = constraints.get(i);
+            program.symbols[i] = symbols.get(i);
+            program.rightHandSides[i] = rightHandSides.get(i);
+        }
+        return program;
+    }  //  end of createProgram()
+
+    private static double parseNumber(String token, int lineNumber) {
+        try {
+            return Double.parseDouble(token);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": " + token + " is not a number");
+        }
+    }  //  end of parseNumber()
+
+    private static String parseSymbol(String token, int lineNumber) {
+        if (token.equals("<") || token.equals("<=")) {
+            return "<";
+        }
+        else if (token.equals(">") || token.equals(">=")) {
+            return ">";
+        }
+        else if (token.equals("=")) {
+            return "=";
+        }
+        throw new IllegalArgumentException("Line " + lineNumber + ": " + token + " is not <, > or =");
+    }  //  end of parseSymbol()
+
+}  //  end of class
@@ -0,0 +1,807 @@
+/**
+ *  <p>The class {@code RevisedSimplex} solves a {@code LinearProgram} with
+ *  the revised simplex method. Instead of updating a full tableau on every
+ *  iteration, it keeps the basis in a {@code BasisFactorization} and only
+ *  computes the values needed to choose the entering and leaving variables.</p>
+ *  <p>It is suited to wide problems with many more variables than constraints.
+ *  The coefficients are kept in a {@code SparseMatrix} and slack, surplus and
+ *  artificial variables are never stored as columns, so the work done for
+ *  sparse problems grows with the number of coefficients that are not <i>0</i>.
+ *  Artificial variables are removed with a first phase that minimises
+ *  their sum before the objective function is optimised.</p>
+ *  <p>A solve may instead start from the {@code Basis} of an earlier solve. If that
+ *  basis is still feasible, as after a change to the objective function, only the
+ *  second phase is carried out. If it is still optimal but no longer feasible, as
+ *  after a change to the solutions or an added constraint, the dual simplex method
+ *  makes it feasible again. Either way only a few pivots are usually needed.</p>
+ */
+
+public class RevisedSimplex {
+
+    LinearProgram program;
+
+    /**
+     *  The {@code int} is the number of constraints, <i>m</i>
+     */
+    int rowNumber;
+
+    /**
+     *  The {@code int} is the number of variables including
+     *  slack, surplus and artificial variables
+     */
+    int columnNumber;
+
+    /**
+     *  The coefficients of the variables of the problem that are not <i>0</i>, stored by column
+     */
+    SparseMatrix columns;
+
+    /**
+     *  Slack, surplus and artificial variable <i>k</i> has the coefficient {@code auxiliaryValues[k]}
+     *  in constraint {@code auxiliaryRows[k]} and <i>0</i> in every other constraint
+     */
+    int[] auxiliaryRows;
+    double[] auxiliaryValues;
+    boolean[] artificial;
+
+    /**
+     *  The solution of each constraint, made non-negative
+     */
+    double[] rightHandSides;
+
+    /**
+     *  The {@code double} values are <i>-1</i> for each constraint that was
+     *  multiplied by <i>-1</i> to make its solution non-negative, and <i>1</i> otherwise
+     */
+    double[] signs;
+
+    /**
+     *  The objective function to be minimised in the second phase
+     */
+    double[] costs;
+
+    /**
+     *  The basic variable of each constraint and its value
+     */
+    int[] basis;
+    boolean[] basic;
+    double[] basicValues;
+
+    BasisFactorization factorization;
+
+    /**
+     *  The rows where the entering column is not <i>0</i>, gathered while the basic values
+     *  are updated so that the eta matrix does not have to scan the column again
+     */
+    int[] nonZeroRows;
+
+    /**
+     *  The slack or surplus variable of each constraint, or its artificial
+     *  variable for an <i>=</i> constraint
+     */
+    int[] logicalColumns;
+
+    /**
+     *  The basis the solve starts from, or {@code null} to start from the slack
+     *  and artificial variables. It is ignored if it does not fit the problem,
+     *  is singular or is neither feasible nor optimal
+     */
+    Basis startBasis;
+
+    /**
+     *  The {@code boolean} selects a {@code SparseBasisFactorization} when <i>true</i>
+     *  and a {@code DenseBasisFactorization} when <i>false</i>
+     */
+    boolean sparseFactorization;
+
+    /**
+     *  The {@code int} is the number of basis changes between refactorisations
+     */
+    int refactorizationInterval = 50;
+
+    /**
+     *  The {@code double} values are the size below which a coefficient is treated
+     *  as <i>0</i>, how far the artificial variables may be above <i>0</i> for each
+     *  constraint after the first phase, and how far below <i>0</i> a reduced cost
+     *  may be when the solution is taken to be optimal
+     */
+    double tolerance = 1e-9, feasibilityTolerance = 1e-9, optimalityTolerance = 1e-9;
+
+    int iteration;
+
+    /**
+     *  The {@code int} is the largest number of iterations a solve may carry out
+     */
+    int iterationLimit = Integer.MAX_VALUE;
+
+    /**
+     *  The {@code long} is the time, in milliseconds since the epoch, after which
+     *  a solve stops. It is ignored when it is <i>0</i>
+     */
+    long deadline;
+
+    volatile boolean cancelled;
+
+    /**
+     *  The result of the last solve
+     */
+    SolutionStatus status;
+
+    /**
+     *  The {@code int} is the number of degenerate pivots in a row after which
+     *  Bland's rule is used until a pivot makes progress, unless {@code stallRecovery}
+     *  is {@code NONE}. {@code PERTURBATION} is treated as {@code BLAND}
+     */
+    int stallWindow = 50;
+
+    StallRecovery stallRecovery = StallRecovery.BLAND;
+
+    /**
+     *  Counts the degenerate pivots and the recoveries from stalls of the last solve
+     */
+    StallCounters stallCounters = new StallCounters();
+
+    /**
+     *  Adds up the metrics of every solve, or is {@code null} to keep them only
+     *  in each {@code Solution}
+     */
+    SolverInstrumentation instrumentation = SolverInstrumentation.getDefault();
+
+    /**
+     *  The counts and phase times of the last solve
+     */
+    SolveMetrics metrics = new SolveMetrics(false);
+
+    /**
+     *  Creates a {@code RevisedSimplex} object for the given problem.
+     *
+     *  @param program is the problem to be solved
+     */
+    public RevisedSimplex(LinearProgram program) {
+        this.program = program;
+        this.rowNumber = program.constraintNumber;
+    }  //  end of constructor
+
+    /**
+     *  Adds slack, surplus and artificial variables to the problem and
+     *  makes a starting basis of slack and artificial variables.
+     */
+    private void prepareRevisedSimplex() {
+        int n = program.variableNumber;
+
+        //  make each solution non-negative, reversing the symbol where needed
+        String[] symbols = new String[rowNumber];
+        signs = new double[rowNumber];
+        rightHandSides = new double[rowNumber];
+        int auxiliaryNumber = 0;
+        for (int i = 0; i < rowNumber; i++) {
+            signs[i] = program.rightHandSides[i] < 0 ? -1 : 1;
+            rightHandSides[i] = signs[i] * program.rightHandSides[i];
+            symbols[i] = program.symbols[i];
+            if (signs[i] < 0 && !symbols[i].equals("=")) {
+                symbols[i] = symbols[i].equals("<") ? ">" : "<";
+            }
+            auxiliaryNumber += symbols[i].equals(">") ? 2 : 1;
+        }
+
+        columnNumber = n + auxiliaryNumber;
+        SparseMatrix constraints = program.getSparseConstraints();
+        double[] values = new double[constraints.nonZeroNumber()];
+        for (int p = 0; p < values.length; p++) {
+            values[p] = signs[constraints.rowIndices[p]] * constraints.values[p];
+        }
+        columns = new SparseMatrix(rowNumber, n, constraints.columnStarts, constraints.rowIndices, values);
+
+        //  set slack, surplus and artificial variables
+        auxiliaryRows = new int[auxiliaryNumber];
+        auxiliaryValues = new double[auxiliaryNumber];
+        artificial = new boolean[columnNumber];
+        basis = new int[rowNumber];
+        basic = new boolean[columnNumber];
+        nonZeroRows = new int[rowNumber];
+        logicalColumns = new int[rowNumber];
+        int k = 0;
+        for (int i = 0; i < rowNumber; i++) {
+            logicalColumns[i] = n + k;
+            if (symbols[i].equals("<")) {  //  slack variable
+                auxiliaryRows[k] = i;
+                auxiliaryValues[k] = 1;
+                basis[i] = n + k;
+                k++;
+            }
+            else {
+                if (symbols[i].equals(">")) {  //  surplus variable
+                    auxiliaryRows[k] = i;
+                    auxiliaryValues[k] = -1;
+                    k++;
+                }
+                auxiliaryRows[k] = i;  //  artificial variable
+                auxiliaryValues[k] = 1;
+                artificial[n + k] = true;
+                basis[i] = n + k;
+                k++;
+            }
+        }  //  end of for
+        for (int i = 0; i < rowNumber; i++) {
+            basic[basis[i]] = true;
+        }
+
+        //  minimise the negated objective function of a maximisation problem
+        costs = new double[columnNumber];
+        for (int j = 0; j < n; j++) {
+            costs[j] = program.optimisationType == 1 ? -program.objective[j] : program.objective[j];
+        }
+
+        if (sparseFactorization) {
+            factorization = new SparseBasisFactorization(rowNumber, refactorizationInterval);
+        }
+        else {
+            factorization = new DenseBasisFactorization(rowNumber, refactorizationInterval);
+        }
+        refactorize();
+    }  //  end of prepareRevisedSimplex()
+
+    /**
+     *  Writes the coefficients of variable {@code j} into {@code column}.
+     */
+    private void loadColumn(int j, double[] column) {
+        java.util.Arrays.fill(column, 0);
+        if (j < program.variableNumber) {
+            for (int p = columns.columnStarts[j]; p < columns.columnStarts[j + 1]; p++) {
+                column[columns.rowIndices[p]] = columns.values[p];
+            }
+        }
+        else {
+            column[auxiliaryRows[j - program.variableNumber]] = auxiliaryValues[j - program.variableNumber];
+        }
+    }  //  end of loadColumn()
+
+    /**
+     *  @return the product of {@code prices} and the coefficients of variable {@code j}
+     */
+    private double dot(double[] prices, int j) {
+        if (j < program.variableNumber) {
+            double sum = 0;
+            for (int p = columns.columnStarts[j]; p < columns.columnStarts[j + 1]; p++) {
+                sum += prices[columns.rowIndices[p]] * columns.values[p];
+            }
+            return sum;
+        }
+        return prices[auxiliaryRows[j - program.variableNumber]] * auxiliaryValues[j - program.variableNumber];
+    }  //  end of dot()
+
+    /**
+     *  Factorises the current basis and recomputes the values of the basic variables.
+     */
+    private void refactorize() {
+        SolvePhase previous = metrics.enter(SolvePhase.REFACTORIZATION);
+        metrics.refactorizations++;
+        int n = program.variableNumber;
+        int nonZero = 0;
+        for (int k = 0; k < rowNumber; k++) {
+            nonZero += basis[k] < n ? columns.columnStarts[basis[k] + 1] - columns.columnStarts[basis[k]] : 1;
+        }
+        int[] columnStarts = new int[rowNumber + 1];
+        int[] rowIndices = new int[nonZero];
+        double[] values = new double[nonZero];
+        nonZero = 0;
+        for (int k = 0; k < rowNumber; k++) {
+            if (basis[k] < n) {
+                for (int p = columns.columnStarts[basis[k]]; p < columns.columnStarts[basis[k] + 1]; p++) {
+                    rowIndices[nonZero] = columns.rowIndices[p];
+                    values[nonZero] = columns.values[p];
+                    nonZero++;
+                }
+            }
+            else {
+                rowIndices[nonZero] = auxiliaryRows[basis[k] - n];
+                values[nonZero] = auxiliaryValues[basis[k] - n];
+                nonZero++;
+            }
+            columnStarts[k + 1] = nonZero;
+        }
+        factorization.factorize(new SparseMatrix(rowNumber, rowNumber, columnStarts, rowIndices, values));
+
+        basicValues = rightHandSides.clone();
+        factorization.ftran(basicValues);
+        metrics.enter(previous);
+    }  //  end of refactorize()
+
+    /**
+     *  Carries out simplex iterations until the given objective function
+     *  cannot be improved.
+     *
+     *  @param phaseCosts is the objective function to be minimised
+     *  @param phaseOne is <i>true</i> when artificial variables may enter the basis
+     *  @return {@code OPTIMAL}, {@code UNBOUNDED} or the reason the solve stopped
+     */
+    private SolutionStatus minimise(double[] phaseCosts, boolean phaseOne) {
+        double[] prices = new double[rowNumber];
+        double[] enteringColumn = new double[rowNumber];
+        boolean bland = false;
+        int degenerateRun = 0;
+
+        while (true) {
+            SolutionStatus limit = checkLimits();
+            if (limit != null) {
+                return limit;
+            }
+
+            //  compute the simplex multipliers
+            metrics.enter(SolvePhase.PRICING);
+            for (int i = 0; i < rowNumber; i++) {
+                prices[i] = phaseCosts[basis[i]];
+            }
+            factorization.btran(prices);
+
+            //  find entering variable with the most negative reduced cost,
+            //  or the first negative one with Bland's rule
+            int keyColumn = -1;
+            double key = -optimalityTolerance;
+            for (int j = 0; j < columnNumber; j++) {
+                if (basic[j] || (!phaseOne && artificial[j])) {
+                    continue;
+                }
+                double reducedCost = phaseCosts[j] - dot(prices, j);
+                if (reducedCost < key) {
+                    key = reducedCost;
+                    keyColumn = j;
+                    if (bland) {
+                        break;
+                    }
+                }
+            }
+            if (keyColumn < 0) {
+                return SolutionStatus.OPTIMAL;
+            }
+
+            metrics.enter(SolvePhase.RATIO_TEST);
+            loadColumn(keyColumn, enteringColumn);
+            factorization.ftran(enteringColumn);
+
+            //  find leaving variable with the ratio test
+            int keyRow = -1;
+            double ratio = Double.MAX_VALUE;
+            for (int i = 0; i < rowNumber; i++) {
+                double ratioTest;
+                if (!phaseOne && artificial[basis[i]] && Math.abs(enteringColumn[i]) > tolerance) {
+                    ratioTest = 0;  //  artificial variables must stay at 0
+                }
+                else if (enteringColumn[i] > tolerance) {
+                    ratioTest = Math.max(basicValues[i], 0) / enteringColumn[i];
+                }
+                else {
+                    continue;
+                }
+                if (ratioTest < ratio || (ratioTest == ratio && (bland ? basis[i] < basis[keyRow]
+                        : Math.abs(enteringColumn[i]) > Math.abs(enteringColumn[keyRow])))) {
+                    ratio = ratioTest;
+                    keyRow = i;
+                }
+            }
+            if (keyRow < 0) {
+                return SolutionStatus.UNBOUNDED;
+            }
+
+            metrics.enter(SolvePhase.ELIMINATION);
+            changeBasis(keyRow, keyColumn, enteringColumn, ratio);
+            if (ratio > tolerance) {
+                degenerateRun = 0;
+                bland = false;
+            }
+            else {
+                stallCounters.degeneratePivots++;
+                metrics.degeneratePivots++;
+                if (++degenerateRun >= stallWindow && stallRecovery != StallRecovery.NONE && !bland) {
+                    bland = true;
+                    stallCounters.stalls++;
+                    stallCounters.blandSwitches++;
+                }
+            }
+        }  //  end of while
+    }  //  end of minimise()
+
+    /**
+     *  @return the reason the solve must stop before the next iteration, or {@code null}
+     */
+    private SolutionStatus checkLimits() {
+        if (cancelled || Thread.currentThread().isInterrupted()) {
+            return SolutionStatus.CANCELLED;
+        }
+        if (iteration >= iterationLimit) {
+            return SolutionStatus.ITERATION_LIMIT;
+        }
+        if (deadline > 0 && System.currentTimeMillis() >= deadline) {
+            return SolutionStatus.TIME_LIMIT;
+        }
+        return null;
+    }  //  end of checkLimits()
+
+    /**
+     *  Carries out dual simplex iterations from a basis whose reduced costs are all
+     *  at least <i>0</i>, until every basic variable is within its bounds. Each
+     *  iteration removes the basic variable furthest outside its bounds and keeps
+     *  the reduced costs at least <i>0</i>.
+     *
+     *  @return {@code OPTIMAL}, {@code INFEASIBLE} or the reason the solve stopped
+     */
+    private SolutionStatus minimiseDual() {
+        double[] prices = new double[rowNumber];
+        double[] row = new double[rowNumber];
+        double[] enteringColumn = new double[rowNumber];
+
+        while (true) {
+            SolutionStatus limit = checkLimits();
+            if (limit != null) {
+                return limit;
+            }
+
+            //  find leaving variable, which is below 0 or an artificial variable above 0
+            metrics.enter(SolvePhase.PRICING);
+            int keyRow = -1;
+            double worst = feasibilityTolerance;
+            for (int i = 0; i < rowNumber; i++) {
+                double infeasibility = artificial[basis[i]] ? Math.abs(basicValues[i]) : -basicValues[i];
+                if (infeasibility > worst) {
+                    worst = infeasibility;
+                    keyRow = i;
+                }
+            }
+            if (keyRow < 0) {
+                return SolutionStatus.OPTIMAL;
+            }
+            boolean increase = basicValues[keyRow] < 0;
+
+            metrics.enter(SolvePhase.RATIO_TEST);
+            for (int i = 0; i < rowNumber; i++) {
+                prices[i] = costs[basis[i]];
+            }
+            factorization.btran(prices);
+            java.util.Arrays.fill(row, 0);
+            row[keyRow] = 1;
+            factorization.btran(row);
+
+            //  find entering variable with the dual ratio test
+            int keyColumn = -1;
+            double ratio = Double.MAX_VALUE, keyValue = 0;
+            for (int j = 0; j < columnNumber; j++) {
+                if (basic[j] || artificial[j]) {
+                    continue;
+                }
+                double value = dot(row, j);
+                if (increase ? value < -tolerance : value > tolerance) {
+                    double ratioTest = Math.max(costs[j] - dot(prices, j), 0) / Math.abs(value);
+                    if (ratioTest < ratio || (ratioTest == ratio && Math.abs(value) > Math.abs(keyValue))) {
+                        ratio = ratioTest;
+                        keyValue = value;
+                        keyColumn = j;
+                    }
+                }
+            }
+            if (keyColumn < 0) {
+                return SolutionStatus.INFEASIBLE;
+            }
+
+            metrics.enter(SolvePhase.ELIMINATION);
+            loadColumn(keyColumn, enteringColumn);
+            factorization.ftran(enteringColumn);
+            changeBasis(keyRow, keyColumn, enteringColumn, basicValues[keyRow] / enteringColumn[keyRow]);
+        }  //  end of while
+    }  //  end of minimiseDual()
+
+    /**
+     *  Makes {@code startBasis} the current basis.
+     *
+     *  @return <i>false</i>, leaving the basis unchanged, if it does not have one basic
+     *  variable for each constraint or is singular
+     */
+    private boolean loadBasis(Basis startBasis) {
+        int n = program.variableNumber;
+        if (startBasis.basicNumber(rowNumber, n) != rowNumber) {
+            return false;
+        }
+        int[] slackBasis = basis;
+        basis = new int[rowNumber];
+        int k = 0;
+        for (int j = 0; j < n; j++) {
+            if (startBasis.isBasicVariable(j)) {
+                basis[k++] = j;
+            }
+        }
+        for (int i = 0; i < rowNumber; i++) {
+            if (startBasis.isBasicRow(i)) {
+                basis[k++] = logicalColumns[i];
+            }
+        }
+
+        try {
+            refactorize();
+        } catch (ArithmeticException e) {
+            basis = slackBasis;
+            refactorize();
+            return false;
+        }
+        java.util.Arrays.fill(basic, false);
+        for (int i = 0; i < rowNumber; i++) {
+            basic[basis[i]] = true;
+        }
+        return true;
+    }  //  end of loadBasis()
+
+    /**
+     *  Solves the problem from the current basis with the second phase if it is
+     *  feasible, or with the dual simplex method if it is optimal.
+     *
+     *  @return the solution, or {@code null} if the basis is neither
+     */
+    private Solution solveFromBasis() {
+        boolean feasible = true;
+        for (int i = 0; i < rowNumber && feasible; i++) {
+            double value = basicValues[i];
+            feasible = value >= -feasibilityTolerance && (!artificial[basis[i]] || value <= feasibilityTolerance);
+        }
+        if (feasible) {
+            return getSolution(minimise(costs, false));
+        }
+
+        metrics.enter(SolvePhase.PRICING);
+        double[] prices = new double[rowNumber];
+        for (int i = 0; i < rowNumber; i++) {
+            prices[i] = costs[basis[i]];
+        }
+        factorization.btran(prices);
+        for (int j = 0; j < columnNumber; j++) {
+            if (!basic[j] && !artificial[j] && costs[j] - dot(prices, j) < -optimalityTolerance) {
+                return null;
+            }
+        }
+
+        SolutionStatus status = minimiseDual();
+        if (status != SolutionStatus.OPTIMAL) {
+            return getSolution(status);
+        }
+        return getSolution(minimise(costs, false));
+    }  //  end of solveFromBasis()
+
+    /**
+     *  Solves the problem again with other solutions of the constraints, using the
+     *  factorised optimal basis of the last solve. The basis stays optimal as long as
+     *  it is feasible, so when it is, one {@code ftran} gives the new solution.
+     *
+     *  @param rightHandSides holds the new solution of each constraint
+     *  @return the solution, or {@code null} if the last solve did not find an optimum
+     *  or the basis is not feasible for the new solutions
+     */
+    Solution resolveRightHandSides(double[] rightHandSides) {
+        if (status != SolutionStatus.OPTIMAL) {
+            return null;
+        }
+        double[] values = new double[rowNumber];
+        for (int i = 0; i < rowNumber; i++) {
+            values[i] = signs[i] * rightHandSides[i];
+        }
+        factorization.ftran(values);
+        for (int i = 0; i < rowNumber; i++) {
+            if (values[i] < -feasibilityTolerance || (artificial[basis[i]] && values[i] > feasibilityTolerance)) {
+                return null;
+            }
+        }
+
+        double[] variableValues = new double[program.variableNumber];
+        double objectiveValue = 0;
+        for (int i = 0; i < rowNumber; i++) {
+            if (basis[i] < program.variableNumber) {
+                variableValues[basis[i]] = Math.max(values[i], 0);
+                objectiveValue += program.objective[basis[i]] * variableValues[basis[i]];
+            }
+        }
+        Solution solution = new Solution(SolutionStatus.OPTIMAL, objectiveValue, variableValues, 0);
+        solution.basis = getBasis();
+        return solution;
+    }  //  end of resolveRightHandSides()
+
+    /**
+     *  Solves the problem again with another objective function, using the factorised
+     *  optimal basis of the last solve. The basis stays feasible, so it is still optimal
+     *  if no reduced cost of the new objective function is negative.
+     *
+     *  @param objective holds the new coefficient of each variable
+     *  @return the solution, or {@code null} if the last solve did not find an optimum
+     *  or the basis is not optimal for the new objective function
+     */
+    Solution resolveObjective(double[] objective) {
+        if (status != SolutionStatus.OPTIMAL) {
+            return null;
+        }
+        int n = program.variableNumber;
+        double sign = program.optimisationType == 1 ? -1 : 1;
+        double[] prices = new double[rowNumber];
+        for (int i = 0; i < rowNumber; i++) {
+            prices[i] = basis[i] < n ? sign * objective[basis[i]] : 0;
+        }
+        factorization.btran(prices);
+        for (int j = 0; j < columnNumber; j++) {
+            double cost = j < n ? sign * objective[j] : 0;
+            if (!basic[j] && !artificial[j] && cost - dot(prices, j) < -optimalityTolerance) {
+                return null;
+            }
+        }
+
+        double[] variableValues = new double[n];
+        double objectiveValue = 0;
+        for (int i = 0; i < rowNumber; i++) {
+            if (basis[i] < n) {
+                variableValues[basis[i]] = basicValues[i];
+                objectiveValue += objective[basis[i]] * basicValues[i];
+            }
+        }
+        Solution solution = new Solution(SolutionStatus.OPTIMAL, objectiveValue, variableValues, 0);
+        solution.basis = getBasis();
+        return solution;
+    }  //  end of resolveObjective()
+
+    /**
+     *  @return the basis at the end of the solve
+     */
+    Basis getBasis() {
+        int n = program.variableNumber;
+        boolean[] basicVariables = new boolean[n];
+        boolean[] basicRows = new boolean[rowNumber];
+        for (int i = 0; i < rowNumber; i++) {
+            if (basis[i] < n) {
+                basicVariables[basis[i]] = true;
+            }
+            else {
+                basicRows[auxiliaryRows[basis[i] - n]] = true;
+            }
+        }
+        return new Basis(basicVariables, basicRows);
+    }  //  end of getBasis()
+
+    /**
+     *  Replaces the basic variable of {@code keyRow} with {@code keyColumn}.
+     */
+    private void changeBasis(int keyRow, int keyColumn, double[] enteringColumn, double step) {
+        iteration++;
+        int nonZeroNumber = 0;
+        for (int i = 0; i < rowNumber; i++) {
+            if (enteringColumn[i] != 0) {
+                basicValues[i] -= step * enteringColumn[i];
+                nonZeroRows[nonZeroNumber++] = i;
+            }
+        }
+        basicValues[keyRow] = step;
+
+        basic[basis[keyRow]] = false;
+        basic[keyColumn] = true;
+        basis[keyRow] = keyColumn;
+
+        if (factorization.needsRefactorization()) {
+            refactorize();
+        }
+        else {
+            factorization.update(keyRow, enteringColumn, nonZeroRows, nonZeroNumber);
+        }
+        metrics.pivoted(iteration);
+    }  //  end of changeBasis()
+
+    /**
+     *  Replaces artificial variables left in the basis at <i>0</i> after the first phase
+     *  with other variables where possible. Artificial variables that cannot be replaced
+     *  belong to redundant constraints and are kept at <i>0</i> in the second phase.
+     */
+    private void removeArtificialVariables() {
+        metrics.enter(SolvePhase.ARTIFICIAL_VARIABLES);
+        double[] row = new double[rowNumber];
+        double[] enteringColumn = new double[rowNumber];
+        for (int r = 0; r < rowNumber; r++) {
+            if (!artificial[basis[r]]) {
+                continue;
+            }
+
+            //  find row r of the current tableau
+            java.util.Arrays.fill(row, 0);
+            row[r] = 1;
+            factorization.btran(row);
+            for (int j = 0; j < columnNumber; j++) {
+                if (!basic[j] && !artificial[j] && Math.abs(dot(row, j)) > tolerance) {
+                    loadColumn(j, enteringColumn);
+                    factorization.ftran(enteringColumn);
+                    changeBasis(r, j, enteringColumn, basicValues[r] / enteringColumn[r]);
+                    break;
+                }
+            }
+        }  //  end of for
+    }  //  end of removeArtificialVariables()
+
+    /**
+     *  Solves the problem and gets the optimum solution.
+     *
+     *  @return the solution, with the status {@code INFEASIBLE} or {@code UNBOUNDED}
+     *  if there is no optimum solution
+     */
+    public Solution optimise() {
+        long startTime = System.nanoTime();
+        metrics = SolverInstrumentation.newMetrics(instrumentation);
+        metrics.started("RevisedSimplex", program.constraintNumber, program.variableNumber);
+        Solution solution = solvePhases();
+        solution.solveTime = System.nanoTime() - startTime;
+        metrics.finished(solution, instrumentation);
+        return solution;
+    }  //  end of optimise()
+
+    /**
+     *  Carries out the first phase, if there are artificial variables, and the second phase.
+     */
+    private Solution solvePhases() {
+        iteration = 0;
+        stallCounters = new StallCounters();
+        prepareRevisedSimplex();
+
+        if (startBasis != null && loadBasis(startBasis)) {
+            Solution solution = solveFromBasis();
+            if (solution != null) {
+                return solution;
+            }
+            prepareRevisedSimplex();  //  start again from the slack and artificial variables
+        }
+
+        //  first phase: minimise the sum of the artificial variables
+        boolean hasArtificialVariable = false;
+        double[] phaseOneCosts = new double[columnNumber];
+        for (int j = 0; j < columnNumber; j++) {
+            if (artificial[j]) {
+                phaseOneCosts[j] = 1;
+                hasArtificialVariable = true;
+            }
+        }
+        if (hasArtificialVariable) {
+            SolutionStatus status = minimise(phaseOneCosts, true);
+            if (status != SolutionStatus.OPTIMAL) {
+                return getSolution(status);
+            }
+            double infeasibility = 0;
+            for (int i = 0; i < rowNumber; i++) {
+                if (artificial[basis[i]]) {
+                    infeasibility += basicValues[i];
+                }
+            }
+            if (infeasibility > feasibilityTolerance * Math.max(1, rowNumber)) {
+                return getSolution(SolutionStatus.INFEASIBLE);
+            }
+            removeArtificialVariables();
+        }
+
+        //  second phase: optimise the objective function
+        return getSolution(minimise(costs, false));
+    }  //  end of solvePhases()
+
+    /**
+     *  Asks a solve running on another thread to stop before its next iteration.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     *  @return the values of the variables in the current basis
+     */
+    private Solution getSolution(SolutionStatus status) {
+        double[] variableValues = new double[program.variableNumber];
+        for (int i = 0; i < rowNumber; i++) {
+            if (basis[i] < program.variableNumber) {
+                variableValues[basis[i]] = basicValues[i];
+            }
+        }
+        double objectiveValue = 0;
+        for (int j = 0; j < program.variableNumber; j++) {
+            objectiveValue += program.objective[j] * variableValues[j];
+        }
+        this.status = status;
+        Solution solution = new Solution(status, objectiveValue, variableValues, iteration);
+        solution.stallCounters = stallCounters;
+        solution.basis = getBasis();
+        return solution;
+    }  //  end of getSolution()
+
+}  //  end of class
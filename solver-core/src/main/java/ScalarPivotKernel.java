@@ -0,0 +1,22 @@
+/**
+ *  <p>The class {@code ScalarPivotKernel} carries out the row operations
+ *  of a pivot one element at a time.</p>
+ */
+
+public class ScalarPivotKernel implements PivotKernel {
+
+    @Override
+    public void divide(double[] cells, int offset, int length, double pivot) {
+        for (int i = offset; i < offset + length; i++) {
+            cells[i] /= pivot;
+        }
+    }  //  end of divide()
+
+    @Override
+    public void subtractMultiple(double[] cells, int target, double[] keyRow, int length, double factor) {
+        for (int i = 0; i < length; i++) {
+            cells[target + i] -= (factor * keyRow[i]);
+        }
+    }  //  end of subtractMultiple()
+
+}  //  end of class
@@ -0,0 +1,180 @@
+import java.util.Arrays;
+
+/**
+ *  <p>The class {@code Scaling} multiplies each constraint of a {@code LinearProgram}
+ *  by a row factor and each variable by a column factor, so that its coefficients
+ *  are close to <i>1</i>, and maps the solution of the scaled problem back.</p>
+ *  <p>Problems with coefficients that differ by many orders of magnitude take more
+ *  iterations, because the pricing rules compare coefficients of different sizes,
+ *  and lose accuracy in every elimination. Every factor is a power of <i>2</i>, so
+ *  scaling and unscaling do not round any coefficient. The factors are positive,
+ *  so the symbols of the constraints, the bounds <i>x &ge; 0</i> and the value of
+ *  the objective function are not changed.</p>
+ */
+
+public class Scaling {
+
+    LinearProgram program;
+    ScalingMethod method;
+
+    /**
+     *  The {@code int} is the most passes made by {@code GEOMETRIC_MEAN}
+     */
+    int passLimit = 8;
+
+    /**
+     *  The factors the constraints and the variables are multiplied by
+     */
+    double[] rowScales, columnScales;
+
+    /**
+     *  @param program is the problem to be scaled, which is not changed
+     *  @param method chooses the factors
+     */
+    public Scaling(LinearProgram program, ScalingMethod method) {
+        this.program = program;
+        this.method = method;
+    }  //  end of constructor
+
+    /**
+     *  @return the scaled problem, or {@code program} itself if {@code method} is {@code NONE}
+     */
+    public LinearProgram scale() {
+        rowScales = new double[program.constraintNumber];
+        columnScales = new double[program.variableNumber];
+        Arrays.fill(rowScales, 1);
+        Arrays.fill(columnScales, 1);
+        if (method == ScalingMethod.NONE) {
+            return program;
+        }
+
+        SparseMatrix matrix = program.getSparseConstraints();
+        if (method == ScalingMethod.GEOMETRIC_MEAN) {
+            double spread = getSpread(matrix);
+            for (int pass = 0; pass < passLimit; pass++) {
+                scaleRows(matrix, true);
+                scaleColumns(matrix, true);
+                double newSpread = getSpread(matrix);
+                if (newSpread > 0.9 * spread) {
+                    break;  //  another pass would hardly help
+                }
+                spread = newSpread;
+            }
+        }
+        else {
+            scaleRows(matrix, false);
+            scaleColumns(matrix, false);
+        }
+        for (int i = 0; i < rowScales.length; i++) {
+            rowScales[i] = roundToPowerOfTwo(rowScales[i]);
+        }
+        for (int j = 0; j < columnScales.length; j++) {
+            columnScales[j] = roundToPowerOfTwo(columnScales[j]);
+        }
+
+        double[] values = new double[matrix.nonZeroNumber()];
+        for (int j = 0; j < matrix.columnNumber; j++) {
+            for (int p = matrix.columnStarts[j]; p < matrix.columnStarts[j + 1]; p++) {
+                values[p] = matrix.values[p] * rowScales[matrix.rowIndices[p]] * columnScales[j];
+            }
+        }
+        LinearProgram scaled = new LinearProgram(program.optimisationType, new SparseMatrix(matrix.rowNumber,
+                matrix.columnNumber, matrix.columnStarts, matrix.rowIndices, values));
+        for (int j = 0; j < program.variableNumber; j++) {
+            scaled.objective[j] = program.objective[j] * columnScales[j];
+        }
+        for (int i = 0; i < program.constraintNumber; i++) {
+            scaled.symbols[i] = program.symbols[i];
+            scaled.rightHandSides[i] = program.rightHandSides[i] * rowScales[i];
+        }
+        return scaled;
+    }  //  end of scale()
+
+    /**
+     *  Sets the row factors from the coefficients scaled by the current column factors.
+     *
+     *  @param geometric is <i>true</i> to divide by the geometric mean of the largest
+     *  and smallest coefficient and <i>false</i> to divide by the largest
+     */
+    private void scaleRows(SparseMatrix matrix, boolean geometric) {
+        double[] smallest = new double[rowScales.length];
+        double[] largest = new double[rowScales.length];
+        Arrays.fill(smallest, Double.POSITIVE_INFINITY);
+        for (int j = 0; j < matrix.columnNumber; j++) {
+            for (int p = matrix.columnStarts[j]; p < matrix.columnStarts[j + 1]; p++) {
+                double value = Math.abs(matrix.values[p]) * columnScales[j];
+                if (value > 0) {
+                    int row = matrix.rowIndices[p];
+                    smallest[row] = Math.min(smallest[row], value);
+                    largest[row] = Math.max(largest[row], value);
+                }
+            }
+        }
+        for (int i = 0; i < rowScales.length; i++) {
+            if (largest[i] > 0) {
+                rowScales[i] = 1 / (geometric ? Math.sqrt(smallest[i] * largest[i]) : largest[i]);
+            }
+        }
+    }  //  end of scaleRows()
+
+    /**
+     *  Sets the column factors from the coefficients scaled by the current row factors.
+     */
+    private void scaleColumns(SparseMatrix matrix, boolean geometric) {
+        for (int j = 0; j < matrix.columnNumber; j++) {
+            double smallest = Double.POSITIVE_INFINITY, largest = 0;
+            for (int p = matrix.columnStarts[j]; p < matrix.columnStarts[j + 1]; p++) {
+                double value = Math.abs(matrix.values[p]) * rowScales[matrix.rowIndices[p]];
+                if (value > 0) {
+                    smallest = Math.min(smallest, value);
+                    largest = Math.max(largest, value);
+                }
+            }
+            if (largest > 0) {
+                columnScales[j] = 1 / (geometric ? Math.sqrt(smallest * largest) : largest);
+            }
+        }
+    }  //  end of scaleColumns()
+
+    /**
+     *  @return the ratio of the largest to the smallest scaled coefficient
+     */
+    private double getSpread(SparseMatrix matrix) {
+        double smallest = Double.POSITIVE_INFINITY, largest = 0;
+        for (int j = 0; j < matrix.columnNumber; j++) {
+            for (int p = matrix.columnStarts[j]; p < matrix.columnStarts[j + 1]; p++) {
+                double value = Math.abs(matrix.values[p]) * rowScales[matrix.rowIndices[p]] * columnScales[j];
+                if (value > 0) {
+                    smallest = Math.min(smallest, value);
+                    largest = Math.max(largest, value);
+                }
+            }
+        }
+        return largest > 0 ? largest / smallest : 1;
+    }  //  end of getSpread()
+
+    private static double roundToPowerOfTwo(double value) {
+        return Math.scalb(1.0, (int) Math.round(Math.log(value) / Math.log(2)));
+    }
+
+    /**
+     *  Maps the solution of the scaled problem back to the variables of {@code program}.
+     *
+     *  @param scaledSolution is the solution of the problem returned by {@code scale()}
+     *  @return the same solution with each variable multiplied by its column factor
+     */
+    public Solution unscale(Solution scaledSolution) {
+        double[] variableValues = new double[columnScales.length];
+        for (int j = 0; j < variableValues.length; j++) {
+            variableValues[j] = scaledSolution.variableValues[j] * columnScales[j];
+        }
+        Solution solution = new Solution(scaledSolution.status, scaledSolution.objectiveValue, variableValues,
+                scaledSolution.iterations);
+        solution.solveTime = scaledSolution.solveTime;
+        solution.stallCounters = scaledSolution.stallCounters;
+        solution.metrics = scaledSolution.metrics;
+        solution.basis = scaledSolution.basis;
+        return solution;
+    }  //  end of unscale()
+
+}  //  end of class
@@ -0,0 +1,26 @@
+/**
+ *  <p>The enum {@code ScalingMethod} sets how {@code Scaling} chooses the factors
+ *  the constraints and the variables are multiplied by before a solve.</p>
+ */
+
+public enum ScalingMethod {
+
+    /**
+     *  The problem is solved as it is given
+     */
+    NONE,
+
+    /**
+     *  Rows and then columns are divided by the geometric mean of their largest
+     *  and smallest coefficients, over several passes, which brings the
+     *  coefficients close to <i>1</i> on both sides
+     */
+    GEOMETRIC_MEAN,
+
+    /**
+     *  Rows and then columns are divided by their largest coefficient,
+     *  so that the largest coefficient in every row and column is <i>1</i>
+     */
+    EQUILIBRATION
+
+}  //  end of enum
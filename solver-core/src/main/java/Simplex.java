@@ -0,0 +1,961 @@
+
+import java.util.ArrayList;
+import java.util.Formatter;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ *  <p>The class {@code Simplex} contains a 2-dimensional array to
+ *  store coefficients of variables for a number of constraints
+ *  and their objective function.</p>
+ *  <p>It also contains methods that can be put together
+ *  to solve optimisation problems using simplex method.</p>
+ *
+ *  @author Osaremhen Ukpebor
+ */
+
+public class Simplex {
+
+    /**
+     *  The {@code int} value can only be above 0
+     */
+    int constraintNumber;
+
+    /**
+     *  The {@code int} value can only be above 0
+     */
+    int variableNumber;
+
+    int rowSize;
+    int colSize;
+
+    /**
+     *  <p>Before {@code prepareSimpex()} is called, each row holds the coefficients
+     *  of the variables followed by the solution of the constraint. Row <i>0</i>
+     *  holds the objective function.</p>
+     *  <p>{@code prepareSimpex()} replaces it with the tableau, which also has a column
+     *  for each slack, surplus and artificial variable needed by {@code symbols}.</p>
+     */
+    double[][] coefficients;
+
+    /**
+     *  The roles a column of the tableau can have
+     */
+    static final int VARIABLE = 0;
+    static final int SLACK = 1;
+    static final int SURPLUS = 2;
+    static final int ARTIFICIAL = 3;
+
+    /**
+     *  The role of each column of the tableau, and the constraint
+     *  that each slack, surplus or artificial variable belongs to
+     */
+    int[] columnRoles;
+    int[] columnRows;
+
+    /**
+     *  The {@code boolean} values are <i>true</i> for each constraint that was
+     *  multiplied by <i>-1</i> to make its solution at least <i>0</i>
+     */
+    boolean[] reversedRows;
+
+    /**
+     *  The column of the basic variable of each constraint. Row <i>r</i> of the
+     *  tableau holds constraint <i>r - 1</i>. {@code rowTitles} holds the same
+     *  information as text and is only used for output
+     */
+    int[] basis;
+
+    /**
+     *  The {@code int} is the first column of an artificial variable. Every
+     *  column from it up to the solution column is an artificial variable
+     */
+    int artificialStart;
+
+    /**
+     *  The storage used while solving. It is created from {@code coefficients}
+     *  in the {@code prepareSimpex()} method and its values are copied back
+     *  into {@code coefficients} when the optimum solution is found.
+     */
+    Tableau tableau;
+
+    /**
+     *  The {@code boolean} selects a {@code FlatTableau} when <i>true</i>
+     *  and an {@code ArrayTableau} when <i>false</i>
+     */
+    boolean flatTableau = true;
+
+    /**
+     *  When set, the rows of a {@code FlatTableau} with at least
+     *  {@code parallelThreshold} coefficients are reduced in parallel
+     *  on this pool. The result is the same as a sequential pivot.
+     */
+    ForkJoinPool pivotPool;
+
+    /**
+     *  The {@code int} is the number of coefficients in the tableau
+     *  below which pivots stay sequential
+     */
+    int parallelThreshold = 1 << 18;
+
+    /**
+     *  The {@code string} can only have <i><</i>, <i>></i> or <i>=</i> as its value
+     */
+    String[] symbols;
+
+    String[] columnTitles;
+    String[] rowTitles;
+
+    /**
+     *  The {@code int} can only have <i>1</i> or <i>2</i>
+     *  indicating <b>Maximisation</b> or <b>Minimisation</b>
+     *  problems respectively.
+     *  Any other value would cause an incorrect result
+     */
+    int optimisationType;
+
+    /**
+     *  The {@code int} is the number of iterations carried out by the last solve
+     */
+    int iteration;
+
+    /**
+     *  The {@code int} is <i>1</i> while the artificial variables are being
+     *  removed and <i>2</i> while the objective function is being optimised
+     */
+    int phase;
+
+    /**
+     *  The result of the last solve
+     */
+    SolutionStatus status;
+
+    /**
+     *  The objective function row of the tableau before the first phase
+     */
+    double[] objectiveRow;
+
+    /**
+     *  The {@code double} is the size below which a coefficient is treated as <i>0</i>
+     *  when choosing the key row
+     */
+    double tolerance = 1e-9;
+
+    /**
+     *  The {@code double} is how far the sum of the artificial variables may be
+     *  above <i>0</i>, for each constraint, at the end of the first phase
+     */
+    double feasibilityTolerance = 1e-9;
+
+    /**
+     *  The {@code double} is how far below <i>0</i> a coefficient in the objective
+     *  function row may be when the solution is taken to be optimal
+     */
+    double optimalityTolerance = 1e-9;
+
+    /**
+     *  The {@code int} is the largest number of iterations a solve may carry out
+     */
+    int iterationLimit = Integer.MAX_VALUE;
+
+    /**
+     *  The {@code long} is the time, in milliseconds since the epoch, after which
+     *  a solve stops. It is ignored when it is <i>0</i>
+     */
+    long deadline;
+
+    volatile boolean cancelled;
+
+    /**
+     *  Chooses the key column on each iteration
+     */
+    PricingRule pricingRule = new DantzigPricing();
+
+    /**
+     *  The listeners told about the progress of every solve. There are none by default
+     */
+    List<IterationListener> listeners = new ArrayList<>();
+
+    /**
+     *  How much {@code optimise()} writes about a solve. Nothing is written by default
+     */
+    TraceLevel traceLevel = TraceLevel.NONE;
+
+    /**
+     *  The {@code int} values are the columns that entered and left the basis
+     *  on the last iteration, or <i>-1</i> if the iteration started the second
+     *  phase instead
+     */
+    int enteringColumn = -1, leavingColumn = -1;
+
+    /**
+     *  The {@code int} is the number of degenerate pivots in a row after which
+     *  the solve is taken to have stalled
+     */
+    int stallWindow = 50;
+
+    /**
+     *  What is done when the solve stalls
+     */
+    StallRecovery stallRecovery = StallRecovery.BLAND;
+
+    /**
+     *  The {@code double} is the size of the random amount added to each solution
+     *  by {@code StallRecovery.PERTURBATION}, relative to the solution
+     */
+    double perturbationSize = 1e-6;
+
+    /**
+     *  Counts the degenerate pivots and the recoveries from stalls of the last solve
+     */
+    StallCounters stallCounters = new StallCounters();
+
+    /**
+     *  Adds up the metrics of every solve, or is {@code null} to keep them only
+     *  in each {@code Solution}
+     */
+    SolverInstrumentation instrumentation = SolverInstrumentation.getDefault();
+
+    /**
+     *  The counts and phase times of the last solve
+     */
+    SolveMetrics metrics = new SolveMetrics(false);
+
+    private int degenerateRun;
+
+    /**
+     *  The pricing rule replaced by Bland's rule during a stall, or {@code null}
+     */
+    private PricingRule stalledPricingRule;
+
+    /**
+     *  The amounts added to the solutions, changed by every pivot since, or
+     *  {@code null} if the solutions are not perturbed
+     */
+    private double[] perturbation;
+
+    /**
+     * Creates a {@code Simplex} object with a specified number
+     * of constraints, variables and type of optimisation to be carried out with
+     * <b>1</b> indicating a maximisation problem and <b>2</b> indicating a mimisation
+     * problem.
+     *
+     * @param constraintNumber should greater than 0
+     * @param variableNumber should be greater than 0
+     * @param optimisationType can only be 1 or 2
+     */
+
+    public Simplex (int constraintNumber, int variableNumber, int optimisationType) {
+        this.constraintNumber = constraintNumber;
+        this.variableNumber = variableNumber;
+        this.rowSize = constraintNumber + 1;
+        this.colSize = variableNumber + 1;
+        this.coefficients = new double[rowSize][colSize];
+        this.symbols = new String[constraintNumber];
+        this.columnTitles = new String[variableNumber];
+        this.rowTitles = new String[constraintNumber];
+        this.optimisationType = optimisationType;
+    }  //  end of constructor
+
+    /**
+     *  Sets the coefficients of slack, surplus and artificial variables.
+     *  Also sets variable titles and negates coefficients
+     *  of variable in the objective function. It must be called before the {@code optimise()} method.
+     *  <p>Only the columns needed by the symbols of the constraints are added, so
+     *  {@code coefficients} is replaced with a wider array holding the tableau.</p>
+     */
+    public void prepareSimpex() {
+        //  reverse constraints with a negative solution so that every solution is at least 0
+        String[] senses = new String[constraintNumber];
+        boolean[] reversed = new boolean[constraintNumber];
+        for (int i = 0; i < this.constraintNumber; i++) {
+            senses[i] = this.symbols[i];
+            reversed[i] = this.coefficients[i + 1][this.coefficients[i + 1].length - 1] < 0;
+            if (reversed[i] && this.symbols[i].equals("<")) {
+                senses[i] = ">";
+            }
+            else if (reversed[i] && this.symbols[i].equals(">")) {
+                senses[i] = "<";
+            }
+        }
+
+        //  count slack, surplus and artificial variables
+        int slackNumber = 0, artificialNumber = 0;
+        for (int i = 0; i < this.constraintNumber; i++) {
+            if (senses[i].equals("<")) {
+                slackNumber++;
+            }
+            else if (senses[i].equals(">")) {
+                slackNumber++;
+                artificialNumber++;
+            }
+            else if (senses[i].equals("=")) {
+                artificialNumber++;
+            }
+        }
+        this.artificialStart = this.variableNumber + slackNumber;
+        this.colSize = this.artificialStart + artificialNumber + 1;
+
+        //  copy the coefficients of the variables and the solutions into the tableau
+        double[][] input = this.coefficients;
+        this.coefficients = new double[rowSize][colSize];
+        for (int i = 0; i < rowSize; i++) {
+            double sign = i > 0 && reversed[i - 1] ? -1 : 1;
+            for (int j = 0; j < variableNumber; j++) {
+                this.coefficients[i][j] = sign * input[i][j];
+            }
+            this.coefficients[i][colSize - 1] = sign * input[i][input[i].length - 1];
+        }
+
+        //  set slack, surplus and artificial variables
+        this.reversedRows = reversed;
+        this.columnRoles = new int[colSize - 1];
+        this.columnRows = new int[colSize - 1];
+        this.basis = new int[constraintNumber];
+        for (int i = 0; i < variableNumber; i++) {
+            this.columnRoles[i] = VARIABLE;
+            this.columnRows[i] = -1;
+        }
+        int slackColumn = this.variableNumber, artificialColumn = this.artificialStart;
+        for (int i = 1; i < this.coefficients.length; i++) {
+            if (senses[i - 1].equals("<")) {  //  set slack variable
+                this.coefficients[i][slackColumn] = 1;
+                this.columnRoles[slackColumn] = SLACK;
+                this.columnRows[slackColumn] = i - 1;
+                this.basis[i - 1] = slackColumn++;
+            }
+            else if (senses[i - 1].equals(">")) {  //  set surplus and artificial variable
+                this.coefficients[i][slackColumn] = -1;
+                this.columnRoles[slackColumn] = SURPLUS;
+                this.columnRows[slackColumn++] = i - 1;
+                this.coefficients[i][artificialColumn] = 1;
+                this.columnRoles[artificialColumn] = ARTIFICIAL;
+                this.columnRows[artificialColumn] = i - 1;
+                this.basis[i - 1] = artificialColumn++;
+            }
+            else if (senses[i - 1].equals("=")) {  //  artificial variable
+                this.coefficients[i][artificialColumn] = 1;
+                this.columnRoles[artificialColumn] = ARTIFICIAL;
+                this.columnRows[artificialColumn] = i - 1;
+                this.basis[i - 1] = artificialColumn++;
+            }
+        }  //  end of for
+
+        //  negate objective function coefficients for maximisation problem
+        if (this.optimisationType == 1) {
+            for (int i = 0; i < this.coefficients[0].length; i++) {
+                if (this.coefficients[0][i] != 0) {
+                    this.coefficients[0][i] *= -1;
+                }
+            }
+        }
+
+        //  set variable titles
+        this.columnTitles = new String[colSize - 1];
+        this.rowTitles = new String[constraintNumber];
+        for (int i = 0; i < this.columnTitles.length; i++) {  //  set column titles
+            if (this.columnRoles[i] == VARIABLE) {
+                this.columnTitles[i] = "x" + (i + 1);
+            }
+            else if (this.columnRoles[i] == ARTIFICIAL) {
+                this.columnTitles[i] = "s" + (constraintNumber + this.columnRows[i] + 1);
+            }
+            else {
+                this.columnTitles[i] = "s" + (this.columnRows[i] + 1);
+            }
+        }  //  end of columnTitles for loop
+        for (int i = 0; i < this.rowTitles.length; i++) {  //  set row titles
+            if (senses[i].contains("<")) {
+                this.rowTitles[i] = "s" + (i + 1);
+            }
+            else {
+                this.rowTitles[i] = "s" + (constraintNumber + i + 1);
+            }
+        }  //  end of rowTitles for loop
+
+        this.objectiveRow = this.coefficients[0].clone();
+
+        if (flatTableau) {
+            FlatTableau flat = new FlatTableau(coefficients);
+            flat.pool = pivotPool;
+            flat.parallelThreshold = parallelThreshold;
+            this.tableau = flat;
+        }
+        else {
+            this.tableau = new ArrayTableau(coefficients);
+        }
+
+    }  //  end of prepareSimplex()
+
+    /**
+     *  Outputs current values of variable coefficients in a table.
+     */
+    public void printSimplex () {
+        printSimplex(SimplexOutput.CONSOLE);
+    }  //  end of printSimplex()
+
+    /**
+     *  Outputs current values of variable coefficients in a table.
+     *  The table is written to {@code output} in one piece.
+     *
+     *  @param output receives the table
+     */
+    public void printSimplex(SimplexOutput output) {
+        output.print(formatTableau(columnTitles, rowTitles, getTableau(), output.columnWidth()));
+    }  //  end of printSimplex()
+
+    /**
+     *  @return a copy of the current tableau, with the objective function in row <i>0</i>
+     */
+    double[][] getTableau() {
+        double[][] cells = new double[rowSize][colSize];
+        tableau.copyTo(cells);
+        return cells;
+    }  //  end of getTableau()
+
+    /**
+     *  Writes a tableau as a table, so that a copy of the tableau can be
+     *  written on another thread.
+     *
+     *  @param width is the width of each column
+     *  @return the table, with a line for each row of {@code cells}
+     */
+    static String formatTableau(String[] columnTitles, String[] rowTitles, double[][] cells, int width) {
+        String titleFormat = "%" + width + "s";
+        String rowFormat = "%" + (width + 2) + "s:";
+        String cellFormat = "%" + width + ".2f";
+        StringBuilder text = new StringBuilder();
+        Formatter formatter = new Formatter(text);
+
+        //  print column titles
+        formatter.format("%" + (width + 2) + "s", "");
+        for (int i = 0; i < columnTitles.length; i++) {
+            formatter.format(titleFormat, columnTitles[i]);
+        }
+        formatter.format("%" + (width + 3) + "s\n", "Solution");
+
+        //  print P titles and coefficients
+        formatter.format(rowFormat, "P");
+        for (double cell : cells[0]) {
+            formatter.format(cellFormat, cell);
+        }
+        text.append('\n');
+
+        // print other rows titles and coefficients
+        for (int i = 0; i < rowTitles.length; i++) {
+            formatter.format(rowFormat, rowTitles[i]);
+            for (double cell : cells[i + 1]) {
+                formatter.format(cellFormat, cell);
+            }
+            text.append('\n');
+        }
+
+        return text.toString();
+    }  //  end of formatTableau()
+
+    /**
+     *  Eliminates a negative coefficient in the objective function.
+     *
+     *  Called in the {@code iterate()} method.
+     *
+     *  @param keyColumn is the column chosen by the pricing rule
+     *  @return <i>false</i> if no row limits the key column, meaning the problem is unbounded
+     */
+    private boolean solveSimplex (int keyColumn) {
+        int keyRow = -1;
+
+        //  find key row, including rows with a solution of 0, and with Bland's rule
+        //  break ties with the lowest basic variable
+        metrics.enter(SolvePhase.RATIO_TEST);
+        boolean bland = pricingRule instanceof BlandPricing;
+        double ratio = Double.MAX_VALUE, ratioTest;
+        for (int i = 1; i < constraintNumber + 1; i++) {
+            double value = tableau.get(i, keyColumn);
+            if (value > tolerance) {
+                ratioTest = Math.max(tableau.get(i, colSize - 1), 0) / value;
+                if (ratioTest < ratio || (bland && ratioTest == ratio && basis[i - 1] < basis[keyRow - 1])) {
+                    ratio = ratioTest;
+                    keyRow = i;
+                }
+            }
+        }
+        if (keyRow < 0) {
+            return false;
+        }
+
+        metrics.enter(SolvePhase.ELIMINATION);
+        pivot(keyRow, keyColumn);
+        checkStall(ratio <= tolerance);
+        return true;
+    }  //  end of solveSimplex()
+
+    /**
+     *  Counts a pivot that did or did not make progress and, after {@code stallWindow}
+     *  degenerate pivots in a row, recovers as {@code stallRecovery} says.
+     *  Bland's rule is switched off again by the first pivot that makes progress.
+     */
+    private void checkStall(boolean degenerate) {
+        if (!degenerate) {
+            degenerateRun = 0;
+            if (stalledPricingRule != null) {
+                pricingRule = stalledPricingRule;
+                stalledPricingRule = null;
+                pricingRule.reset(this);
+            }
+            return;
+        }
+
+        stallCounters.degeneratePivots++;
+        metrics.degeneratePivots++;
+        if (++degenerateRun < stallWindow || stallRecovery == StallRecovery.NONE
+                || pricingRule instanceof BlandPricing) {
+            return;
+        }
+        stallCounters.stalls++;
+        degenerateRun = 0;
+        if (stallRecovery == StallRecovery.PERTURBATION && perturbation == null) {
+            perturb();
+        }
+        else {
+            stalledPricingRule = pricingRule;
+            pricingRule = new BlandPricing();
+            stallCounters.blandSwitches++;
+        }
+    }  //  end of checkStall()
+
+    /**
+     *  Adds a small random amount to the solution of each constraint, so that
+     *  the basic variables at <i>0</i> become positive.
+     */
+    private void perturb() {
+        Random random = new Random(iteration);
+        perturbation = new double[rowSize];
+        for (int i = 1; i < rowSize; i++) {
+            if (phase == 2 && columnRoles[basis[i - 1]] == ARTIFICIAL) {
+                continue;  //  the row of a redundant constraint
+            }
+            double value = tableau.get(i, colSize - 1);
+            perturbation[i] = perturbationSize * (1 + Math.abs(value)) * (0.5 + random.nextDouble());
+            tableau.set(i, colSize - 1, value + perturbation[i]);
+        }
+        updateObjectiveSolution();
+        stallCounters.perturbations++;
+    }  //  end of perturb()
+
+    /**
+     *  Takes the perturbation, as changed by the pivots since it was added,
+     *  away from the solutions.
+     */
+    private void removePerturbation() {
+        for (int i = 1; i < rowSize; i++) {
+            tableau.set(i, colSize - 1, tableau.get(i, colSize - 1) - perturbation[i]);
+        }
+        perturbation = null;
+        updateObjectiveSolution();
+    }  //  end of removePerturbation()
+
+    /**
+     *  Sets the solution of the objective function row from the solutions of the
+     *  constraints and the costs of the basic variables in the current phase.
+     */
+    private void updateObjectiveSolution() {
+        double value = phase == 1 ? 0 : objectiveRow[colSize - 1];
+        for (int i = 0; i < constraintNumber; i++) {
+            double cost = phase == 1 ? (columnRoles[basis[i]] == ARTIFICIAL ? 1 : 0) : objectiveRow[basis[i]];
+            value -= cost * tableau.get(i + 1, colSize - 1);
+        }
+        tableau.set(0, colSize - 1, value);
+    }  //  end of updateObjectiveSolution()
+
+    /**
+     *  Makes every solution at least <i>0</i> again with dual simplex pivots, after a
+     *  perturbation was removed from an optimal tableau. Each pivot takes the most
+     *  negative solution out of the basis and keeps the objective function row optimal.
+     *
+     *  @return <i>false</i> if a negative solution cannot be removed, meaning there
+     *  is no feasible solution
+     */
+    private boolean restoreFeasibility() {
+        while (true) {
+            int keyRow = -1;
+            double most = -feasibilityTolerance;
+            for (int i = 1; i < rowSize; i++) {
+                double value = tableau.get(i, colSize - 1);
+                if (value < most) {
+                    most = value;
+                    keyRow = i;
+                }
+            }
+            if (keyRow < 0) {
+                return true;
+            }
+
+            int keyColumn = -1;
+            double ratio = Double.MAX_VALUE;
+            for (int j = 0; j < artificialStart; j++) {
+                double value = tableau.get(keyRow, j);
+                if (value < -tolerance) {
+                    double ratioTest = Math.max(tableau.get(0, j), 0) / -value;
+                    if (ratioTest < ratio) {
+                        ratio = ratioTest;
+                        keyColumn = j;
+                    }
+                }
+            }
+            if (keyColumn < 0) {
+                return false;
+            }
+            pivot(keyRow, keyColumn);
+            stallCounters.repairPivots++;
+        }  //  end of while
+    }  //  end of restoreFeasibility()
+
+    /**
+     *  Makes the variable of {@code keyColumn} the basic variable of {@code keyRow}.
+     */
+    void pivot(int keyRow, int keyColumn) {
+        iteration++;
+        enteringColumn = keyColumn;
+        leavingColumn = basis[keyRow - 1];
+        basis[keyRow - 1] = keyColumn;
+        rowTitles[keyRow - 1] = columnTitles[keyColumn]; //  change row title
+
+        //  keep the perturbation in step with the solutions
+        double[] keyColumnValues = null;
+        if (perturbation != null) {
+            keyColumnValues = new double[rowSize];
+            for (int i = 1; i < rowSize; i++) {
+                keyColumnValues[i] = tableau.get(i, keyColumn);
+            }
+        }
+
+        //  perform Gaussian reduction
+        tableau.pivot(keyRow, keyColumn);
+        pricingRule.update(this, keyRow, keyColumn);
+
+        if (keyColumnValues != null) {
+            double keyValue = perturbation[keyRow] / keyColumnValues[keyRow];
+            for (int i = 1; i < rowSize; i++) {
+                perturbation[i] -= keyColumnValues[i] * keyValue;
+            }
+            perturbation[keyRow] = keyValue;
+        }
+        metrics.pivoted(iteration);
+    }  //  end of pivot()
+
+    /**
+     *  Replaces the objective function row with the first phase objective,
+     *  which minimises the sum of the artificial variables.
+     */
+    private void setPhaseOneObjective() {
+        for (int j = 0; j < colSize; j++) {
+            tableau.set(0, j, columnRoles.length > j && columnRoles[j] == ARTIFICIAL ? 1 : 0);
+        }
+        //  make the coefficients of the basic artificial variables 0
+        for (int i = 0; i < constraintNumber; i++) {
+            if (columnRoles[basis[i]] == ARTIFICIAL) {
+                for (int j = 0; j < colSize; j++) {
+                    tableau.set(0, j, tableau.get(0, j) - tableau.get(i + 1, j));
+                }
+            }
+        }
+    }  //  end of setPhaseOneObjective()
+
+    /**
+     *  Replaces artificial variables left in the basis at <i>0</i> after the first phase
+     *  with other variables where possible, then puts back the objective function row.
+     *  Artificial variables that cannot be replaced belong to redundant constraints,
+     *  whose rows are <i>0</i> in every other column and so never change again.
+     */
+    private void setPhaseTwoObjective() {
+        for (int i = 0; i < constraintNumber; i++) {
+            if (columnRoles[basis[i]] == ARTIFICIAL) {
+                for (int j = 0; j < artificialStart; j++) {
+                    if (Math.abs(tableau.get(i + 1, j)) > tolerance) {
+                        pivot(i + 1, j);
+                        break;
+                    }
+                }
+            }
+        }  //  end of for loop to remove artificial variable
+
+        for (int j = 0; j < colSize; j++) {
+            tableau.set(0, j, objectiveRow[j]);
+        }
+        //  make the coefficients of the basic variables 0
+        for (int i = 0; i < constraintNumber; i++) {
+            double value = objectiveRow[basis[i]];
+            if (value != 0) {
+                for (int j = 0; j < colSize; j++) {
+                    tableau.set(0, j, tableau.get(0, j) - value * tableau.get(i + 1, j));
+                }
+            }
+        }
+    }  //  end of setPhaseTwoObjective()
+
+    /**
+     *  Carries out one iteration of the simplex method and checks
+     *  whether the solve has ended.
+     *
+     *  @return <i>true</i> if the solve has ended, with {@code status} set
+     */
+    private boolean iterate() {
+        if (cancelled || Thread.currentThread().isInterrupted()) {
+            status = SolutionStatus.CANCELLED;
+            return true;
+        }
+        if (iteration >= iterationLimit) {
+            status = SolutionStatus.ITERATION_LIMIT;
+            return true;
+        }
+        if (deadline > 0 && System.currentTimeMillis() >= deadline) {
+            status = SolutionStatus.TIME_LIMIT;
+            return true;
+        }
+
+        //  find key column
+        metrics.enter(SolvePhase.PRICING);
+        int keyColumn = pricingRule.chooseColumn(this);
+        if (keyColumn >= 0) {
+            if (!solveSimplex(keyColumn)) {
+                status = SolutionStatus.UNBOUNDED;
+                return true;
+            }
+            return false;
+        }
+
+        //  no coefficient in the index row is negative
+        if (perturbation != null) {
+            metrics.enter(SolvePhase.ELIMINATION);
+            removePerturbation();
+            if (!restoreFeasibility()) {
+                status = SolutionStatus.INFEASIBLE;
+                return true;
+            }
+            return false;
+        }
+        if (phase == 1) {
+            //  the artificial variables could not all be brought to 0
+            if (-tableau.get(0, colSize - 1) > feasibilityTolerance * Math.max(1, constraintNumber)) {
+                status = SolutionStatus.INFEASIBLE;
+                return true;
+            }
+            phase = 2;
+            enteringColumn = -1;
+            leavingColumn = -1;
+            metrics.enter(SolvePhase.ARTIFICIAL_VARIABLES);
+            setPhaseTwoObjective();
+            metrics.enter(SolvePhase.PRICING);
+            pricingRule.reset(this);
+            return false;
+        }
+        status = SolutionStatus.OPTIMAL;
+        return true;
+    }  //  end of iterate()
+
+    /**
+     *  Resets the iteration count, the status, the metrics and the pricing rule
+     *  before a solve and starts the first phase if there are artificial variables.
+     */
+    private void start() {
+        iteration = 0;
+        status = null;
+        cancelled = false;
+        enteringColumn = -1;
+        leavingColumn = -1;
+        stallCounters = new StallCounters();
+        degenerateRun = 0;
+        perturbation = null;
+        metrics = SolverInstrumentation.newMetrics(instrumentation);
+        metrics.started("Simplex", constraintNumber, variableNumber);
+        if (artificialStart < colSize - 1) {
+            phase = 1;
+            metrics.enter(SolvePhase.ARTIFICIAL_VARIABLES);
+            setPhaseOneObjective();
+        }
+        else {
+            phase = 2;
+        }
+        metrics.enter(SolvePhase.PRICING);
+        pricingRule.reset(this);
+        metrics.enter(null);
+    }  //  end of start()
+
+    /**
+     *  Removes any perturbation, puts back a pricing rule replaced by Bland's rule,
+     *  copies the final tableau into {@code coefficients} and converts
+     *  a minimisation solution to a maximisation solution.
+     */
+    private void finish() {
+        if (perturbation != null) {
+            removePerturbation();
+        }
+        if (stalledPricingRule != null) {
+            pricingRule = stalledPricingRule;
+            stalledPricingRule = null;
+        }
+        tableau.copyTo(coefficients);
+
+        //  convert minimisation solution to maximisation solution
+        if (optimisationType == 2 && phase == 2) {
+            coefficients[0][colSize - 1] *= -1;
+        }
+    }  //  end of finish()
+
+    /**
+     *  @return a sentence describing the result of the last solve
+     */
+    String getResultMessage() {
+        switch (status) {
+            case OPTIMAL:
+                return String.format("Optimum solution found after %d iteration(s)\nP = %.2f",
+                        iteration, coefficients[0][colSize - 1]);
+            case INFEASIBLE:
+                return String.format("No feasible solution exists (found after %d iteration(s))", iteration);
+            case UNBOUNDED:
+                return String.format("The objective function is unbounded (found after %d iteration(s))", iteration);
+            case ITERATION_LIMIT:
+                return String.format("Stopped at the iteration limit of %d iteration(s)", iteration);
+            case TIME_LIMIT:
+                return String.format("Stopped at the time limit after %d iteration(s)", iteration);
+            default:
+                return String.format("Cancelled after %d iteration(s)", iteration);
+        }
+    }  //  end of getResultMessage()
+
+    /**
+     *  Solves the optimisation problem and get the optimum solution,
+     *  writing to {@code System.out} as much as {@code traceLevel} asks for.
+     *
+     *  @return the solution, whose status tells whether the optimum was found
+     */
+    public Solution optimise() {
+        return optimise(SimplexOutput.CONSOLE);
+    }  //  end of optimise()
+
+    /**
+     *  Solves the optimisation problem and get the optimum solution,
+     *  writing as much as {@code traceLevel} asks for. With {@code FULL_TABLEAU}
+     *  the tableau is written after every iteration.
+     *
+     *  @param output receives the text written about the solve
+     *  @return the solution, whose status tells whether the optimum was found
+     */
+    public Solution optimise(SimplexOutput output) {
+        if (traceLevel == TraceLevel.NONE) {
+            return solve();
+        }
+        TraceListener trace = new TraceListener(traceLevel, output);
+        listeners.add(trace);
+        try {
+            return solve();
+        } finally {
+            listeners.remove(trace);
+        }
+    }  //  end of optimise()
+
+    /**
+     *  Solves the optimisation problem, telling each of {@code listeners}
+     *  about its progress. {@code prepareSimpex()} must be called first.
+     *
+     *  @return the solution, whose status tells whether the optimum was found
+     */
+    public Solution solve() {
+        long startTime = System.nanoTime();
+        start();
+        for (IterationListener listener : listeners) {
+            listener.solveStarted(this);
+        }
+
+        while (!iterate()) {
+            metrics.enter(null);
+            for (int k = 0; k < listeners.size(); k++) {
+                listeners.get(k).iterationDone(this);
+            }
+        }  //  end of while
+        metrics.enter(null);
+
+        finish();
+        Solution solution = getSolution(startTime);
+        metrics.finished(solution, instrumentation);
+        for (IterationListener listener : listeners) {
+            listener.solveFinished(this, solution);
+        }
+        return solution;
+    }  //  end of solve()
+
+    /**
+     *  @return the value of the objective function at the current basis in the
+     *  second phase, or the sum of the artificial variables in the first phase
+     */
+    public double getObjectiveValue() {
+        double value = tableau.get(0, colSize - 1);
+        if (phase == 1) {
+            return -value;
+        }
+        return optimisationType == 2 ? -value : value;
+    }  //  end of getObjectiveValue()
+
+    /**
+     *  Asks a solve running on another thread to stop before its next iteration.
+     *  The solve then ends with the status {@code CANCELLED}.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     *  Sets {@code deadline} to the given number of milliseconds from now.
+     *
+     *  @param milliseconds is the time allowed for the solve
+     */
+    public void setTimeLimit(long milliseconds) {
+        deadline = System.currentTimeMillis() + milliseconds;
+    }
+
+    /**
+     *  @return the basis of the current tableau, where a constraint is basic if its
+     *  slack, surplus or artificial variable is
+     */
+    Basis getBasis() {
+        boolean[] basicVariables = new boolean[variableNumber];
+        boolean[] basicRows = new boolean[constraintNumber];
+        for (int i = 0; i < constraintNumber; i++) {
+            if (columnRoles[basis[i]] == VARIABLE) {
+                basicVariables[basis[i]] = true;
+            }
+            else {
+                basicRows[columnRows[basis[i]]] = true;
+            }
+        }
+        return new Basis(basicVariables, basicRows);
+    }  //  end of getBasis()
+
+    /**
+     *  Reads the values of the variables from the final tableau.
+     */
+    private Solution getSolution(long startTime) {
+        double[] variableValues = new double[variableNumber];
+        for (int i = 0; i < constraintNumber; i++) {
+            if (columnRoles[basis[i]] == VARIABLE) {
+                variableValues[basis[i]] = coefficients[i + 1][colSize - 1];
+            }
+        }
+
+        double objectiveValue = 0;
+        for (int j = 0; j < variableNumber; j++) {
+            objectiveValue += variableValues[j] * (optimisationType == 1 ? -objectiveRow[j] : objectiveRow[j]);
+        }
+        if (status == SolutionStatus.OPTIMAL) {
+            objectiveValue = coefficients[0][colSize - 1];
+        }
+
+        Solution solution = new Solution(status, objectiveValue, variableValues, iteration);
+        solution.solveTime = System.nanoTime() - startTime;
+        solution.stallCounters = stallCounters;
+        solution.basis = getBasis();
+        return solution;
+    }  //  end of getSolution()
+
+}  //  end of class
@@ -0,0 +1,31 @@
+/**
+ *  <p>The interface {@code SimplexOutput} receives the text written while a
+ *  {@code Simplex} object is solved, so that the solver does not depend on
+ *  where the text is shown.</p>
+ *  <p>{@code CONSOLE} writes to {@code System.out}. The GUI passes an output
+ *  that appends to its {@code TextArea}.</p>
+ */
+
+@FunctionalInterface
+public interface SimplexOutput {
+
+    /**
+     *  Writes to {@code System.out}
+     */
+    SimplexOutput CONSOLE = System.out::print;
+
+    /**
+     *  Writes text, which may hold several lines.
+     *
+     *  @param text is the text to be written
+     */
+    void print(String text);
+
+    /**
+     *  @return the width of each column when the tableau is written
+     */
+    default int columnWidth() {
+        return 10;
+    }
+
+}  //  end of interface
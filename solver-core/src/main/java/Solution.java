@@ -0,0 +1,96 @@
+/**
+ *  <p>The class {@code Solution} holds the result of solving
+ *  an optimisation problem with any of the available engines.</p>
+ */
+
+public class Solution {
+
+    SolutionStatus status;
+
+    /**
+     *  The {@code double} is the optimum value of the objective function, <i>P</i>
+     */
+    double objectiveValue;
+
+    /**
+     *  The values of the variables <i>x1</i> to <i>xn</i>
+     */
+    double[] variableValues;
+
+    /**
+     *  The {@code int} is the number of iterations carried out
+     */
+    int iterations;
+
+    /**
+     *  The {@code long} is the time taken to solve the problem in nanoseconds
+     */
+    long solveTime;
+
+    /**
+     *  What presolve removed from the problem, or {@code null} if it was not presolved
+     */
+    PresolveReport presolveReport;
+
+    /**
+     *  The degenerate pivots and the recoveries from stalls, or {@code null}
+     *  if the engine does not count them
+     */
+    StallCounters stallCounters;
+
+    /**
+     *  The counts and phase times of the solve, or {@code null} if the engine
+     *  does not keep them
+     */
+    SolveMetrics metrics;
+
+    /**
+     *  The basis at the end of the solve, from which a solve of a changed problem
+     *  can start, or {@code null} if the engine does not give one
+     */
+    Basis basis;
+
+    public Solution(SolutionStatus status, double objectiveValue, double[] variableValues, int iterations) {
+        this.status = status;
+        this.objectiveValue = objectiveValue;
+        this.variableValues = variableValues;
+        this.iterations = iterations;
+    }  //  end of constructor
+
+    public SolutionStatus getStatus() {
+        return status;
+    }
+
+    public double getObjectiveValue() {
+        return objectiveValue;
+    }
+
+    public double[] getVariableValues() {
+        return variableValues;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public long getSolveTime() {
+        return solveTime;
+    }
+
+    public PresolveReport getPresolveReport() {
+        return presolveReport;
+    }
+
+    public StallCounters getStallCounters() {
+        return stallCounters;
+    }
+
+    public SolveMetrics getMetrics() {
+        return metrics;
+    }
+
+    public Basis getBasis() {
+        return basis;
+    }
+
+}  //  end of class
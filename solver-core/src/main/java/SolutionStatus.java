@@ -0,0 +1,37 @@
+/**
+ *  <p>The enum {@code SolutionStatus} describes how a solve ended.</p>
+ */
+
+public enum SolutionStatus {
+
+    /**
+     *  The optimum solution was found
+     */
+    OPTIMAL,
+
+    /**
+     *  No values of the variables satisfy every constraint
+     */
+    INFEASIBLE,
+
+    /**
+     *  The objective function can be improved without limit
+     */
+    UNBOUNDED,
+
+    /**
+     *  The solve stopped after the largest number of iterations allowed
+     */
+    ITERATION_LIMIT,
+
+    /**
+     *  The solve stopped because its deadline passed
+     */
+    TIME_LIMIT,
+
+    /**
+     *  The solve was cancelled by another thread
+     */
+    CANCELLED
+
+}  //  end of enum
@@ -0,0 +1,300 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  <p>The class {@code SolveCache} keeps the results of recent solves, so that a
+ *  problem that was solved before is not solved again. Problems are matched by their
+ *  {@code ModelKey}, so a problem whose variables are in another order, or that
+ *  minimises <i>-P</i> instead of maximising <i>P</i>, is found too, and its solution
+ *  is given back in its own order.</p>
+ *  <p>At most {@code capacity} results are kept, and the least recently used is
+ *  removed to make room. A result older than {@code timeToLive} milliseconds is not
+ *  used. Only results that do not depend on the limits of the solve are kept:
+ *  optimal, infeasible and unbounded problems.</p>
+ *  <p>A problem that is not in the cache but has the {@code ModelShape} of an optimal
+ *  problem that was is solved from that problem's basis, which takes a few pivots
+ *  when only some coefficients changed. Warm starts need an engine that accepts a
+ *  start basis, such as {@code REVISED}, {@code SPARSE} or {@code DUAL}, and no
+ *  presolve; otherwise no basis is looked up. A basis that does not fit is ignored
+ *  by the engine.</p>
+ *  <p>The cache may be used from many threads. Problems that miss at the same time
+ *  are each solved.</p>
+ */
+
+public class SolveCache {
+
+    /**
+     *  A solution in the canonical order of its {@code ModelKey}
+     */
+    private static class Entry {
+
+        final SolutionStatus status;
+        final double objectiveValue;
+        final double[] variableValues;
+        final boolean[] basicVariables, basicRows;
+        final long time;
+
+        Entry(SolutionStatus status, double objectiveValue, double[] variableValues,
+                boolean[] basicVariables, boolean[] basicRows, long time) {
+            this.status = status;
+            this.objectiveValue = objectiveValue;
+            this.variableValues = variableValues;
+            this.basicVariables = basicVariables;
+            this.basicRows = basicRows;
+            this.time = time;
+        }  //  end of constructor
+
+    }  //  end of class Entry
+
+    /**
+     *  The optimal basis of a problem, with its variables in the order of its {@code ModelShape}
+     */
+    private static class ShapeBasis {
+
+        final boolean[] basicVariables, basicRows;
+        final long time;
+
+        ShapeBasis(boolean[] basicVariables, boolean[] basicRows, long time) {
+            this.basicVariables = basicVariables;
+            this.basicRows = basicRows;
+            this.time = time;
+        }  //  end of constructor
+
+    }  //  end of class ShapeBasis
+
+    /**
+     *  The engine that solves the problems that are not in the cache
+     */
+    Engine engine = Engine.REVISED;
+
+    /**
+     *  The settings of each solve. A {@code startBasis} set here is used instead of
+     *  a cached one
+     */
+    SolverOptions options = new SolverOptions();
+
+    /**
+     *  The {@code int} is the largest number of results kept, and of bases kept for warm starts
+     */
+    final int capacity;
+
+    /**
+     *  The {@code long} is how long a result is used for in milliseconds,
+     *  or <i>0</i> if it is used until it is removed to make room
+     */
+    final long timeToLive;
+
+    private final LinkedHashMap<ModelKey, Entry> entries;
+    private final LinkedHashMap<ModelShape, ShapeBasis> bases;
+
+    final LongAdder hits = new LongAdder(), misses = new LongAdder(), warmStarts = new LongAdder();
+    final LongAdder evictions = new LongAdder(), expirations = new LongAdder();
+
+    /**
+     *  Creates an empty cache.
+     *
+     *  @param capacity is the largest number of results kept
+     *  @param timeToLive is how long a result is used for in milliseconds, or <i>0</i> for no limit
+     */
+    public SolveCache(int capacity, long timeToLive) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be at least 1");
+        }
+        this.capacity = capacity;
+        this.timeToLive = timeToLive;
+        entries = new LinkedHashMap<ModelKey, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ModelKey, Entry> eldest) {
+                if (size() <= SolveCache.this.capacity) {
+                    return false;
+                }
+                evictions.increment();
+                return true;
+            }
+        };
+        bases = new LinkedHashMap<ModelShape, ShapeBasis>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ModelShape, ShapeBasis> eldest) {
+                return size() > SolveCache.this.capacity;
+            }
+        };
+    }  //  end of constructor
+
+    /**
+     *  Gives the cached solution of the problem, or solves it with {@code engine}
+     *  and keeps the result.
+     *
+     *  @param program is the problem to be solved
+     *  @return the solution, which has <i>0</i> iterations if it came from the cache
+     */
+    public Solution solve(LinearProgram program) {
+        long start = System.nanoTime();
+        ModelKey key = new ModelKey(program);
+        Entry entry = getEntry(key);
+        if (entry != null) {
+            hits.increment();
+            Solution solution = toSolution(key, entry);
+            solution.solveTime = System.nanoTime() - start;
+            return solution;
+        }
+        misses.increment();
+
+        //  only look for a basis the engine will load, so that warm starts count real ones
+        SolverOptions solveOptions = options;
+        if (options.startBasis == null && !options.presolve && engine.acceptsStartBasis()) {
+            ShapeBasis basis = getBasis(key.shape);
+            if (basis != null) {
+                warmStarts.increment();
+                solveOptions = options.withStartBasis(key.shape.toBasis(basis.basicVariables, basis.basicRows));
+            }
+        }
+        Solution solution = engine.solve(program, solveOptions);
+        put(key, solution);
+        solution.solveTime = System.nanoTime() - start;
+        return solution;
+    }  //  end of solve()
+
+    /**
+     *  @return the entry of {@code key}, or {@code null} if there is none or it has expired
+     */
+    private synchronized Entry getEntry(ModelKey key) {
+        Entry entry = entries.get(key);
+        if (entry != null && isExpired(entry.time)) {
+            entries.remove(key);
+            expirations.increment();
+            return null;
+        }
+        return entry;
+    }  //  end of getEntry()
+
+    private synchronized ShapeBasis getBasis(ModelShape shape) {
+        ShapeBasis basis = bases.get(shape);
+        if (basis != null && isExpired(basis.time)) {
+            bases.remove(shape);
+            return null;
+        }
+        return basis;
+    }  //  end of getBasis()
+
+    private boolean isExpired(long time) {
+        return timeToLive > 0 && System.currentTimeMillis() - time > timeToLive;
+    }
+
+    /**
+     *  Keeps the result of a solve, in the canonical order of {@code key}, if it does
+     *  not depend on the limits of the solve, and its basis if it is optimal.
+     */
+    private void put(ModelKey key, Solution solution) {
+        SolutionStatus status = solution.status;
+        if (status != SolutionStatus.OPTIMAL && status != SolutionStatus.INFEASIBLE
+                && status != SolutionStatus.UNBOUNDED) {
+            return;
+        }
+        long time = System.currentTimeMillis();
+        double[] variableValues = new double[key.variableNumber];
+        boolean[] basicVariables = null, basicRows = null;
+        for (int k = 0; k < key.variableNumber; k++) {
+            variableValues[k] = solution.variableValues[key.order[k]];
+        }
+        Basis basis = solution.basis;
+        if (basis != null) {
+            basicVariables = new boolean[key.variableNumber];
+            for (int k = 0; k < key.variableNumber; k++) {
+                basicVariables[k] = basis.isBasicVariable(key.order[k]);
+            }
+            basicRows = new boolean[key.constraintNumber];
+            for (int i = 0; i < key.constraintNumber; i++) {
+                basicRows[i] = basis.isBasicRow(i);
+            }
+        }
+        Entry entry = new Entry(status, key.sense * solution.objectiveValue, variableValues,
+                basicVariables, basicRows, time);
+
+        ShapeBasis shapeBasis = null;
+        if (basis != null && status == SolutionStatus.OPTIMAL) {
+            shapeBasis = new ShapeBasis(key.shape.toShapeOrder(basis), basicRows, time);
+        }
+        synchronized (this) {
+            entries.put(key, entry);
+            if (shapeBasis != null) {
+                bases.put(key.shape, shapeBasis);
+            }
+        }
+    }  //  end of put()
+
+    /**
+     *  @return a cached solution, with its variables in the order of the problem of {@code key}
+     */
+    private static Solution toSolution(ModelKey key, Entry entry) {
+        double[] variableValues = new double[key.variableNumber];
+        for (int k = 0; k < key.variableNumber; k++) {
+            variableValues[key.order[k]] = entry.variableValues[k];
+        }
+        Solution solution = new Solution(entry.status, key.sense * entry.objectiveValue, variableValues, 0);
+        if (entry.basicVariables != null) {
+            boolean[] basicVariables = new boolean[key.variableNumber];
+            for (int k = 0; k < key.variableNumber; k++) {
+                basicVariables[key.order[k]] = entry.basicVariables[k];
+            }
+            solution.basis = new Basis(basicVariables, entry.basicRows.clone());
+        }
+        return solution;
+    }  //  end of toSolution()
+
+    /**
+     *  Removes every result and basis. The counts are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        bases.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     *  @return the number of misses solved from the basis of a problem of the same shape
+     */
+    public long getWarmStarts() {
+        return warmStarts.sum();
+    }
+
+    /**
+     *  @return the number of results removed to make room
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     *  @return the number of results found too old to be used
+     */
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    /**
+     *  @return the fraction of the solves that were found in the cache
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum(), total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("size=%d hits=%d misses=%d hitRate=%.3f warmStarts=%d evictions=%d expirations=%d",
+                size(), getHits(), getMisses(), getHitRate(), getWarmStarts(), getEvictions(), getExpirations());
+    }
+
+}  //  end of class
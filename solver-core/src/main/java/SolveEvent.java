@@ -0,0 +1,43 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ *  <p>The class {@code SolveEvent} is the JDK Flight Recorder event of one solve by
+ *  {@code Simplex} or {@code RevisedSimplex}. Its duration is the time of the solve.
+ *  Record it with <i>-XX:StartFlightRecording</i>, or enable it by name in a
+ *  recording: <i>optimisation.Solve</i>.</p>
+ */
+
+@Name("optimisation.Solve")
+@Label("Solve")
+@Category("Optimisation")
+@Description("A solve of a linear program by a simplex engine")
+class SolveEvent extends jdk.jfr.Event {
+
+    @Label("Engine")
+    String engine;
+
+    @Label("Constraints")
+    int constraints;
+
+    @Label("Variables")
+    int variables;
+
+    @Label("Status")
+    String status;
+
+    @Label("Iterations")
+    int iterations;
+
+    @Label("Degenerate Pivots")
+    int degeneratePivots;
+
+    @Label("Refactorizations")
+    int refactorizations;
+
+    @Label("Objective Value")
+    double objectiveValue;
+
+}  //  end of class
@@ -0,0 +1,215 @@
+import jdk.jfr.FlightRecorder;
+
+/**
+ *  <p>The class {@code SolveMetrics} counts and times what one solve by
+ *  {@code Simplex} or {@code RevisedSimplex} did: the iterations, degenerate pivots
+ *  and refactorisations, the time spent in each {@code SolvePhase} and a
+ *  {@code Histogram} of the time between pivots.</p>
+ *  <p>The engine marks each change of phase with {@code enter()}, which charges the
+ *  time since the last change to the phase being left, so the times of the phases
+ *  never overlap. Time outside every phase, such as in the listeners, is not charged.
+ *  Without {@code timed} only the counts are kept and the clock is only read at
+ *  the start and end of the solve.</p>
+ *  <p>It also writes a {@code SolveEvent} for the solve and a {@code PivotBatchEvent}
+ *  for every {@code PIVOT_BATCH_SIZE} pivots when JDK Flight Recorder is recording them.</p>
+ */
+
+public class SolveMetrics {
+
+    /**
+     *  The {@code int} is the number of pivots in each {@code PivotBatchEvent}
+     */
+    static final int PIVOT_BATCH_SIZE = 64;
+
+    /**
+     *  The {@code boolean} is <i>true</i> if the phases and pivots are timed
+     */
+    final boolean timed;
+
+    /**
+     *  The {@code int} values are the iterations, the pivots that did not change the
+     *  objective function and the times the basis was factorised again
+     */
+    int iterations, degeneratePivots, refactorizations;
+
+    /**
+     *  The time spent in each {@code SolvePhase} in nanoseconds
+     */
+    final long[] phaseTimes = new long[SolvePhase.values().length];
+
+    /**
+     *  The time in nanoseconds from the start of the solve or the previous pivot to each pivot
+     */
+    final Histogram pivotTimes = new Histogram();
+
+    /**
+     *  The {@code long} is the time taken by the solve in nanoseconds
+     */
+    long solveTime;
+
+    private String engine;
+    private SolvePhase phase;
+    private long phaseStart, lastPivot, startTime;
+    private SolveEvent solveEvent;
+    private PivotBatchEvent batchEvent;
+    private boolean running, recordBatches;
+
+    SolveMetrics(boolean timed) {
+        this.timed = timed;
+    }  //  end of constructor
+
+    /**
+     *  Starts timing a solve and its {@code SolveEvent}.
+     */
+    void started(String engine, int constraints, int variables) {
+        this.engine = engine;
+        running = true;
+        startTime = System.nanoTime();
+        lastPivot = startTime;
+        phaseStart = startTime;
+        //  the first event made sets up Flight Recorder, which takes longer than
+        //  most solves, so none are made unless it is already recording
+        if (!FlightRecorder.isInitialized()) {
+            return;
+        }
+        solveEvent = new SolveEvent();
+        if (solveEvent.isEnabled()) {
+            solveEvent.engine = engine;
+            solveEvent.constraints = constraints;
+            solveEvent.variables = variables;
+            solveEvent.begin();
+        }
+        else {
+            solveEvent = null;
+        }
+        recordBatches = new PivotBatchEvent().isEnabled();
+    }  //  end of started()
+
+    /**
+     *  Charges the time since the last change of phase to the current phase
+     *  and starts timing another.
+     *
+     *  @param next is the phase the solve is entering, or {@code null} for none
+     *  @return the phase the solve was in, so that a nested phase can go back to it
+     */
+    SolvePhase enter(SolvePhase next) {
+        SolvePhase previous = phase;
+        if (timed) {
+            long now = System.nanoTime();
+            if (previous != null) {
+                phaseTimes[previous.ordinal()] += now - phaseStart;
+            }
+            phaseStart = now;
+        }
+        phase = next;
+        return previous;
+    }  //  end of enter()
+
+    /**
+     *  Counts a pivot, which was iteration {@code iteration} of the solve.
+     *  Pivots made outside a solve, such as by {@code ParametricAnalysis}, are not counted.
+     */
+    void pivoted(int iteration) {
+        if (!running) {
+            return;
+        }
+        if (timed) {
+            long now = System.nanoTime();
+            pivotTimes.record(now - lastPivot);
+            lastPivot = now;
+        }
+        if (recordBatches) {
+            if (batchEvent != null && batchEvent.pivots == PIVOT_BATCH_SIZE) {
+                commitBatch();
+            }
+            if (batchEvent == null) {
+                batchEvent = new PivotBatchEvent();
+                batchEvent.engine = engine;
+                batchEvent.firstIteration = iteration;
+                batchEvent.degeneratePivots = degeneratePivots;
+                batchEvent.refactorizations = refactorizations;
+                batchEvent.begin();
+            }
+            batchEvent.pivots++;
+        }
+    }  //  end of pivoted()
+
+    /**
+     *  Commits the batch of pivots, with its counts changed from totals to
+     *  the numbers in the batch.
+     */
+    private void commitBatch() {
+        batchEvent.degeneratePivots = degeneratePivots - batchEvent.degeneratePivots;
+        batchEvent.refactorizations = refactorizations - batchEvent.refactorizations;
+        batchEvent.commit();
+        batchEvent = null;
+    }  //  end of commitBatch()
+
+    /**
+     *  Ends the solve: stops the current phase, commits the events and
+     *  adds the solve to {@code instrumentation} unless it is {@code null}.
+     */
+    void finished(Solution solution, SolverInstrumentation instrumentation) {
+        enter(null);
+        running = false;
+        solveTime = System.nanoTime() - startTime;
+        iterations = solution.iterations;
+        if (batchEvent != null) {
+            commitBatch();
+        }
+        if (solveEvent != null) {
+            solveEvent.status = solution.status.name();
+            solveEvent.iterations = iterations;
+            solveEvent.degeneratePivots = degeneratePivots;
+            solveEvent.refactorizations = refactorizations;
+            solveEvent.objectiveValue = solution.objectiveValue;
+            solveEvent.commit();
+            solveEvent = null;
+        }
+        solution.metrics = this;
+        if (instrumentation != null) {
+            instrumentation.record(this, solution.status);
+        }
+    }  //  end of finished()
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public int getDegeneratePivots() {
+        return degeneratePivots;
+    }
+
+    public int getRefactorizations() {
+        return refactorizations;
+    }
+
+    /**
+     *  @return the time spent in {@code phase} in nanoseconds, which is <i>0</i>
+     *  if the solve was not timed
+     */
+    public long getPhaseTime(SolvePhase phase) {
+        return phaseTimes[phase.ordinal()];
+    }
+
+    public Histogram getPivotTimes() {
+        return pivotTimes;
+    }
+
+    public long getSolveTime() {
+        return solveTime;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(String.format("iterations=%d degenerate=%d refactorizations=%d",
+                iterations, degeneratePivots, refactorizations));
+        if (timed) {
+            for (SolvePhase phase : SolvePhase.values()) {
+                text.append(String.format(" %s=%.3fms", phase.name().toLowerCase(), getPhaseTime(phase) / 1e6));
+            }
+        }
+        return text.toString();
+    }  //  end of toString()
+
+}  //  end of class
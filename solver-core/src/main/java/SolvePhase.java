@@ -0,0 +1,37 @@
+/**
+ *  <p>The enum {@code SolvePhase} names the parts of a simplex solve whose time
+ *  {@code SolveMetrics} measures separately.</p>
+ */
+
+public enum SolvePhase {
+
+    /**
+     *  Choosing the entering variable, including the {@code btran} of the
+     *  revised simplex method
+     */
+    PRICING,
+
+    /**
+     *  Choosing the leaving variable, including the {@code ftran} of the
+     *  revised simplex method
+     */
+    RATIO_TEST,
+
+    /**
+     *  Pivoting the tableau, or updating the basic values and the factorisation,
+     *  including the update of the weights of the pricing rule
+     */
+    ELIMINATION,
+
+    /**
+     *  Setting up the first phase objective function and taking the artificial
+     *  variables out of the basis after it
+     */
+    ARTIFICIAL_VARIABLES,
+
+    /**
+     *  Factorising the basis again, in the revised simplex method
+     */
+    REFACTORIZATION
+
+}  //  end of enum
@@ -0,0 +1,123 @@
+import java.util.function.Supplier;
+
+/**
+ *  <p>The class {@code SolverOptions} holds the settings passed to an
+ *  {@code Engine} for a solve, so that the same settings can be used
+ *  whichever engine is chosen.</p>
+ */
+
+public class SolverOptions implements Cloneable {
+
+    /**
+     *  The {@code int} is the largest number of iterations a solve may carry out
+     */
+    int iterationLimit = Integer.MAX_VALUE;
+
+    /**
+     *  The {@code long} is the time allowed for a solve in milliseconds.
+     *  It is ignored when it is <i>0</i>
+     */
+    long timeLimit;
+
+    /**
+     *  The {@code boolean} is {@code true} if the problem is made smaller by
+     *  {@code Presolve} before it is given to the engine
+     */
+    boolean presolve;
+
+    /**
+     *  How the problem is scaled before it is given to the engine
+     */
+    ScalingMethod scaling = ScalingMethod.NONE;
+
+    /**
+     *  The {@code double} values are passed on to the {@code feasibilityTolerance}
+     *  and {@code optimalityTolerance} of the engine
+     */
+    double feasibilityTolerance = 1e-9, optimalityTolerance = 1e-9;
+
+    /**
+     *  The {@code int} is the number of degenerate pivots in a row after which
+     *  the engine recovers from a stall as {@code stallRecovery} says
+     */
+    int stallWindow = 50;
+
+    StallRecovery stallRecovery = StallRecovery.BLAND;
+
+    /**
+     *  Creates the rule that chooses the entering column, a new one for each solve
+     *  because some rules keep weights. It is used by {@code TABLEAU}; the engines
+     *  based on {@code RevisedSimplex} always use Dantzig's rule, or Bland's rule
+     *  when they stall
+     */
+    Supplier<PricingRule> pricingRule = DantzigPricing::new;
+
+    /**
+     *  The basis of an earlier solve to start from, or {@code null}. It is used by the
+     *  engines based on {@code RevisedSimplex} and is ignored by {@code TABLEAU}
+     */
+    Basis startBasis;
+
+    /**
+     *  The {@code boolean} is {@code true} if the {@code INTERIOR_POINT} engine
+     *  finishes at a vertex with the simplex method
+     */
+    boolean crossover;
+
+    /**
+     *  @return a copy of these settings that starts from {@code startBasis}
+     */
+    SolverOptions withStartBasis(Basis startBasis) {
+        try {
+            SolverOptions options = (SolverOptions) clone();
+            options.startBasis = startBasis;
+            return options;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }  //  end of withStartBasis()
+
+    /**
+     *  Applies the settings to a {@code Simplex} object before it is solved.
+     */
+    void applyTo(Simplex simplex) {
+        simplex.iterationLimit = iterationLimit;
+        simplex.feasibilityTolerance = feasibilityTolerance;
+        simplex.optimalityTolerance = optimalityTolerance;
+        simplex.stallWindow = stallWindow;
+        simplex.stallRecovery = stallRecovery;
+        simplex.pricingRule = pricingRule.get();
+        if (timeLimit > 0) {
+            simplex.setTimeLimit(timeLimit);
+        }
+    }  //  end of applyTo()
+
+    /**
+     *  Applies the settings to a {@code RevisedSimplex} object before it is solved.
+     */
+    void applyTo(RevisedSimplex revisedSimplex) {
+        revisedSimplex.iterationLimit = iterationLimit;
+        revisedSimplex.feasibilityTolerance = feasibilityTolerance;
+        revisedSimplex.optimalityTolerance = optimalityTolerance;
+        revisedSimplex.stallWindow = stallWindow;
+        revisedSimplex.stallRecovery = stallRecovery;
+        revisedSimplex.startBasis = startBasis;
+        if (timeLimit > 0) {
+            revisedSimplex.deadline = System.currentTimeMillis() + timeLimit;
+        }
+    }  //  end of applyTo()
+
+    /**
+     *  Applies the settings to an {@code InteriorPoint} object before it is solved.
+     *  The iteration limit only lowers its own, as it takes far fewer iterations.
+     */
+    void applyTo(InteriorPoint interiorPoint) {
+        interiorPoint.iterationLimit = Math.min(iterationLimit, interiorPoint.iterationLimit);
+        interiorPoint.crossover = crossover;
+        interiorPoint.crossoverOptions = this;
+        if (timeLimit > 0) {
+            interiorPoint.deadline = System.currentTimeMillis() + timeLimit;
+        }
+    }  //  end of applyTo()
+
+}  //  end of class
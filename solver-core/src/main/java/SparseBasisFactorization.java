@@ -0,0 +1,503 @@
+import java.util.Arrays;
+
+/**
+ *  <p>The class {@code SparseBasisFactorization} factorises the basis into
+ *  sparse <i>L</i> and <i>U</i> factors, keeping only the coefficients that are
+ *  not <i>0</i>.</p>
+ *  <p>The part of the basis not yet eliminated is held both by column, with the
+ *  values, and by row, with the columns only, and the rows and columns are kept in
+ *  lists by their number of coefficients. Each pivot is chosen by its Markowitz
+ *  count, <i>(r - 1)(c - 1)</i> for a coefficient in a row of <i>r</i> and a column
+ *  of <i>c</i> coefficients, which bounds the fill it can cause, among the
+ *  coefficients at least {@code pivotThreshold} times the largest in their column.
+ *  The search looks at the rows and columns with the fewest coefficients first and
+ *  stops after {@code searchLimit} of them once a pivot has been found. Only the
+ *  columns of the pivot row and the rows of the pivot column are updated, so the
+ *  cost of a factorisation grows with the coefficients and the fill rather than
+ *  with the square of the size of the basis.</p>
+ */
+
+public class SparseBasisFactorization extends BasisFactorization {
+
+    /**
+     *  The {@code double} is the smallest fraction of the largest coefficient in
+     *  its column that a pivot may be
+     */
+    double pivotThreshold = 0.1;
+
+    /**
+     *  The {@code int} is the number of rows and columns looked at after a pivot
+     *  has been found before the best one is taken
+     */
+    int searchLimit = 4;
+
+    /**
+     *  Column <i>k</i> of <i>L</i> has a unit coefficient in row {@code pivotRows[k]} and
+     *  the coefficients stored from {@code lStarts[k]} up to {@code lStarts[k + 1]}
+     */
+    int[] lStarts;
+    int[] lRows;
+    double[] lValues;
+
+    /**
+     *  Row <i>k</i> of <i>U</i> has the coefficient {@code uDiagonal[k]} in position
+     *  {@code pivotColumns[k]} and the coefficients stored from {@code uStarts[k]} up to
+     *  {@code uStarts[k + 1]}, in the positions of the basis of later pivots
+     */
+    int[] uStarts;
+    int[] uColumns;
+    double[] uValues;
+    double[] uDiagonal;
+
+    /**
+     *  The row and the position of the basis of each pivot
+     */
+    int[] pivotRows;
+    int[] pivotColumns;
+
+    /**
+     *  The part of the basis not yet eliminated: the rows and values of each column,
+     *  and the columns of each row
+     */
+    private int[][] columnRows;
+    private double[][] columnValues;
+    private int[] columnCounts;
+    private int[][] rowColumns;
+    private int[] rowCounts;
+
+    /**
+     *  Doubly linked lists of the rows and columns not yet eliminated
+     *  with each number of coefficients
+     */
+    private int[] columnHeads, columnNext, columnPrevious;
+    private int[] rowHeads, rowNext, rowPrevious;
+
+    /**
+     *  The list each row and column is in, or <i>0</i> if it is in none
+     */
+    private int[] columnLists, rowLists;
+
+    /**
+     *  The position of each row in the column being updated, or <i>-1</i>
+     */
+    private int[] rowMarks;
+
+    double[] work;
+
+    public SparseBasisFactorization(int size, int refactorizationInterval) {
+        super(size, refactorizationInterval);
+        this.lStarts = new int[size + 1];
+        this.uStarts = new int[size + 1];
+        this.lRows = new int[size];
+        this.lValues = new double[size];
+        this.uColumns = new int[size];
+        this.uValues = new double[size];
+        this.uDiagonal = new double[size];
+        this.pivotRows = new int[size];
+        this.pivotColumns = new int[size];
+        this.columnRows = new int[size][];
+        this.columnValues = new double[size][];
+        this.columnCounts = new int[size];
+        this.rowColumns = new int[size][];
+        this.rowCounts = new int[size];
+        this.columnHeads = new int[size + 1];
+        this.columnNext = new int[size];
+        this.columnPrevious = new int[size];
+        this.rowHeads = new int[size + 1];
+        this.rowNext = new int[size];
+        this.rowPrevious = new int[size];
+        this.columnLists = new int[size];
+        this.rowLists = new int[size];
+        this.rowMarks = new int[size];
+        this.work = new double[size];
+    }  //  end of constructor
+
+    @Override
+    void decompose(SparseMatrix basis) {
+        loadActive(basis);
+        int lNumber = 0;
+        int uNumber = 0;
+
+        for (int k = 0; k < size; k++) {
+            long pivot = choosePivot();
+            if (pivot < 0) {
+                throw new ArithmeticException("Basis matrix is singular");
+            }
+            int pivotRow = (int) (pivot >>> 32);
+            int pivotColumn = (int) pivot;
+            removeColumn(pivotColumn);
+            removeRow(pivotRow);
+
+            //  take the pivot column out of the active part; its other coefficients form column k of L
+            int[] rows = columnRows[pivotColumn];
+            double[] values = columnValues[pivotColumn];
+            double pivotValue = 0;
+            int lStart = lNumber;
+            for (int p = 0; p < columnCounts[pivotColumn]; p++) {
+                if (rows[p] == pivotRow) {
+                    pivotValue = values[p];
+                }
+            }
+            for (int p = 0; p < columnCounts[pivotColumn]; p++) {
+                int i = rows[p];
+                if (i == pivotRow) {
+                    continue;
+                }
+                if (lNumber == lRows.length) {
+                    lRows = Arrays.copyOf(lRows, lNumber * 2);
+                    lValues = Arrays.copyOf(lValues, lNumber * 2);
+                }
+                lRows[lNumber] = i;
+                lValues[lNumber] = values[p] / pivotValue;
+                lNumber++;
+                removeFromRow(i, pivotColumn);
+            }
+            columnCounts[pivotColumn] = 0;
+
+            //  take the pivot row out of the active part; its other coefficients form row k of U
+            int uStart = uNumber;
+            int[] columns = rowColumns[pivotRow];
+            for (int q = 0; q < rowCounts[pivotRow]; q++) {
+                int j = columns[q];
+                if (j == pivotColumn) {
+                    continue;
+                }
+                if (uNumber == uColumns.length) {
+                    uColumns = Arrays.copyOf(uColumns, uNumber * 2);
+                    uValues = Arrays.copyOf(uValues, uNumber * 2);
+                }
+                uColumns[uNumber] = j;
+                uValues[uNumber] = removeFromColumn(j, pivotRow);
+                uNumber++;
+            }
+            rowCounts[pivotRow] = 0;
+
+            //  subtract the multiples of row k of U from the rows of column k of L
+            for (int q = uStart; q < uNumber; q++) {
+                int j = uColumns[q];
+                double u = uValues[q];
+                for (int p = 0; p < columnCounts[j]; p++) {
+                    rowMarks[columnRows[j][p]] = p;
+                }
+                for (int p = lStart; p < lNumber; p++) {
+                    int i = lRows[p];
+                    if (rowMarks[i] >= 0) {
+                        columnValues[j][rowMarks[i]] -= lValues[p] * u;
+                    }
+                    else {
+                        addToColumn(j, i, -lValues[p] * u);
+                        addToRow(i, j);
+                    }
+                }
+                for (int p = 0; p < columnCounts[j]; p++) {
+                    rowMarks[columnRows[j][p]] = -1;
+                }
+                removeColumn(j);
+                insertColumn(j);
+            }
+            for (int p = lStart; p < lNumber; p++) {
+                removeRow(lRows[p]);
+                insertRow(lRows[p]);
+            }
+
+            uDiagonal[k] = pivotValue;
+            pivotRows[k] = pivotRow;
+            pivotColumns[k] = pivotColumn;
+            lStarts[k + 1] = lNumber;
+            uStarts[k + 1] = uNumber;
+        }  //  end of for
+    }  //  end of decompose()
+
+    /**
+     *  Copies the basis into the active part and puts every row and column in the
+     *  list of its number of coefficients.
+     */
+    private void loadActive(SparseMatrix basis) {
+        Arrays.fill(columnHeads, -1);
+        Arrays.fill(rowHeads, -1);
+        Arrays.fill(rowMarks, -1);
+        Arrays.fill(columnLists, 0);
+        Arrays.fill(rowLists, 0);
+        Arrays.fill(rowCounts, 0);
+        for (int p = 0; p < basis.columnStarts[size]; p++) {
+            rowCounts[basis.rowIndices[p]]++;
+        }
+        for (int i = 0; i < size; i++) {
+            if (rowColumns[i] == null || rowColumns[i].length < rowCounts[i]) {
+                rowColumns[i] = new int[Math.max(4, rowCounts[i] * 2)];
+            }
+            rowCounts[i] = 0;
+        }
+        for (int j = 0; j < size; j++) {
+            int count = basis.columnStarts[j + 1] - basis.columnStarts[j];
+            if (columnRows[j] == null || columnRows[j].length < count) {
+                columnRows[j] = new int[Math.max(4, count * 2)];
+                columnValues[j] = new double[Math.max(4, count * 2)];
+            }
+            columnCounts[j] = 0;
+            for (int p = basis.columnStarts[j]; p < basis.columnStarts[j + 1]; p++) {
+                if (basis.values[p] != 0) {
+                    int i = basis.rowIndices[p];
+                    columnRows[j][columnCounts[j]] = i;
+                    columnValues[j][columnCounts[j]] = basis.values[p];
+                    columnCounts[j]++;
+                    rowColumns[i][rowCounts[i]++] = j;
+                }
+            }
+        }
+        for (int j = 0; j < size; j++) {
+            insertColumn(j);
+        }
+        for (int i = 0; i < size; i++) {
+            insertRow(i);
+        }
+    }  //  end of loadActive()
+
+    /**
+     *  Finds the coefficient with the lowest Markowitz count among those large enough
+     *  in their column, looking at the columns and rows with the fewest coefficients first.
+     *
+     *  @return the row in the high and the column in the low 32 bits, or <i>-1</i>
+     *  if no coefficient can be a pivot, meaning the basis is singular
+     */
+    private long choosePivot() {
+        long best = -1;
+        long bestCount = Long.MAX_VALUE;
+        int searched = 0;
+        for (int count = 1; count <= size; count++) {
+            for (int j = columnHeads[count]; j >= 0; j = columnNext[j]) {
+                double largest = largest(j);
+                for (int p = 0; p < columnCounts[j]; p++) {
+                    double value = Math.abs(columnValues[j][p]);
+                    if (value > 0 && value >= pivotThreshold * largest) {
+                        int i = columnRows[j][p];
+                        long markowitz = (long) (rowCounts[i] - 1) * (count - 1);
+                        if (markowitz < bestCount) {
+                            bestCount = markowitz;
+                            best = ((long) i << 32) | j;
+                        }
+                    }
+                }
+                if (best >= 0 && (bestCount == 0 || ++searched >= searchLimit)) {
+                    return best;
+                }
+            }
+            for (int i = rowHeads[count]; i >= 0; i = rowNext[i]) {
+                for (int q = 0; q < count; q++) {
+                    int j = rowColumns[i][q];
+                    double value = Math.abs(valueIn(j, i));
+                    if (value > 0 && value >= pivotThreshold * largest(j)) {
+                        long markowitz = (long) (count - 1) * (columnCounts[j] - 1);
+                        if (markowitz < bestCount) {
+                            bestCount = markowitz;
+                            best = ((long) i << 32) | j;
+                        }
+                    }
+                }
+                if (best >= 0 && (bestCount == 0 || ++searched >= searchLimit)) {
+                    return best;
+                }
+            }
+            //  every coefficient not yet looked at is in a row and a column of more than count
+            if (best >= 0 && bestCount <= (long) count * count) {
+                return best;
+            }
+        }  //  end of for
+        return best;
+    }  //  end of choosePivot()
+
+    /**
+     *  @return the largest size of a coefficient in column {@code j}
+     */
+    private double largest(int j) {
+        double largest = 0;
+        for (int p = 0; p < columnCounts[j]; p++) {
+            largest = Math.max(largest, Math.abs(columnValues[j][p]));
+        }
+        return largest;
+    }  //  end of largest()
+
+    /**
+     *  @return the coefficient in row {@code i} of column {@code j}, which may be <i>0</i>
+     */
+    private double valueIn(int j, int i) {
+        for (int p = 0; p < columnCounts[j]; p++) {
+            if (columnRows[j][p] == i) {
+                return columnValues[j][p];
+            }
+        }
+        return 0;
+    }  //  end of valueIn()
+
+    /**
+     *  Removes row {@code i} from column {@code j}.
+     *
+     *  @return the coefficient that was removed
+     */
+    private double removeFromColumn(int j, int i) {
+        int last = --columnCounts[j];
+        for (int p = 0; p <= last; p++) {
+            if (columnRows[j][p] == i) {
+                double value = columnValues[j][p];
+                columnRows[j][p] = columnRows[j][last];
+                columnValues[j][p] = columnValues[j][last];
+                return value;
+            }
+        }
+        return 0;
+    }  //  end of removeFromColumn()
+
+    private void removeFromRow(int i, int j) {
+        int last = --rowCounts[i];
+        for (int q = 0; q <= last; q++) {
+            if (rowColumns[i][q] == j) {
+                rowColumns[i][q] = rowColumns[i][last];
+                return;
+            }
+        }
+    }  //  end of removeFromRow()
+
+    private void addToColumn(int j, int i, double value) {
+        int count = columnCounts[j];
+        if (count == columnRows[j].length) {
+            columnRows[j] = Arrays.copyOf(columnRows[j], count * 2);
+            columnValues[j] = Arrays.copyOf(columnValues[j], count * 2);
+        }
+        columnRows[j][count] = i;
+        columnValues[j][count] = value;
+        columnCounts[j]++;
+    }  //  end of addToColumn()
+
+    private void addToRow(int i, int j) {
+        int count = rowCounts[i];
+        if (count == rowColumns[i].length) {
+            rowColumns[i] = Arrays.copyOf(rowColumns[i], count * 2);
+        }
+        rowColumns[i][count] = j;
+        rowCounts[i]++;
+    }  //  end of addToRow()
+
+    /**
+     *  Puts column {@code j} at the head of the list of its number of coefficients.
+     *  A column without coefficients is left out of the lists.
+     */
+    private void insertColumn(int j) {
+        int count = columnCounts[j];
+        columnPrevious[j] = -1;
+        columnLists[j] = count;
+        if (count == 0) {
+            columnNext[j] = -1;
+            return;
+        }
+        columnNext[j] = columnHeads[count];
+        if (columnHeads[count] >= 0) {
+            columnPrevious[columnHeads[count]] = j;
+        }
+        columnHeads[count] = j;
+    }  //  end of insertColumn()
+
+    /**
+     *  Takes column {@code j} out of the list it is in, which is the list of the
+     *  number of coefficients it had when it was inserted, if it is in one.
+     */
+    private void removeColumn(int j) {
+        if (columnLists[j] == 0) {
+            return;
+        }
+        if (columnPrevious[j] >= 0) {
+            columnNext[columnPrevious[j]] = columnNext[j];
+        }
+        else {
+            columnHeads[columnLists[j]] = columnNext[j];
+        }
+        if (columnNext[j] >= 0) {
+            columnPrevious[columnNext[j]] = columnPrevious[j];
+        }
+        columnNext[j] = -1;
+        columnPrevious[j] = -1;
+        columnLists[j] = 0;
+    }  //  end of removeColumn()
+
+    private void insertRow(int i) {
+        int count = rowCounts[i];
+        rowPrevious[i] = -1;
+        rowLists[i] = count;
+        if (count == 0) {
+            rowNext[i] = -1;
+            return;
+        }
+        rowNext[i] = rowHeads[count];
+        if (rowHeads[count] >= 0) {
+            rowPrevious[rowHeads[count]] = i;
+        }
+        rowHeads[count] = i;
+    }  //  end of insertRow()
+
+    private void removeRow(int i) {
+        if (rowLists[i] == 0) {
+            return;
+        }
+        if (rowPrevious[i] >= 0) {
+            rowNext[rowPrevious[i]] = rowNext[i];
+        }
+        else {
+            rowHeads[rowLists[i]] = rowNext[i];
+        }
+        if (rowNext[i] >= 0) {
+            rowPrevious[rowNext[i]] = rowPrevious[i];
+        }
+        rowNext[i] = -1;
+        rowPrevious[i] = -1;
+        rowLists[i] = 0;
+    }  //  end of removeRow()
+
+    @Override
+    void solve(double[] a) {
+        //  forward substitution with L, in the rows of the basis
+        for (int k = 0; k < size; k++) {
+            double zk = a[pivotRows[k]];
+            if (zk != 0) {
+                for (int p = lStarts[k]; p < lStarts[k + 1]; p++) {
+                    a[lRows[p]] -= lValues[p] * zk;
+                }
+            }
+        }
+
+        //  back substitution with U, by row, into the positions of the basis
+        double[] x = work;
+        for (int k = size - 1; k >= 0; k--) {
+            double sum = a[pivotRows[k]];
+            for (int p = uStarts[k]; p < uStarts[k + 1]; p++) {
+                sum -= uValues[p] * x[uColumns[p]];
+            }
+            x[pivotColumns[k]] = sum / uDiagonal[k];
+        }
+        System.arraycopy(x, 0, a, 0, size);
+    }  //  end of solve()
+
+    @Override
+    void solveTransposed(double[] c) {
+        //  forward substitution with the transpose of U, into the rows of the basis
+        double[] y = work;
+        for (int k = 0; k < size; k++) {
+            double yk = c[pivotColumns[k]] / uDiagonal[k];
+            y[pivotRows[k]] = yk;
+            if (yk != 0) {
+                for (int p = uStarts[k]; p < uStarts[k + 1]; p++) {
+                    c[uColumns[p]] -= uValues[p] * yk;
+                }
+            }
+        }
+
+        //  back substitution with the transpose of L
+        for (int k = size - 1; k >= 0; k--) {
+            double sum = y[pivotRows[k]];
+            for (int p = lStarts[k]; p < lStarts[k + 1]; p++) {
+                sum -= lValues[p] * y[lRows[p]];
+            }
+            y[pivotRows[k]] = sum;
+        }
+        System.arraycopy(y, 0, c, 0, size);
+    }  //  end of solveTransposed()
+
+}  //  end of class
@@ -0,0 +1,162 @@
+/**
+ *  <p>The class {@code SparseMatrix} stores a matrix in compressed sparse
+ *  column form, keeping only the coefficients that are not <i>0</i>.</p>
+ *  <p>The row indices and values of column <i>j</i> are stored from
+ *  {@code columnStarts[j]} up to but not including {@code columnStarts[j + 1]},
+ *  in increasing order of row.</p>
+ */
+
+public class SparseMatrix {
+
+    int rowNumber;
+    int columnNumber;
+
+    int[] columnStarts;
+    int[] rowIndices;
+    double[] values;
+
+    public SparseMatrix(int rowNumber, int columnNumber, int[] columnStarts, int[] rowIndices, double[] values) {
+        this.rowNumber = rowNumber;
+        this.columnNumber = columnNumber;
+        this.columnStarts = columnStarts;
+        this.rowIndices = rowIndices;
+        this.values = values;
+    }  //  end of constructor
+
+    /**
+     *  Creates a {@code SparseMatrix} holding the coefficients of a 2-dimensional array
+     *  that are not <i>0</i>.
+     *
+     *  @param rows holds the matrix by row
+     *  @param columnNumber is the number of columns to be read from each row
+     *  @return the sparse matrix
+     */
+    public static SparseMatrix fromDense(double[][] rows, int columnNumber) {
+        int[] columnStarts = new int[columnNumber + 1];
+        for (int i = 0; i < rows.length; i++) {
+            for (int j = 0; j < columnNumber; j++) {
+                if (rows[i][j] != 0) {
+                    columnStarts[j + 1]++;
+                }
+            }
+        }
+        for (int j = 0; j < columnNumber; j++) {
+            columnStarts[j + 1] += columnStarts[j];
+        }
+
+        int[] next = columnStarts.clone();
+        int[] rowIndices = new int[columnStarts[columnNumber]];
+        double[] values = new double[columnStarts[columnNumber]];
+        for (int i = 0; i < rows.length; i++) {
+            for (int j = 0; j < columnNumber; j++) {
+                if (rows[i][j] != 0) {
+                    rowIndices[next[j]] = i;
+                    values[next[j]] = rows[i][j];
+                    next[j]++;
+                }
+            }
+        }
+        return new SparseMatrix(rows.length, columnNumber, columnStarts, rowIndices, values);
+    }  //  end of fromDense()
+
+    /**
+     *  Creates a {@code SparseMatrix} from a list of coefficients in any order.
+     *  Coefficients given more than once for the same row and column are added together.
+     *
+     *  @param count is the number of coefficients in the arrays
+     *  @return the sparse matrix
+     */
+    public static SparseMatrix fromTriplets(int rowNumber, int columnNumber,
+                                            int[] tripletRows, int[] tripletColumns, double[] tripletValues, int count) {
+        //  sort the coefficients by row, then by column, so each column is in row order
+        int[] rowStarts = new int[rowNumber + 1];
+        for (int k = 0; k < count; k++) {
+            rowStarts[tripletRows[k] + 1]++;
+        }
+        for (int i = 0; i < rowNumber; i++) {
+            rowStarts[i + 1] += rowStarts[i];
+        }
+        int[] byRow = new int[count];
+        int[] nextInRow = rowStarts.clone();
+        for (int k = 0; k < count; k++) {
+            byRow[nextInRow[tripletRows[k]]++] = k;
+        }
+
+        int[] columnStarts = new int[columnNumber + 1];
+        for (int k = 0; k < count; k++) {
+            columnStarts[tripletColumns[k] + 1]++;
+        }
+        for (int j = 0; j < columnNumber; j++) {
+            columnStarts[j + 1] += columnStarts[j];
+        }
+        int[] next = columnStarts.clone();
+        int[] rowIndices = new int[count];
+        double[] values = new double[count];
+        for (int position = 0; position < count; position++) {
+            int k = byRow[position];
+            int j = tripletColumns[k];
+            if (next[j] > columnStarts[j] && rowIndices[next[j] - 1] == tripletRows[k]) {
+                values[next[j] - 1] += tripletValues[k];  //  repeated coefficient
+            }
+            else {
+                rowIndices[next[j]] = tripletRows[k];
+                values[next[j]] = tripletValues[k];
+                next[j]++;
+            }
+        }
+
+        //  close the gaps left by repeated coefficients
+        int nonZero = 0;
+        int[] compactStarts = new int[columnNumber + 1];
+        for (int j = 0; j < columnNumber; j++) {
+            for (int p = columnStarts[j]; p < next[j]; p++) {
+                rowIndices[nonZero] = rowIndices[p];
+                values[nonZero] = values[p];
+                nonZero++;
+            }
+            compactStarts[j + 1] = nonZero;
+        }
+        return new SparseMatrix(rowNumber, columnNumber, compactStarts,
+                java.util.Arrays.copyOf(rowIndices, nonZero), java.util.Arrays.copyOf(values, nonZero));
+    }  //  end of fromTriplets()
+
+    /**
+     *  @return the number of coefficients stored
+     */
+    public int nonZeroNumber() {
+        return columnStarts[columnNumber];
+    }
+
+    /**
+     *  @return the coefficient at {@code row} and {@code column}, which may be <i>0</i>
+     */
+    public double get(int row, int column) {
+        int position = java.util.Arrays.binarySearch(rowIndices, columnStarts[column], columnStarts[column + 1], row);
+        return position >= 0 ? values[position] : 0;
+    }  //  end of get()
+
+    /**
+     *  @return the transpose of this matrix, which holds this matrix by row
+     */
+    public SparseMatrix transpose() {
+        int[] rowStarts = new int[rowNumber + 1];
+        for (int p = 0; p < nonZeroNumber(); p++) {
+            rowStarts[rowIndices[p] + 1]++;
+        }
+        for (int i = 0; i < rowNumber; i++) {
+            rowStarts[i + 1] += rowStarts[i];
+        }
+        int[] next = rowStarts.clone();
+        int[] columnIndices = new int[nonZeroNumber()];
+        double[] rowValues = new double[nonZeroNumber()];
+        for (int j = 0; j < columnNumber; j++) {
+            for (int p = columnStarts[j]; p < columnStarts[j + 1]; p++) {
+                columnIndices[next[rowIndices[p]]] = j;
+                rowValues[next[rowIndices[p]]] = values[p];
+                next[rowIndices[p]]++;
+            }
+        }
+        return new SparseMatrix(columnNumber, rowNumber, rowStarts, columnIndices, rowValues);
+    }  //  end of transpose()
+
+}  //  end of class
@@ -0,0 +1,52 @@
+/**
+ *  <p>The class {@code StallCounters} counts the degenerate pivots of a solve
+ *  and how often each way of recovering from a stall was used.</p>
+ */
+
+public class StallCounters {
+
+    /**
+     *  The {@code int} is the number of pivots that did not change the value
+     *  of the objective function
+     */
+    int degeneratePivots;
+
+    /**
+     *  The {@code int} is the number of times {@code stallWindow} degenerate
+     *  pivots were made in a row
+     */
+    int stalls;
+
+    /**
+     *  The {@code int} values are the number of times Bland's rule was switched
+     *  on and the number of times the solutions of the constraints were perturbed
+     */
+    int blandSwitches, perturbations;
+
+    /**
+     *  The {@code int} is the number of dual simplex pivots needed to make the
+     *  solution feasible again after a perturbation was removed
+     */
+    int repairPivots;
+
+    public int getDegeneratePivots() {
+        return degeneratePivots;
+    }
+
+    public int getStalls() {
+        return stalls;
+    }
+
+    public int getBlandSwitches() {
+        return blandSwitches;
+    }
+
+    public int getPerturbations() {
+        return perturbations;
+    }
+
+    public int getRepairPivots() {
+        return repairPivots;
+    }
+
+}  //  end of class
@@ -0,0 +1,28 @@
+/**
+ *  <p>The enum {@code StallRecovery} sets what a solver does when it has made
+ *  {@code stallWindow} degenerate pivots in a row, which leave the value of the
+ *  objective function unchanged and may cycle for ever.</p>
+ */
+
+public enum StallRecovery {
+
+    /**
+     *  Nothing is done
+     */
+    NONE,
+
+    /**
+     *  Bland's rule chooses the key column and the key row until a pivot makes
+     *  progress. It cannot cycle, but takes many more iterations than other rules
+     */
+    BLAND,
+
+    /**
+     *  The solutions of the constraints are increased by small random amounts,
+     *  so that later pivots are not degenerate. The amounts are removed once the
+     *  phase is optimal, and any constraint left below its solution is repaired
+     *  with dual simplex pivots. If the solver stalls again, Bland's rule is used
+     */
+    PERTURBATION
+
+}  //  end of enum
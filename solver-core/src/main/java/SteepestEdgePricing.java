@@ -0,0 +1,33 @@
+/**
+ *  <p>The class {@code SteepestEdgePricing} chooses the column whose
+ *  objective function coefficient is most negative relative to the length
+ *  of its column in the tableau, that is the edge with the steepest descent.</p>
+ *  <p>The lengths are computed exactly from the tableau for every column with a
+ *  negative coefficient, so each iteration costs up to as much as a pivot but
+ *  far fewer iterations are usually needed.</p>
+ */
+
+public class SteepestEdgePricing implements PricingRule {
+
+    @Override
+    public int chooseColumn(Simplex simplex) {
+        double best = 0;
+        int keyColumn = -1;
+        for (int i = 0; i < simplex.artificialStart; i++) {
+            double key = simplex.tableau.get(0, i);
+            if (key < -simplex.optimalityTolerance) {
+                double length = 1;
+                for (int r = 1; r < simplex.rowSize; r++) {
+                    double value = simplex.tableau.get(r, i);
+                    length += value * value;
+                }
+                if (key * key / length > best) {
+                    best = key * key / length;
+                    keyColumn = i;
+                }
+            }
+        }  //  end of for
+        return keyColumn;
+    }  //  end of chooseColumn()
+
+}  //  end of class
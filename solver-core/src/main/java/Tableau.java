@@ -0,0 +1,42 @@
+/**
+ *  <p>The interface {@code Tableau} describes the storage used by
+ *  {@code Simplex} for the coefficients of a simplex tableau.</p>
+ *  <p>Row <i>0</i> holds the objective function and the last column
+ *  holds the solution of each row, as in {@code Simplex.coefficients}.</p>
+ */
+
+public interface Tableau {
+
+    /**
+     *  @return the number of rows, including the objective function row
+     */
+    int rowSize();
+
+    /**
+     *  @return the number of columns, including the solution column
+     */
+    int colSize();
+
+    double get(int row, int column);
+
+    void set(int row, int column, double value);
+
+    /**
+     *  Performs Gaussian reduction on the tableau so that the coefficient at
+     *  {@code keyRow} and {@code keyColumn} becomes <i>1</i> and every other
+     *  coefficient in {@code keyColumn} becomes <i>0</i>.
+     *
+     *  @param keyRow is the row of the pivot element
+     *  @param keyColumn is the column of the pivot element
+     */
+    void pivot(int keyRow, int keyColumn);
+
+    /**
+     *  Copies the current coefficients into a 2-dimensional array
+     *  of the same size as the tableau.
+     *
+     *  @param coefficients is the array the values are copied into
+     */
+    void copyTo(double[][] coefficients);
+
+}  //  end of interface
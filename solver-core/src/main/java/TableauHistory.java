@@ -0,0 +1,112 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  <p>The class {@code TableauHistory} keeps copies of the tableau taken during a
+ *  solve, so that they can be looked at on another thread while the solve goes on.</p>
+ *  <p>The copies together may hold at most {@code cellBudget} coefficients. When
+ *  the budget is used up the oldest copies are dropped, except the first one,
+ *  so that the starting tableau and the latest iterations are always kept.</p>
+ */
+
+public class TableauHistory implements IterationListener {
+
+    /**
+     *  The {@code long} is the number of coefficients kept when no budget is given
+     */
+    static final long DEFAULT_CELL_BUDGET = 1L << 22;
+
+    /**
+     *  <p>The class {@code Snapshot} is a copy of the tableau after an iteration.</p>
+     */
+    static class Snapshot {
+
+        final int iteration;
+        final int phase;
+        final String[] rowTitles;
+        final double[][] cells;
+
+        Snapshot(int iteration, int phase, String[] rowTitles, double[][] cells) {
+            this.iteration = iteration;
+            this.phase = phase;
+            this.rowTitles = rowTitles;
+            this.cells = cells;
+        }  //  end of constructor
+
+        long cellNumber() {
+            return (long) cells.length * cells[0].length;
+        }
+
+    }  //  end of class Snapshot
+
+    private final long cellBudget;
+    private final List<Snapshot> snapshots = new ArrayList<>();
+    private long storedCells;
+    private int droppedNumber;
+
+    /**
+     *  The titles of the columns of the tableau, set when the solve starts
+     */
+    volatile String[] columnTitles;
+
+    public TableauHistory() {
+        this(DEFAULT_CELL_BUDGET);
+    }
+
+    /**
+     *  @param cellBudget is the most coefficients that all the copies may hold
+     */
+    public TableauHistory(long cellBudget) {
+        this.cellBudget = cellBudget;
+    }  //  end of constructor
+
+    @Override
+    public void solveStarted(Simplex simplex) {
+        synchronized (this) {
+            snapshots.clear();
+            storedCells = 0;
+            droppedNumber = 0;
+        }
+        columnTitles = simplex.columnTitles.clone();
+        add(simplex);
+    }  //  end of solveStarted()
+
+    @Override
+    public void iterationDone(Simplex simplex) {
+        add(simplex);
+    }
+
+    private void add(Simplex simplex) {
+        Snapshot snapshot = new Snapshot(simplex.iteration, simplex.phase, simplex.rowTitles.clone(), simplex.getTableau());
+        synchronized (this) {
+            snapshots.add(snapshot);
+            storedCells += snapshot.cellNumber();
+            while (storedCells > cellBudget && snapshots.size() > 2) {
+                storedCells -= snapshots.remove(1).cellNumber();
+                droppedNumber++;
+            }
+        }
+    }  //  end of add()
+
+    /**
+     *  @return the number of copies kept
+     */
+    public synchronized int size() {
+        return snapshots.size();
+    }
+
+    /**
+     *  @return the copy at {@code index}, where <i>0</i> is the starting tableau
+     */
+    public synchronized Snapshot get(int index) {
+        return snapshots.get(index);
+    }
+
+    /**
+     *  @return the number of copies dropped to stay within the budget
+     */
+    public synchronized int getDroppedNumber() {
+        return droppedNumber;
+    }
+
+}  //  end of class
@@ -0,0 +1,29 @@
+/**
+ *  <p>The enum {@code TraceLevel} sets how much {@code Simplex.optimise()} writes
+ *  about a solve.</p>
+ */
+
+public enum TraceLevel {
+
+    /**
+     *  Nothing is written
+     */
+    NONE,
+
+    /**
+     *  The size of the problem before the solve and the result after it
+     */
+    SUMMARY,
+
+    /**
+     *  The summary and a line for each iteration naming the variables that
+     *  entered and left the basis and the value of the objective function
+     */
+    PER_ITERATION,
+
+    /**
+     *  The whole tableau before the solve and after every iteration, and the result
+     */
+    FULL_TABLEAU
+
+}  //  end of enum
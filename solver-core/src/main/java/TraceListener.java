@@ -0,0 +1,81 @@
+/**
+ *  <p>The class {@code TraceListener} writes the progress of a solve to a
+ *  {@code SimplexOutput} at a {@code TraceLevel}. It is added by
+ *  {@code Simplex.optimise()}.</p>
+ *  <p>When the output is an {@code AsyncTraceWriter}, only a copy of the tableau
+ *  is taken on the solving thread and it is formatted on the writing thread.
+ *  No copy is taken when the writer's queue is full and the tableau would be
+ *  dropped.</p>
+ */
+
+public class TraceListener implements IterationListener {
+
+    private final TraceLevel level;
+    private final SimplexOutput output;
+
+    /**
+     *  @param level sets how much is written
+     *  @param output receives the text
+     */
+    public TraceListener(TraceLevel level, SimplexOutput output) {
+        this.level = level;
+        this.output = output;
+    }  //  end of constructor
+
+    @Override
+    public void solveStarted(Simplex simplex) {
+        if (level == TraceLevel.FULL_TABLEAU) {
+            writeTableau(simplex, "");
+        }
+        else if (level != TraceLevel.NONE) {
+            output.print(String.format("Solving %d constraint(s) and %d variable(s)\n",
+                    simplex.constraintNumber, simplex.variableNumber));
+        }
+    }  //  end of solveStarted()
+
+    @Override
+    public void iterationDone(Simplex simplex) {
+        if (level == TraceLevel.FULL_TABLEAU) {
+            writeTableau(simplex, "\n");
+        }
+        else if (level == TraceLevel.PER_ITERATION) {
+            if (simplex.enteringColumn < 0) {
+                output.print("Second phase started\n");
+                return;
+            }
+            output.print(String.format("Iteration %d: %s enters, %s leaves, %s = %.6g\n",
+                    simplex.iteration, simplex.columnTitles[simplex.enteringColumn],
+                    simplex.columnTitles[simplex.leavingColumn], simplex.phase == 1 ? "infeasibility" : "P",
+                    simplex.getObjectiveValue()));
+        }
+    }  //  end of iterationDone()
+
+    @Override
+    public void solveFinished(Simplex simplex, Solution solution) {
+        if (level == TraceLevel.FULL_TABLEAU) {
+            output.print(String.format("\n\n%s", simplex.getResultMessage()));
+        }
+        else if (level != TraceLevel.NONE) {
+            output.print(String.format("%s\nSolve time: %.3f ms\n", simplex.getResultMessage(),
+                    solution.solveTime / 1e6));
+        }
+    }  //  end of solveFinished()
+
+    private void writeTableau(Simplex simplex, String separator) {
+        String[] columnTitles = simplex.columnTitles;
+        int width = output.columnWidth();
+        if (output instanceof AsyncTraceWriter) {
+            AsyncTraceWriter writer = (AsyncTraceWriter) output;
+            if (writer.dropIfFull()) {
+                return;
+            }
+            String[] rowTitles = simplex.rowTitles.clone();
+            double[][] cells = simplex.getTableau();
+            writer.submit(() -> separator + Simplex.formatTableau(columnTitles, rowTitles, cells, width));
+        }
+        else {
+            output.print(separator + Simplex.formatTableau(columnTitles, simplex.rowTitles, simplex.getTableau(), width));
+        }
+    }  //  end of writeTableau()
+
+}  //  end of class
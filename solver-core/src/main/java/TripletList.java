@@ -0,0 +1,47 @@
+import java.util.Arrays;
+
+/**
+ *  <p>The class {@code TripletList} collects the coefficients of a constraint
+ *  matrix as (row, column, value) triplets in growing primitive arrays, until
+ *  they are turned into a {@code SparseMatrix}.</p>
+ */
+
+public class TripletList {
+
+    int[] rows = new int[1 << 10];
+    int[] columns = new int[1 << 10];
+    double[] values = new double[1 << 10];
+
+    /**
+     *  The {@code int} is the number of triplets added
+     */
+    int count;
+
+    /**
+     *  Adds a coefficient. Coefficients of <i>0</i> are left out.
+     */
+    public void add(int row, int column, double value) {
+        if (value == 0) {
+            return;
+        }
+        if (count == rows.length) {
+            int capacity = rows.length + (rows.length >> 1);
+            rows = Arrays.copyOf(rows, capacity);
+            columns = Arrays.copyOf(columns, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        rows[count] = row;
+        columns[count] = column;
+        values[count] = value;
+        count++;
+    }  //  end of add()
+
+    /**
+     *  @return a {@code SparseMatrix} holding the coefficients, where repeated
+     *  coefficients are added together
+     */
+    public SparseMatrix toSparseMatrix(int rowNumber, int columnNumber) {
+        return SparseMatrix.fromTriplets(rowNumber, columnNumber, rows, columns, values, count);
+    }
+
+}  //  end of class
@@ -0,0 +1,45 @@
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ *  <p>The class {@code VectorPivotKernel} carries out the row operations
+ *  of a pivot with the {@code jdk.incubator.vector} API, processing as many
+ *  values at a time as the preferred vector size of the processor allows.</p>
+ *  <p>Multiplication and subtraction are kept as separate operations,
+ *  so the results are identical to those of {@code ScalarPivotKernel}.</p>
+ *  <p>It must be compiled and run with <i>--add-modules jdk.incubator.vector</i>.
+ *  {@code PivotKernel.create()} falls back to scalar code otherwise.</p>
+ */
+
+public class VectorPivotKernel implements PivotKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void divide(double[] cells, int offset, int length, double pivot) {
+        int i = 0;
+        int bound = SPECIES.loopBound(length);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, cells, offset + i).div(pivot).intoArray(cells, offset + i);
+        }
+        for (; i < length; i++) {
+            cells[offset + i] /= pivot;
+        }
+    }  //  end of divide()
+
+    @Override
+    public void subtractMultiple(double[] cells, int target, double[] keyRow, int length, double factor) {
+        int i = 0;
+        int bound = SPECIES.loopBound(length);
+        DoubleVector multiplier = DoubleVector.broadcast(SPECIES, factor);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector keyValues = DoubleVector.fromArray(SPECIES, keyRow, i);
+            DoubleVector targetValues = DoubleVector.fromArray(SPECIES, cells, target + i);
+            targetValues.sub(keyValues.mul(multiplier)).intoArray(cells, target + i);
+        }
+        for (; i < length; i++) {
+            cells[target + i] -= (factor * keyRow[i]);
+        }
+    }  //  end of subtractMultiple()
+
+}  //  end of class
@@ -0,0 +1,52 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *  <p>Fills the queue of an {@code AsyncTraceWriter} while its target is held up
+ *  and checks which messages are dropped and what is written when it is closed.</p>
+ */
+
+class AsyncTraceWriterTest {
+
+    @Test
+    void dropsMessagesWhenFullAndReportsThemOnClose() throws InterruptedException {
+        StringBuilder text = new StringBuilder();
+        CountDownLatch printing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SimplexOutput target = message -> {
+            printing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            text.append(message);
+        };
+
+        try (AsyncTraceWriter writer = new AsyncTraceWriter(target, 1)) {
+            writer.print("a");
+            printing.await();  //  the writing thread holds "a", so the queue is empty
+            assertFalse(writer.dropIfFull());
+            assertTrue(writer.submit(() -> "b"));
+            assertTrue(writer.dropIfFull());
+            assertFalse(writer.submit(() -> "c"));
+            assertEquals(2, writer.getDroppedNumber());
+            release.countDown();
+        }
+        assertEquals("ab\n2 trace message(s) were dropped\n", text.toString());
+    }  //  end of dropsMessagesWhenFullAndReportsThemOnClose()
+
+    @Test
+    void closeKeepsInterrupt() {
+        AsyncTraceWriter writer = new AsyncTraceWriter(text -> { }, 1);
+        Thread.currentThread().interrupt();
+        writer.close();
+        assertTrue(Thread.interrupted());
+    }
+
+}  //  end of class
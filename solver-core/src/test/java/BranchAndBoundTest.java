@@ -0,0 +1,39 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *  <p>Solves a small problem with two integer variables and one continuous
+ *  variable, whose optimum was found by trying every whole number value.</p>
+ */
+
+class BranchAndBoundTest {
+
+    private static final double TOLERANCE = 1e-6;
+
+    @Test
+    void solvesSmallIntegerProblem() {
+        LinearProgram program = new LinearProgram(3, 3, 1);
+        program.objective = new double[] {5, 4, 3};
+        program.constraints = new double[][] {{2, 3, 1}, {4, 1, 2}, {3, 4, 2}};
+        program.symbols = new String[] {"<", "<", "<"};
+        program.rightHandSides = new double[] {5.5, 11.2, 8.1};
+        program.integerVariables = new boolean[] {true, true, false};
+
+        BranchAndBound branchAndBound = new BranchAndBound(program);
+        branchAndBound.threads = 2;
+        MipSolution solution = branchAndBound.solve();
+
+        assertEquals(SolutionStatus.OPTIMAL, solution.getStatus());
+        assertEquals(13.15, solution.getObjectiveValue(), TOLERANCE);
+        assertArrayEquals(new double[] {2, 0, 1.05}, solution.getVariableValues(), TOLERANCE);
+        assertTrue(solution.getBound() >= solution.getObjectiveValue() - TOLERANCE);
+
+        //  the relaxation is better, so the search had to branch
+        Solution relaxation = Engine.REVISED.solve(program);
+        assertTrue(relaxation.getObjectiveValue() > solution.getObjectiveValue() + TOLERANCE);
+    }  //  end of solvesSmallIntegerProblem()
+
+}  //  end of class
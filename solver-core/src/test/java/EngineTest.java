@@ -0,0 +1,94 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ *  <p>Solves small problems with each {@code Engine}, with and without presolve and
+ *  scaling, and checks the results against those of {@code TABLEAU}.</p>
+ */
+
+class EngineTest {
+
+    private static final double TOLERANCE = 1e-6;
+
+    /**
+     *  Maximise <i>P = 3x + 2y + 4z</i> with a constraint of each type
+     */
+    static LinearProgram maximisation() {
+        LinearProgram program = new LinearProgram(4, 3, 1);
+        program.objective = new double[] {3, 2, 4};
+        program.constraints = new double[][] {{1, 1, 2}, {2, 0, 1}, {1, 1, 1}, {3, 1, 0}};
+        program.symbols = new String[] {"<", ">", "=", "<"};
+        program.rightHandSides = new double[] {4, 1, 3, 7};
+        return program;
+    }  //  end of maximisation()
+
+    /**
+     *  Minimise <i>P = 2x + 3y + z + 4w</i>, with a row that presolve can remove
+     */
+    static LinearProgram minimisation() {
+        LinearProgram program = new LinearProgram(4, 4, 2);
+        program.objective = new double[] {2, 3, 1, 4};
+        program.constraints = new double[][] {{1, 1, 0, 1}, {0, 2, 1, 1}, {1, 0, 3, 0}, {0, 0, 0, 1}};
+        program.symbols = new String[] {">", ">", "<", ">"};
+        program.rightHandSides = new double[] {2, 3, 12, 0.5};
+        return program;
+    }  //  end of minimisation()
+
+    @ParameterizedTest
+    @EnumSource(Engine.class)
+    void solvesMaximisation(Engine engine) {
+        checkAgainstTableau(engine, maximisation());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Engine.class)
+    void solvesMinimisation(Engine engine) {
+        checkAgainstTableau(engine, minimisation());
+    }
+
+    @Test
+    void tableauCreatesPricingRuleForEachSolve() {
+        Solution expected = Engine.TABLEAU.solve(maximisation());
+        for (String name : new String[] {"DANTZIG", "PARTIAL", "DEVEX", "STEEPEST_EDGE"}) {
+            Supplier<PricingRule> factory = BatchSolver.getPricingRule(name);
+            int[] created = new int[1];
+            SolverOptions options = new SolverOptions();
+            options.pricingRule = () -> {
+                created[0]++;
+                return factory.get();
+            };
+            for (LinearProgram program : new LinearProgram[] {maximisation(), minimisation()}) {
+                Solution solution = Engine.TABLEAU.solve(program, options);
+                assertEquals(SolutionStatus.OPTIMAL, solution.getStatus(), name);
+            }
+            assertEquals(2, created[0], name);
+            Solution solution = Engine.TABLEAU.solve(maximisation(), options);
+            assertEquals(expected.getObjectiveValue(), solution.getObjectiveValue(), TOLERANCE, name);
+        }
+    }  //  end of tableauCreatesPricingRuleForEachSolve()
+
+    private static void checkAgainstTableau(Engine engine, LinearProgram program) {
+        Solution expected = Engine.TABLEAU.solve(program);
+        assertEquals(SolutionStatus.OPTIMAL, expected.getStatus());
+        for (boolean presolve : new boolean[] {false, true}) {
+            for (ScalingMethod scaling : ScalingMethod.values()) {
+                SolverOptions options = new SolverOptions();
+                options.presolve = presolve;
+                options.scaling = scaling;
+                options.crossover = true;
+                Solution solution = engine.solve(program, options);
+                String message = engine + " presolve " + presolve + " scaling " + scaling;
+                assertEquals(SolutionStatus.OPTIMAL, solution.getStatus(), message);
+                assertEquals(expected.getObjectiveValue(), solution.getObjectiveValue(), TOLERANCE, message);
+                assertArrayEquals(expected.getVariableValues(), solution.getVariableValues(), TOLERANCE, message);
+            }
+        }
+    }  //  end of checkAgainstTableau()
+
+}  //  end of class
@@ -0,0 +1,99 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ *  <p>Writes the same small model in MPS and LP format, reads each file back and
+ *  checks that it is the model that was written and that it solves to its optimum.</p>
+ */
+
+class ModelReaderTest {
+
+    private static final double TOLERANCE = 1e-9;
+
+    private static final String MPS = String.join("\n",
+            "NAME          SMALL",
+            "* the model of LP",
+            "OBJSENSE",
+            "    MAX",
+            "ROWS",
+            " N  obj",
+            " L  c1",
+            " L  c2",
+            " L  c3",
+            "COLUMNS",
+            "    MARKER                 'MARKER'                 'INTORG'",
+            "    x1        obj       3   c1  1",
+            "    x1        c3        3",
+            "    MARKER                 'MARKER'                 'INTEND'",
+            "    x2        obj       5   c2  2",
+            "    x2        c3        2",
+            "RHS",
+            "    RHS       c1        4   c2  12",
+            "    RHS       c3        18",
+            "ENDATA",
+            "");
+
+    private static final String LP = String.join("\n",
+            "\\ the model of MPS",
+            "Maximize",
+            " obj: 3 x1 + 5 x2",
+            "Subject To",
+            " c1: x1 <= 4",
+            " c2: 2 x2 <= 12",
+            " c3: 3 x1 + 2 x2",
+            "     <= 18",
+            "General",
+            " x1",
+            "End",
+            "");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsMps() throws IOException {
+        Path path = directory.resolve("small.mps");
+        Files.writeString(path, MPS);
+        checkModel(MpsReader.read(path));
+    }
+
+    @Test
+    void readsLp() throws IOException {
+        Path path = directory.resolve("small.lp");
+        Files.writeString(path, LP);
+        checkModel(LpReader.read(path));
+    }
+
+    private static void checkModel(LinearProgram program) {
+        assertEquals(3, program.constraintNumber);
+        assertEquals(2, program.variableNumber);
+        assertEquals(1, program.optimisationType);
+        assertArrayEquals(new double[] {3, 5}, program.objective, TOLERANCE);
+        assertArrayEquals(new String[] {"<", "<", "<"}, program.symbols);
+        assertArrayEquals(new double[] {4, 12, 18}, program.rightHandSides, TOLERANCE);
+        SparseMatrix constraints = program.getSparseConstraints();
+        double[][] expected = {{1, 0}, {0, 2}, {3, 2}};
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 2; j++) {
+                assertEquals(expected[i][j], constraints.get(i, j), TOLERANCE);
+            }
+        }
+        assertTrue(program.integerVariables[0]);
+        assertFalse(program.integerVariables[1]);
+
+        Solution solution = Engine.REVISED.solve(program);
+        assertEquals(SolutionStatus.OPTIMAL, solution.getStatus());
+        assertEquals(36, solution.getObjectiveValue(), TOLERANCE);
+        assertArrayEquals(new double[] {2, 6}, solution.getVariableValues(), TOLERANCE);
+    }  //  end of checkModel()
+
+}  //  end of class
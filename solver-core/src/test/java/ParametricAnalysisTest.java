@@ -0,0 +1,71 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *  <p>Traces intervals of the parameter upwards and downwards and checks the
+ *  breakpoints against solves of the problem at single values.</p>
+ */
+
+class ParametricAnalysisTest {
+
+    private static final double TOLERANCE = 1e-9;
+
+    /**
+     *  Maximise <i>P = x</i> with <i>x &le; 4</i>
+     */
+    private static LinearProgram bound() {
+        LinearProgram program = new LinearProgram(1, 1, 1);
+        program.objective = new double[] {1};
+        program.constraints = new double[][] {{1}};
+        program.symbols = new String[] {"<"};
+        program.rightHandSides = new double[] {4};
+        return program;
+    }  //  end of bound()
+
+    @Test
+    void tracesSolutionsDownwards() {
+        ParametricResult result = new ParametricAnalysis(bound()).traceRightHandSides(new double[] {1}, 0, -10);
+        assertEquals(SolutionStatus.INFEASIBLE, result.getStatus());
+        assertEquals(-4, result.get(result.size() - 1).parameter, TOLERANCE);
+        assertEquals(4, result.getObjectiveValue(0), TOLERANCE);
+        assertEquals(2, result.getObjectiveValue(-2), TOLERANCE);
+        assertEquals(Double.NaN, result.getObjectiveValue(-6));
+
+        //  the same path traced upwards with the direction negated
+        ParametricResult upwards = new ParametricAnalysis(bound()).traceRightHandSides(new double[] {-1}, 0, 10);
+        assertEquals(SolutionStatus.INFEASIBLE, upwards.getStatus());
+        assertEquals(4, upwards.get(upwards.size() - 1).parameter, TOLERANCE);
+    }  //  end of tracesSolutionsDownwards()
+
+    @Test
+    void tracesBothWaysLikeSingleSolves() {
+        LinearProgram program = EngineTest.maximisation();
+        double[] solutionDirection = {1, 0, 0.25, -3};
+        double[] objectiveDirection = {-1, 2, -0.5};
+        ParametricAnalysis analysis = new ParametricAnalysis(program);
+        ParametricResult[] results = {
+            analysis.traceRightHandSides(solutionDirection, 1, -1),
+            analysis.traceRightHandSides(solutionDirection, -1, 1),
+            analysis.traceObjective(objectiveDirection, 2, -2),
+            analysis.traceObjective(objectiveDirection, -2, 2)
+        };
+        for (int k = 0; k < results.length; k++) {
+            assertEquals(SolutionStatus.OPTIMAL, results[k].getStatus());
+            assertTrue(results[k].getPivots() > 0, "trace " + k + " changes its basis");
+            for (double t = -1; t <= 1; t += 0.125) {
+                LinearProgram changed = EngineTest.maximisation();
+                for (int i = 0; k < 2 && i < changed.constraintNumber; i++) {
+                    changed.rightHandSides[i] += t * solutionDirection[i];
+                }
+                for (int j = 0; k >= 2 && j < changed.variableNumber; j++) {
+                    changed.objective[j] += t * objectiveDirection[j];
+                }
+                double expected = Engine.TABLEAU.solve(changed).getObjectiveValue();
+                assertEquals(expected, results[k].getObjectiveValue(t), 1e-6, "trace " + k + " t = " + t);
+            }
+        }
+    }  //  end of tracesBothWaysLikeSingleSolves()
+
+}  //  end of class
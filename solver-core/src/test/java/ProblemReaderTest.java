@@ -0,0 +1,74 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *  <p>Reads tables as they come from CSV files and spreadsheets, with empty cells,
+ *  column titles and each kind of separator.</p>
+ */
+
+class ProblemReaderTest {
+
+    private static final double TOLERANCE = 1e-12;
+
+    private static LinearProgram readTable(String text) throws IOException {
+        return ProblemReader.readTable(new BufferedReader(new StringReader(text)), 1);
+    }
+
+    private static void checkRow(LinearProgram program, int row, double[] coefficients, String symbol,
+                                 double solution) {
+        assertArrayEquals(coefficients, program.constraints[row], TOLERANCE);
+        assertEquals(symbol, program.symbols[row]);
+        assertEquals(solution, program.rightHandSides[row], TOLERANCE);
+    }  //  end of checkRow()
+
+    @Test
+    void readsEmptyCellsAsZero() throws IOException {
+        LinearProgram program = readTable("max,3,,2\n1,,1,<,4\n,2,1,>=,\n");
+        assertEquals(1, program.optimisationType);
+        assertArrayEquals(new double[] {3, 0, 2}, program.objective, TOLERANCE);
+        checkRow(program, 0, new double[] {1, 0, 1}, "<", 4);
+        checkRow(program, 1, new double[] {0, 2, 1}, ">", 0);
+    }
+
+    @Test
+    void keepsLeadingEmptyCellInObjective() throws IOException {
+        LinearProgram program = readTable(",3,2\n1,1,1,<,4\n");
+        assertArrayEquals(new double[] {0, 3, 2}, program.objective, TOLERANCE);
+        assertEquals(1, program.constraintNumber);
+        checkRow(program, 0, new double[] {1, 1, 1}, "<", 4);
+    }
+
+    @Test
+    void skipsTitlesAndPaddingOfSpreadsheetRows() throws IOException {
+        LinearProgram program = readTable("x1\tx2\t\tsolution\n3\t1\t\t\n\t2\t<\t12\n1\t1\t=\t5\t\n");
+        assertArrayEquals(new double[] {3, 1}, program.objective, TOLERANCE);
+        checkRow(program, 0, new double[] {0, 2}, "<", 12);
+        checkRow(program, 1, new double[] {1, 1}, "=", 5);
+    }
+
+    @Test
+    void rejectsRowsWithMissingCells() {
+        assertThrows(IllegalArgumentException.class, () -> readTable("max,3,,2\n1,1,<,4\n"));
+        assertThrows(IllegalArgumentException.class, () -> readTable("max,3,2\n1,1,<,4,5\n"));
+    }
+
+    @Test
+    void readsSemicolonsAndSpaces() throws IOException {
+        LinearProgram program = readTable("min;2;;1\n\"1\";1;0;>;1\n");
+        assertEquals(2, program.optimisationType);
+        assertArrayEquals(new double[] {2, 0, 1}, program.objective, TOLERANCE);
+        checkRow(program, 0, new double[] {1, 1, 0}, ">", 1);
+
+        program = readTable("max  3   5\n1 0 < 4\n 0 2 <= 12\n");
+        assertArrayEquals(new double[] {3, 5}, program.objective, TOLERANCE);
+        checkRow(program, 1, new double[] {0, 2}, "<", 12);
+    }  //  end of readsSemicolonsAndSpaces()
+
+}  //  end of class
@@ -0,0 +1,148 @@
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.cell.ChoiceBoxTableCell;
+import javafx.scene.control.cell.TextFieldTableCell;
+import javafx.util.converter.DefaultStringConverter;
+
+/**
+ *  <p>The class {@code CoefficientGrid} is an editable table of the coefficients,
+ *  symbols and solutions of a problem held in a {@code LinearProgram}.</p>
+ *  <p>Row <i>0</i> is the objective function and each other row is a constraint.
+ *  The table has a fixed cell size, so controls are only created for the cells
+ *  that are visible, and edits are written straight into the arrays of the
+ *  {@code LinearProgram}.</p>
+ */
+
+public class CoefficientGrid extends TableView<Integer> {
+
+    private static final String[] SYMBOLS = {"<", ">", "="};
+
+    private LinearProgram program;
+
+    public CoefficientGrid() {
+        setEditable(true);
+        setFixedCellSize(28);
+        setColumnResizePolicy(TableView.UNCONSTRAINED_RESIZE_POLICY);
+        setPlaceholder(new Label("Enter the numbers of constraints and variables, or import a table"));
+    }  //  end of constructor
+
+    /**
+     *  Shows a problem for editing.
+     *
+     *  @param program holds the coefficients, which are changed as cells are edited
+     */
+    public void setProgram(LinearProgram program) {
+        this.program = program;
+        getColumns().clear();
+
+        TableColumn<Integer, String> titleColumn = new TableColumn<>("");
+        titleColumn.setSortable(false);
+        titleColumn.setEditable(false);
+        titleColumn.setPrefWidth(160);
+        titleColumn.setCellValueFactory(cell -> new ReadOnlyStringWrapper(
+                cell.getValue() == 0 ? "Objective function:" : "Constraint " + cell.getValue() + ":"));
+        getColumns().add(titleColumn);
+
+        for (int j = 0; j < program.variableNumber; j++) {
+            getColumns().add(createNumberColumn("x" + (j + 1), j));
+        }
+
+        TableColumn<Integer, String> symbolColumn = new TableColumn<>("");
+        symbolColumn.setSortable(false);
+        symbolColumn.setPrefWidth(60);
+        symbolColumn.setCellValueFactory(cell -> new ReadOnlyStringWrapper(
+                cell.getValue() == 0 ? "" : this.program.symbols[cell.getValue() - 1]));
+        symbolColumn.setCellFactory(column -> new ChoiceBoxTableCell<Integer, String>(SYMBOLS) {
+            @Override
+            public void startEdit() {
+                if (getIndex() > 0) {
+                    super.startEdit();
+                }
+            }
+        });
+        symbolColumn.setOnEditCommit(edit -> this.program.symbols[edit.getRowValue() - 1] = edit.getNewValue());
+        getColumns().add(symbolColumn);
+
+        getColumns().add(createNumberColumn("Solution", -1));
+
+        ObservableList<Integer> rows = FXCollections.observableArrayList();
+        for (int i = 0; i <= program.constraintNumber; i++) {
+            rows.add(i);
+        }
+        setItems(rows);
+    }  //  end of setProgram()
+
+    /**
+     *  @param column is the variable shown in the column, or <i>-1</i> for the solutions
+     */
+    private TableColumn<Integer, String> createNumberColumn(String title, int column) {
+        TableColumn<Integer, String> numberColumn = new TableColumn<>(title);
+        numberColumn.setSortable(false);
+        numberColumn.setPrefWidth(80);
+        numberColumn.setCellValueFactory(cell -> {
+            int row = cell.getValue();
+            if (column < 0 && row == 0) {
+                return new ReadOnlyStringWrapper("");
+            }
+            return new ReadOnlyStringWrapper(format(getValue(row, column)));
+        });
+        numberColumn.setCellFactory(tableColumn -> new TextFieldTableCell<Integer, String>(
+                new DefaultStringConverter()) {
+            @Override
+            public void startEdit() {
+                if (column >= 0 || getIndex() > 0) {
+                    super.startEdit();
+                }
+            }
+        });
+        numberColumn.setOnEditCommit(edit -> {
+            try {
+                setValue(edit.getRowValue(), column, Double.parseDouble(edit.getNewValue().trim()));
+            } catch (NumberFormatException e) {
+                //  keep the old value
+            }
+            refresh();
+        });
+        return numberColumn;
+    }  //  end of createNumberColumn()
+
+    private double getValue(int row, int column) {
+        if (row == 0) {
+            return program.objective[column];
+        }
+        return column < 0 ? program.rightHandSides[row - 1] : program.constraints[row - 1][column];
+    }  //  end of getValue()
+
+    private void setValue(int row, int column, double value) {
+        if (row == 0) {
+            program.objective[column] = value;
+        }
+        else if (column < 0) {
+            program.rightHandSides[row - 1] = value;
+        }
+        else {
+            program.constraints[row - 1][column] = value;
+        }
+    }  //  end of setValue()
+
+    private static String format(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }  //  end of format()
+
+    /**
+     *  Removes the problem from the table.
+     */
+    public void clear() {
+        program = null;
+        getItems().clear();
+        getColumns().clear();
+    }  //  end of clear()
+
+}  //  end of class
@@ -0,0 +1,165 @@
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.Slider;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+
+/**
+ *  <p>The class {@code IterationBrowser} shows the tableaux kept in a
+ *  {@code TableauHistory} one page at a time, with buttons and a slider to move
+ *  between iterations.</p>
+ *  <p>The tableau is shown in a {@code TableView} with a fixed cell size, so only
+ *  the rows and columns that are visible have cells, and turning a page only
+ *  changes which copy the cells read from. While the last page is shown the
+ *  browser follows the solve to each new iteration.</p>
+ */
+
+public class IterationBrowser extends VBox {
+
+    private final TableView<Integer> table = new TableView<>();
+    private final Slider slider = new Slider(0, 0, 0);
+    private final Label pageLabel = new Label();
+    private final Button firstButton = new Button("<<");
+    private final Button previousButton = new Button("<");
+    private final Button nextButton = new Button(">");
+    private final Button lastButton = new Button(">>");
+
+    private TableauHistory history;
+    private TableauHistory.Snapshot snapshot;
+    private boolean following = true;
+
+    public IterationBrowser() {
+        super(5);
+        table.setFixedCellSize(24);
+        table.setColumnResizePolicy(TableView.UNCONSTRAINED_RESIZE_POLICY);
+        table.setPlaceholder(new Label("The tableau is shown here while solving"));
+        VBox.setVgrow(table, Priority.ALWAYS);
+
+        slider.setBlockIncrement(1);
+        slider.setMajorTickUnit(1);
+        slider.setMinorTickCount(0);
+        slider.setSnapToTicks(true);
+        HBox.setHgrow(slider, Priority.ALWAYS);
+        slider.valueProperty().addListener((observable, oldValue, newValue) -> showPage(newValue.intValue()));
+
+        firstButton.setOnAction(e -> slider.setValue(0));
+        previousButton.setOnAction(e -> slider.setValue(Math.max(0, slider.getValue() - 1)));
+        nextButton.setOnAction(e -> slider.setValue(Math.min(slider.getMax(), slider.getValue() + 1)));
+        lastButton.setOnAction(e -> slider.setValue(slider.getMax()));
+
+        HBox pager = new HBox(5, firstButton, previousButton, slider, nextButton, lastButton, pageLabel);
+        pager.setAlignment(Pos.CENTER);
+        getChildren().addAll(pager, table);
+    }  //  end of constructor
+
+    /**
+     *  Starts showing a new history, which is usually empty until its solve starts.
+     */
+    public void setHistory(TableauHistory history) {
+        this.history = history;
+        snapshot = null;
+        following = true;
+        table.getColumns().clear();
+        table.getItems().clear();
+        slider.setMax(0);
+        slider.setValue(0);
+        pageLabel.setText("");
+        refresh();
+    }  //  end of setHistory()
+
+    /**
+     *  Brings the pages up to date with the history. It is called on the
+     *  JavaFX thread as the solve goes on.
+     */
+    public void refresh() {
+        if (history == null || history.size() == 0) {
+            return;
+        }
+        if (table.getColumns().isEmpty()) {
+            createColumns();
+        }
+
+        int last = history.size() - 1;
+        boolean follow = following;
+        slider.setMax(last);
+        if (follow && slider.getValue() != last) {
+            slider.setValue(last);  //  the slider shows the page
+        }
+        else {
+            showPage((int) slider.getValue());
+        }
+    }  //  end of refresh()
+
+    /**
+     *  Removes the tableau and the pages.
+     */
+    public void clear() {
+        history = null;
+        snapshot = null;
+        table.getColumns().clear();
+        table.getItems().clear();
+        slider.setMax(0);
+        pageLabel.setText("");
+    }  //  end of clear()
+
+    private void createColumns() {
+        String[] columnTitles = history.columnTitles;
+        TableColumn<Integer, String> titleColumn = new TableColumn<>("");
+        titleColumn.setSortable(false);
+        titleColumn.setCellValueFactory(cell -> new ReadOnlyStringWrapper(rowTitle(cell.getValue())));
+        table.getColumns().add(titleColumn);
+
+        int columnNumber = history.get(0).cells[0].length;
+        for (int j = 0; j < columnNumber; j++) {
+            int column = j;
+            TableColumn<Integer, String> tableColumn =
+                    new TableColumn<>(j < columnTitles.length ? columnTitles[j] : "Solution");
+            tableColumn.setSortable(false);
+            tableColumn.setPrefWidth(80);
+            tableColumn.setCellValueFactory(cell -> new ReadOnlyStringWrapper(
+                    snapshot == null ? "" : String.format("%.2f", snapshot.cells[cell.getValue()][column])));
+            table.getColumns().add(tableColumn);
+        }
+    }  //  end of createColumns()
+
+    private String rowTitle(int row) {
+        if (snapshot == null) {
+            return "";
+        }
+        return row == 0 ? "P" : snapshot.rowTitles[row - 1];
+    }  //  end of rowTitle()
+
+    private void showPage(int index) {
+        if (history == null || history.size() == 0) {
+            return;
+        }
+        index = Math.min(index, history.size() - 1);
+        snapshot = history.get(index);
+        following = index == history.size() - 1;
+
+        int rowNumber = snapshot.cells.length;
+        if (table.getItems().size() != rowNumber) {
+            ObservableList<Integer> rows = FXCollections.observableArrayList();
+            for (int i = 0; i < rowNumber; i++) {
+                rows.add(i);
+            }
+            table.setItems(rows);
+        }
+        table.refresh();
+
+        pageLabel.setText(String.format("Iteration %d (phase %d), page %d of %d", snapshot.iteration, snapshot.phase,
+                index + 1, history.size()));
+        firstButton.setDisable(index == 0);
+        previousButton.setDisable(index == 0);
+        nextButton.setDisable(index == history.size() - 1);
+        lastButton.setDisable(index == history.size() - 1);
+    }  //  end of showPage()
+
+}  //  end of class
@@ -0,0 +1,355 @@
+import javafx.application.Application;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.stage.FileChooser;
+import javafx.stage.Stage;
+import javafx.scene.*;
+import javafx.scene.control.*;
+import javafx.scene.input.Clipboard;
+import javafx.scene.layout.*;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+public class OptimisationProblemSolver extends Application {
+
+    Stage window;
+    Scene scene;
+    BorderPane windowContent;
+    ScrollPane scroller;
+
+    HBox northContent;
+    VBox[] northComponents;
+    Label[] prompts;
+    TextField constraintNumberInput;
+    TextField variableNumberInput;
+    ChoiceBox<String> optimisationSelector;
+
+    VBox centreContent;
+    HBox inputButtons;
+    Button proceedButton;
+    Button importButton;
+    Button pasteButton;
+    CoefficientGrid coefficientGrid;
+    Button optimiseButton;
+    Button resetButton;
+
+    VBox bottomContent;
+    HBox progressContent;
+    ProgressBar progressBar;
+    Label progressLabel;
+    Button cancelButton;
+    IterationBrowser iterationBrowser;
+    TextArea resultDisplay;
+
+    Alert error;
+
+    int constraintNumber;
+    int variableNumber;
+    int optimisationType;
+    LinearProgram program;
+    Simplex simplex;
+    SolveTask solveTask;
+    TableauHistory tableauHistory;
+
+    public static void main(String[] args) {
+        launch(args);
+    }
+
+    @Override
+    public void start(Stage primaryStage) {
+        //  initialise window
+        window = primaryStage;
+        windowContent = new BorderPane();
+        scroller = new ScrollPane(windowContent);
+        scroller.setHbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
+        scroller.setVbarPolicy(ScrollPane.ScrollBarPolicy.ALWAYS);
+        scroller.setFitToHeight(true);
+        scroller.setFitToWidth(true);
+
+        //  north content
+        northContent = new HBox(20);
+        northComponents = new VBox[3];
+        prompts = new Label[3];
+        for (int i = 0; i < 3; i++) {
+            northComponents[i] = new VBox(5);
+
+            if (i == 0) {
+                prompts[i] = new Label("Enter number of constraints:");
+            }
+            else if (i == 1) {
+                prompts[i] = new Label("Enter number of variables:");
+            }
+            else if (i == 2) {
+                prompts[i] = new Label("Select type of optimisation:");
+            }
+
+            northComponents[i].getChildren().add(prompts[i]);
+            northComponents[i].setAlignment(Pos.CENTER);
+        }  //  end of for
+        constraintNumberInput = new TextField();
+        northComponents[0].getChildren().add(constraintNumberInput);
+        variableNumberInput = new TextField();
+        northComponents[1].getChildren().add(variableNumberInput);
+        String[] options = {"Maximisation", "Minimisation"};
+        optimisationSelector = new ChoiceBox<>();
+        optimisationSelector.getItems().addAll(options);
+        optimisationSelector.setValue("Maximisation");
+        northComponents[2].getChildren().add(optimisationSelector);
+        northContent.getChildren().addAll(northComponents);
+        northContent.setAlignment(Pos.CENTER);
+        windowContent.setTop(northContent);
+
+        //  centre content
+        centreContent = new VBox(5);
+        proceedButton = new Button("Proceed");
+        importButton = new Button("Import CSV...");
+        pasteButton = new Button("Paste table");
+        inputButtons = new HBox(10, proceedButton, importButton, pasteButton);
+        inputButtons.setAlignment(Pos.CENTER);
+        coefficientGrid = new CoefficientGrid();
+        coefficientGrid.setPrefHeight(300);
+        coefficientGrid.setPadding(new Insets(5, 5, 5, 5));
+        optimiseButton = new Button("Optimise");
+        optimiseButton.setVisible(false);
+        resetButton = new Button("Reset");
+        resetButton.setVisible(false);
+        centreContent.getChildren().addAll(inputButtons, coefficientGrid, optimiseButton, resetButton);
+        centreContent.setAlignment(Pos.CENTER);
+        windowContent.setCenter(centreContent);
+
+        //  bottom content
+        progressBar = new ProgressBar(0);
+        progressLabel = new Label();
+        cancelButton = new Button("Cancel");
+        cancelButton.setDisable(true);
+        progressContent = new HBox(10, progressBar, cancelButton, progressLabel);
+        progressContent.setAlignment(Pos.CENTER_LEFT);
+        iterationBrowser = new IterationBrowser();
+        iterationBrowser.setPrefHeight(400);
+        resultDisplay = new TextArea();
+        resultDisplay.setEditable(false);
+        resultDisplay.setPrefRowCount(4);
+        bottomContent = new VBox(5, progressContent, iterationBrowser, resultDisplay);
+        bottomContent.setPadding(new Insets(5, 5, 5, 5));
+        windowContent.setBottom(bottomContent);
+
+        //  set scene
+        scene = new Scene(scroller);
+        window.setScene(scene);
+        window.setTitle("Optimisation Problem Solver");
+        window.setMaximized(true);
+        window.show();
+
+        //  error
+        error = new Alert(Alert.AlertType.ERROR);
+        error.setTitle("Input Error");
+        error.setHeaderText("");
+
+        //  set style
+        scene.getStylesheets().add("Style.css");
+
+        //  set actions
+        proceedButton.setOnAction(e -> {
+            //  create simplex object
+            try {
+                constraintNumber = Integer.parseInt(constraintNumberInput.getText());
+                variableNumber = Integer.parseInt(variableNumberInput.getText());
+                if (optimisationSelector.getValue().equals("Maximisation")) {
+                    optimisationType = 1;
+                }
+                else if (optimisationSelector.getValue().equals("Minimisation")) {
+                    optimisationType = 2;
+                }
+
+
+                //  check if constraint and variable numbers are valid
+                if (constraintNumber > 0 && variableNumber > 0) {
+
+                    program = new LinearProgram(constraintNumber, variableNumber, optimisationType);
+                    Arrays.fill(program.symbols, "<");
+                    showProgram();
+
+                }  //  end of if to check constraint and variable number
+
+                else {
+                    error.setContentText("Please enter valid integers (> 0)");
+                    error.showAndWait();
+                }
+
+            } catch (NumberFormatException e1) {
+                error.setContentText("Please enter valid integers (> 0)");
+                error.showAndWait();
+            }
+        });
+
+        importButton.setOnAction(e -> {
+            FileChooser chooser = new FileChooser();
+            chooser.setTitle("Import coefficients");
+            chooser.getExtensionFilters().addAll(
+                    new FileChooser.ExtensionFilter("Tables", "*.csv", "*.tsv", "*.txt"),
+                    new FileChooser.ExtensionFilter("All files", "*.*"));
+            File file = chooser.showOpenDialog(window);
+            if (file != null) {
+                try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                    importProgram(reader);
+                } catch (IOException e1) {
+                    error.setContentText("The file could not be read: " + e1.getMessage());
+                    error.showAndWait();
+                }
+            }
+        });
+
+        pasteButton.setOnAction(e -> {
+            String text = Clipboard.getSystemClipboard().getString();
+            if (text == null || text.isBlank()) {
+                error.setContentText("The clipboard does not hold any text");
+                error.showAndWait();
+                return;
+            }
+            try {
+                importProgram(new BufferedReader(new StringReader(text)));
+            } catch (IOException e1) {
+                error.setContentText(e1.getMessage());
+                error.showAndWait();
+            }
+        });
+
+        optimiseButton.setOnAction(e -> {
+            resultDisplay.setText("");
+            getCoefficients();
+            simplex.prepareSimpex();
+
+            //  solve in the background, keeping copies of the tableau to browse
+            tableauHistory = new TableauHistory();
+            simplex.listeners.add(tableauHistory);
+            iterationBrowser.setHistory(tableauHistory);
+            solveTask = new SolveTask(simplex);
+            progressBar.progressProperty().bind(solveTask.progressProperty());
+            progressLabel.textProperty().bind(solveTask.messageProperty());
+            solveTask.messageProperty().addListener((observable, oldValue, newValue) -> iterationBrowser.refresh());
+            solveTask.setOnSucceeded(e1 -> showResult(solveTask.getValue()));
+            solveTask.setOnCancelled(e1 -> showResult(null));
+            solveTask.setOnFailed(e1 -> {
+                showResult(null);
+                resultDisplay.setText("The solve failed: " + solveTask.getException());
+            });
+
+            optimiseButton.setDisable(true);
+            resetButton.setDisable(true);
+            cancelButton.setDisable(false);
+            Thread solveThread = new Thread(solveTask, "simplex-solve");
+            solveThread.setDaemon(true);
+            solveThread.start();
+        });
+
+        cancelButton.setOnAction(e -> {
+            if (solveTask != null) {
+                solveTask.cancel();
+            }
+        });
+
+        resetButton.setOnAction(e -> {
+            constraintNumberInput.setText("");
+            variableNumberInput.setText("");
+            optimisationSelector.setValue("Maximisation");
+            constraintNumberInput.setDisable(false);
+            variableNumberInput.setDisable(false);
+            optimisationSelector.setDisable(false);
+            proceedButton.setDisable(false);
+            program = null;
+            coefficientGrid.clear();
+            optimiseButton.setVisible(false);
+            resetButton.setVisible(false);
+            resultDisplay.setText("");
+            iterationBrowser.clear();
+            progressLabel.textProperty().unbind();
+            progressLabel.setText("");
+            progressBar.progressProperty().unbind();
+            progressBar.setProgress(0);
+        });
+
+
+
+    }  //  end of start()
+
+    /**
+     *  Shows the result of a solve once the background task has ended.
+     *
+     *  @param solution is {@code null} if the task was cancelled or failed
+     */
+    private void showResult(Solution solution) {
+        iterationBrowser.refresh();
+        progressBar.progressProperty().unbind();
+        progressBar.setProgress(1);
+        progressLabel.textProperty().unbind();
+        optimiseButton.setDisable(false);
+        resetButton.setDisable(false);
+        cancelButton.setDisable(true);
+
+        if (solution == null) {
+            progressLabel.setText(String.format("Cancelled after %d iteration(s)", simplex.iteration));
+            resultDisplay.setText(progressLabel.getText());
+            return;
+        }
+        StringBuilder result = new StringBuilder(simplex.getResultMessage());
+        for (int j = 0; j < solution.variableValues.length; j++) {
+            result.append(String.format("%nx%d = %.4f", j + 1, solution.variableValues[j]));
+        }
+        result.append(String.format("%nSolve time: %.3f ms", solution.solveTime / 1e6));
+        if (tableauHistory.getDroppedNumber() > 0) {
+            result.append(String.format("%n%d tableaux from the middle of the solve were not kept to save memory",
+                    tableauHistory.getDroppedNumber()));
+        }
+        resultDisplay.setText(result.toString());
+    }  //  end of showResult()
+
+    /**
+     *  Reads a table of coefficients and shows it for editing.
+     */
+    private void importProgram(BufferedReader reader) throws IOException {
+        int type = optimisationSelector.getValue().equals("Maximisation") ? 1 : 2;
+        try {
+            program = ProblemReader.readTable(reader, type);
+        } catch (IllegalArgumentException e) {
+            error.setContentText(e.getMessage());
+            error.showAndWait();
+            return;
+        }
+        constraintNumber = program.constraintNumber;
+        variableNumber = program.variableNumber;
+        optimisationType = program.optimisationType;
+        constraintNumberInput.setText(String.valueOf(constraintNumber));
+        variableNumberInput.setText(String.valueOf(variableNumber));
+        optimisationSelector.setValue(optimisationType == 1 ? "Maximisation" : "Minimisation");
+        showProgram();
+    }  //  end of importProgram()
+
+    /**
+     *  Shows {@code program} in the grid and the buttons used to solve it.
+     */
+    private void showProgram() {
+        coefficientGrid.setProgram(program);
+        resultDisplay.setText("");
+        iterationBrowser.clear();
+
+        // display other buttons
+        optimiseButton.setVisible(true);
+        resetButton.setVisible(true);
+        constraintNumberInput.setDisable(true);
+        variableNumberInput.setDisable(true);
+        optimisationSelector.setDisable(true);
+        proceedButton.setDisable(true);
+    }  //  end of showProgram()
+
+    private void getCoefficients() {
+        //  copy the coefficients straight from the arrays edited in the grid
+        simplex = program.toSimplex();
+    }  //  end of getCoefficients()
+
+}  //  end of class
@@ -0,0 +1,49 @@
+import javafx.concurrent.Task;
+
+/**
+ *  <p>The class {@code SolveTask} solves a {@code Simplex} object on a background
+ *  thread for the GUI.</p>
+ *  <p>The message of the task tells the current iteration and the value of the
+ *  objective function. JavaFX passes on only the latest message once per frame,
+ *  so the GUI is updated in batches however fast the iterations are.
+ *  Cancelling the task cancels the solve before its next iteration.</p>
+ */
+
+public class SolveTask extends Task<Solution> {
+
+    private final Simplex simplex;
+
+    /**
+     *  @param simplex has been prepared with {@code prepareSimpex()}
+     */
+    public SolveTask(Simplex simplex) {
+        this.simplex = simplex;
+    }  //  end of constructor
+
+    @Override
+    protected Solution call() {
+        IterationListener progress = new IterationListener() {
+            @Override
+            public void iterationDone(Simplex simplex) {
+                updateMessage(String.format("Iteration %d (phase %d): %s = %.6g", simplex.iteration, simplex.phase,
+                        simplex.phase == 1 ? "infeasibility" : "P", simplex.getObjectiveValue()));
+            }
+        };
+        simplex.listeners.add(progress);
+        try {
+            Solution solution = simplex.solve();
+            updateMessage(simplex.getResultMessage().replace('\n', ' '));
+            updateProgress(1, 1);
+            return solution;
+        } finally {
+            simplex.listeners.remove(progress);
+        }
+    }  //  end of call()
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        simplex.cancel();
+        return super.cancel(mayInterruptIfRunning);
+    }  //  end of cancel()
+
+}  //  end of class